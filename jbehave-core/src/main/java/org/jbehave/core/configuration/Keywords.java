@@ -6,6 +6,8 @@ import org.apache.commons.lang3.builder.ToStringStyle;
 import org.jbehave.core.steps.StepType;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -65,6 +67,7 @@ public class Keywords {
             PENDING, NOT_PERFORMED, FAILED, DRY_RUN, STORY_CANCELLED, DURATION, OUTCOME, OUTCOME_ANY, OUTCOME_SUCCESS, OUTCOME_FAILURE,
             OUTCOME_DESCRIPTION, OUTCOME_VALUE, OUTCOME_MATCHER, OUTCOME_VERIFIED, META_FILTER, YES, NO);
     private static final String SYNONYM_SEPARATOR = "\\|";
+    private static final StepType[] STEP_TYPES = StepType.values();
     private final String meta;
     private final String metaProperty;
     private final String narrative;
@@ -104,7 +107,10 @@ public class Keywords {
     private final String metaFilter;
     private final String yes;
     private final String no;
-    private final Map<StepType, String> startingWordsByType = new HashMap<StepType, String>();
+    private final Map<StepType, String> startingWordsByType;
+    private final transient StartingWords startingWords;
+    private final transient boolean startingWordsOverridden = overridesStartingWords(getClass());
+    private final transient ThreadLocal<ClassifiedStep[]> classifiedSteps = new ThreadLocal<ClassifiedStep[]>();
 
 
     /**
@@ -160,12 +166,14 @@ public class Keywords {
         this.yes = keyword(YES, keywords);
         this.no = keyword(NO, keywords);
 
+        Map<StepType, String> startingWordsByType = new EnumMap<StepType, String>(StepType.class);
         startingWordsByType.put(StepType.GIVEN, given());
         startingWordsByType.put(StepType.WHEN, when());
         startingWordsByType.put(StepType.THEN, then());
         startingWordsByType.put(StepType.AND, and());
         startingWordsByType.put(StepType.IGNORABLE, ignorable());
-
+        this.startingWordsByType = Collections.unmodifiableMap(startingWordsByType);
+        this.startingWords = new StartingWords(startingWordsByType);
     }
 
     public static Map<String, String> defaultKeywords() {
@@ -369,79 +377,88 @@ public class Keywords {
     }
 
     public String[] startingWords() {
-        List<String> words = new ArrayList<String>();
-        for (String word : startingWordsByType().values()) {
-            words.addAll(asList(synonymsOf(word)));
+        if (startingWordsOverridden) {
+            List<String> words = new ArrayList<String>();
+            for (String word : startingWordsByType().values()) {
+                words.addAll(asList(synonymsOf(word)));
+            }
+            return words.toArray(new String[words.size()]);
         }
-        return words.toArray(new String[words.size()]);
+        return startingWords.words.clone();
     }
 
     public Map<StepType, String> startingWordsByType() {
         return startingWordsByType;
     }
 
-    private boolean ofStepType(String stepAsString, StepType stepType) {
-        boolean isType = false;
-        for (String word : startingWordsFor(stepType)) {
-            isType = stepStartsWithWord(stepAsString, word);
-            if (isType)
-                break;
-        }
-        return isType;
-    }
-
     public boolean isAndStep(String stepAsString) {
-        return ofStepType(stepAsString, StepType.AND);
+        return classify(stepAsString).startingWordOf(this, StepType.AND) != null;
     }
 
     public boolean isIgnorableStep(String stepAsString) {
-        return ofStepType(stepAsString, StepType.IGNORABLE);
+        return classify(stepAsString).startingWordOf(this, StepType.IGNORABLE) != null;
     }
 
-    public String stepWithoutStartingWord(String stepAsString, StepType stepType) {
-        String startingWord = startingWord(stepAsString, stepType);
-        return stepAsString.substring(startingWord.length() + 1); // 1 for the
-        // space after
-    }
-
-    public String startingWord(String stepAsString, StepType stepType) throws StartingWordNotFound {
-        for (String wordForType : startingWordsFor(stepType)) {
-            if (stepStartsWithWord(stepAsString, wordForType)) {
-                return wordForType;
+    /**
+     * Determines if the step has been ignored, i.e. if it is the ignorable
+     * starting word followed by a step of any other type, e.g. "!-- Given a
+     * step".
+     * 
+     * @param stepAsString the step
+     * @return A boolean, <code>true</code> if the step has been ignored
+     * @throws StartingWordNotFound if there is no ignorable starting word
+     */
+    public boolean isIgnoredStep(String stepAsString) throws StartingWordNotFound {
+        if (startingWordsOverridden) {
+            String ignoreWord = startingWordFor(StepType.IGNORABLE);
+            for (Map.Entry<StepType, String> startingWord : startingWordsByType().entrySet()) {
+                if (startingWord.getKey() != StepType.IGNORABLE
+                        && stepStartsWithWords(stepAsString, ignoreWord, startingWord.getValue())) {
+                    return true;
+                }
             }
+            return false;
         }
-        for (String andWord : startingWordsFor(StepType.AND)) {
-            if (stepStartsWithWord(stepAsString, andWord)) {
-                return andWord;
+        startingWordsOf(StepType.IGNORABLE);
+        for (String prefix : startingWords.ignoredStepPrefixes) {
+            if (stepAsString.startsWith(prefix)) {
+                return true;
             }
         }
-        throw new StartingWordNotFound(stepAsString, stepType, startingWordsByType);
+        return false;
+    }
+
+    public String stepWithoutStartingWord(String stepAsString, StepType stepType) {
+        return classify(stepAsString).withoutStartingWord(this, stepType);
+    }
+
+    public String startingWord(String stepAsString, StepType stepType) throws StartingWordNotFound {
+        return classify(stepAsString).startingWord(this, stepType);
     }
 
     public String startingWord(String stepAsString) throws StartingWordNotFound {
+        ClassifiedStep classifiedStep = classify(stepAsString);
         for (StepType stepType : startingWordsByType.keySet()) {
-            for (String wordForType : startingWordsFor(stepType)) {
-                if (stepStartsWithWord(stepAsString, wordForType)) {
-                    return wordForType;
-                }
+            String startingWord = classifiedStep.startingWordOf(this, stepType);
+            if (startingWord != null) {
+                return startingWord;
             }
         }
         throw new StartingWordNotFound(stepAsString, startingWordsByType);
     }
 
     public StepType stepTypeFor(String stepAsString) throws StartingWordNotFound {
+        ClassifiedStep classifiedStep = classify(stepAsString);
         for (StepType stepType : startingWordsByType.keySet()) {
-            for (String wordForType : startingWordsFor(stepType)) {
-                if (stepStartsWithWord(stepAsString, wordForType)) {
-                    return stepType;
-                }
+            if (classifiedStep.startingWordOf(this, stepType) != null) {
+                return stepType;
             }
         }
         throw new StartingWordNotFound(stepAsString, startingWordsByType);
     }
 
     public boolean stepStartsWithWord(String step, String word) {
-        return stepStartsWithWords(step, word);
+        return startsWithWord(step, word);
     }
 
     public boolean stepStartsWithWords(String step, String... words) {
@@ -459,7 +476,157 @@ public class Keywords {
     }
 
     public String[] startingWordsFor(StepType stepType) {
-        return synonymsOf(startingWordFor(stepType));
+        if (startingWordsOverridden) {
+            return synonymsOf(startingWordFor(stepType));
+        }
+        return startingWordsOf(stepType).clone();
+    }
+
+    /**
+     * Returns the synonyms of the starting word for the step type, split once
+     * and for all unless the methods providing them are overridden.
+     *
+     * @throws StartingWordNotFound if there is no starting word for the type
+     */
+    private String[] startingWordsOf(StepType stepType) throws StartingWordNotFound {
+        if (startingWordsOverridden) {
+            return startingWordsFor(stepType);
+        }
+        String[] words = startingWords.wordsByType.get(stepType);
+        if (words == null) {
+            throw new StartingWordNotFound(stepType, startingWordsByType);
+        }
+        return words;
+    }
+
+    /**
+     * Classifies the step by its starting words. The last two steps classified
+     * by each thread are retained, as the same step is usually matched against
+     * all the candidates in turn, often alternating with the previous non-And
+     * step. Steps are not retained if the methods providing the starting words
+     * are overridden. The retained steps do not refer to the keywords, so that
+     * the values of the thread local do not keep it, nor the keywords,
+     * reachable from the threads that used them.
+     */
+    private ClassifiedStep classify(String stepAsString) {
+        if (startingWordsOverridden) {
+            return new ClassifiedStep(stepAsString);
+        }
+        ClassifiedStep[] classifiedSteps = this.classifiedSteps.get();
+        if (classifiedSteps == null) {
+            classifiedSteps = new ClassifiedStep[2];
+            this.classifiedSteps.set(classifiedSteps);
+        }
+        ClassifiedStep classifiedStep = classifiedSteps[0];
+        if (classifiedStep != null && classifiedStep.stepAsString.equals(stepAsString)) {
+            return classifiedStep;
+        }
+        classifiedStep = classifiedSteps[1];
+        if (classifiedStep == null || !classifiedStep.stepAsString.equals(stepAsString)) {
+            classifiedStep = new ClassifiedStep(stepAsString);
+        }
+        classifiedSteps[1] = classifiedSteps[0];
+        classifiedSteps[0] = classifiedStep;
+        return classifiedStep;
+    }
+
+    private static boolean startsWithWord(String step, String word) {
+        // space after qualifies it as word
+        int length = word.length();
+        return step.length() > length && step.charAt(length) == ' ' && step.startsWith(word);
+    }
+
+    private static boolean overridesStartingWords(Class<?> type) {
+        try {
+            return overrides(type, "synonymsOf", String.class)
+                    || overrides(type, "startingWordsByType")
+                    || overrides(type, "startingWordFor", StepType.class)
+                    || overrides(type, "startingWordsFor", StepType.class)
+                    || overrides(type, "stepStartsWithWord", String.class, String.class)
+                    || overrides(type, "stepStartsWithWords", String.class, String[].class);
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
+    private static boolean overrides(Class<?> type, String name, Class<?>... parameterTypes)
+            throws NoSuchMethodException {
+        return type.getMethod(name, parameterTypes).getDeclaringClass() != Keywords.class;
+    }
+
+    /**
+     * The starting words, split into their synonyms once and for all
+     */
+    private static class StartingWords {
+
+        private final Map<StepType, String[]> wordsByType = new EnumMap<StepType, String[]>(StepType.class);
+        private final String[] words;
+        private final String[] ignoredStepPrefixes;
+
+        private StartingWords(Map<StepType, String> startingWordsByType) {
+            List<String> words = new ArrayList<String>();
+            for (Map.Entry<StepType, String> startingWord : startingWordsByType.entrySet()) {
+                String[] synonyms = startingWord.getValue().split(SYNONYM_SEPARATOR);
+                wordsByType.put(startingWord.getKey(), synonyms);
+                words.addAll(asList(synonyms));
+            }
+            this.words = words.toArray(new String[words.size()]);
+            List<String> ignoredStepPrefixes = new ArrayList<String>();
+            String ignorable = startingWordsByType.get(StepType.IGNORABLE);
+            for (Map.Entry<StepType, String> startingWord : startingWordsByType.entrySet()) {
+                if (ignorable != null && startingWord.getKey() != StepType.IGNORABLE) {
+                    ignoredStepPrefixes.add(ignorable + " " + startingWord.getValue() + " ");
+                }
+            }
+            this.ignoredStepPrefixes = ignoredStepPrefixes.toArray(new String[ignoredStepPrefixes.size()]);
+        }
+
+    }
+
+    /**
+     * A step with the first starting word it starts with for each step type,
+     * found with the given keywords when first needed
+     */
+    private static class ClassifiedStep {
+
+        private final String stepAsString;
+        private final String[] startingWords = new String[STEP_TYPES.length];
+        private final boolean[] classified = new boolean[STEP_TYPES.length];
+
+        private ClassifiedStep(String stepAsString) {
+            this.stepAsString = stepAsString;
+        }
+
+        String startingWordOf(Keywords keywords, StepType stepType) throws StartingWordNotFound {
+            int index = stepType.ordinal();
+            if (!classified[index]) {
+                for (String word : keywords.startingWordsOf(stepType)) {
+                    if (keywords.stepStartsWithWord(stepAsString, word)) {
+                        startingWords[index] = word;
+                        break;
+                    }
+                }
+                classified[index] = true;
+            }
+            return startingWords[index];
+        }
+
+        String startingWord(Keywords keywords, StepType stepType) {
+            String startingWord = startingWordOf(keywords, stepType);
+            if (startingWord == null) {
+                startingWord = startingWordOf(keywords, StepType.AND);
+            }
+            if (startingWord == null) {
+                throw new StartingWordNotFound(stepAsString, stepType, keywords.startingWordsByType);
+            }
+            return startingWord;
+        }
+
+        String withoutStartingWord(Keywords keywords, StepType stepType) {
+            // 1 for the space after
+            return stepAsString.substring(startingWord(keywords, stepType).length() + 1);
+        }
+
     }
 
     @Override
@@ -16,9 +16,12 @@ import org.jbehave.core.junit.AnnotatedEmbedderRunner;
 import org.jbehave.core.junit.AnnotatedEmbedderUtils;
 import org.jbehave.core.model.Story;
 import org.jbehave.core.model.StoryMaps;
+import org.jbehave.core.reporters.FreemarkerProcessor.RenderTiming;
+import org.jbehave.core.reporters.FreemarkerViewGenerator;
 import org.jbehave.core.reporters.ReportsCount;
 import org.jbehave.core.reporters.StepdocReporter;
 import org.jbehave.core.reporters.StoryReporterBuilder;
+import org.jbehave.core.reporters.TemplateableViewGenerator;
 import org.jbehave.core.reporters.ViewGenerator;
 import org.jbehave.core.steps.CandidateSteps;
 import org.jbehave.core.steps.InjectableStepsFactory;
@@ -58,6 +61,7 @@ public class Embedder {
     protected PerformableTree performableTree;
     protected StoryManager storyManager;
     protected TimeoutParser[] timeoutParsers;
+    protected StoryScheduler storyScheduler;
 
     public Embedder() {
         this(new PrintStreamEmbedderMonitor());
@@ -219,10 +223,15 @@ public class Embedder {
             // generate reports view regardless of failures in running stories
             // (if configured to do so)
             try {
+                // wait for any reports written asynchronously
+                configuration().storyReporterBuilder().awaitReportsWritten();
                 if (embedderControls.generateViewAfterStories()) {
                     generateReportsView();
                 }
             } finally {
+                // statistics not aggregated by the reports view are read
+                // from the stats files when it is generated later
+                configuration().storyReporterBuilder().collectedStatistics().clear();
                 // shutdown regardless of failures in reports view
                 shutdownExecutorService();
             }
@@ -254,6 +263,10 @@ public class Embedder {
             return;
         }
         ViewGenerator viewGenerator = configuration().viewGenerator();
+        if (viewGenerator instanceof TemplateableViewGenerator) {
+            ((TemplateableViewGenerator) viewGenerator).useCollectedStatistics(configuration()
+                    .storyReporterBuilder().collectedStatistics());
+        }
         try {
             embedderMonitor.generatingReportsView(outputDirectory, formats, viewResources);
             viewGenerator.generateReportsView(outputDirectory, formats, viewResources);
@@ -263,6 +276,13 @@ public class Embedder {
         }
         ReportsCount count = viewGenerator.getReportsCount();
         embedderMonitor.reportsViewGenerated(count);
+        if (viewGenerator instanceof FreemarkerViewGenerator) {
+            Map<String, RenderTiming> timings = ((FreemarkerViewGenerator) viewGenerator).collectRenderTimings();
+            for (Map.Entry<String, RenderTiming> timing : timings.entrySet()) {
+                embedderMonitor.templateRendered(timing.getKey(), timing.getValue().getRenders(),
+                        timing.getValue().getDurationInMillis());
+            }
+        }
         handleFailures(count);
 
     }
@@ -435,6 +455,10 @@ public class Embedder {
     }
 
     private StoryManager createStoryManager() {
+        if (storyScheduler != null) {
+            return new StoryManager(configuration(), stepsFactory(), embedderControls(), embedderMonitor(),
+                    executorService(), performableTree(), storyScheduler, timeoutParsers());
+        }
         return new StoryManager(configuration(), stepsFactory(), embedderControls(), embedderMonitor(),
                 executorService(), performableTree(), timeoutParsers());
     }
@@ -534,6 +558,16 @@ public class Embedder {
         this.timeoutParsers = timeoutParsers;
     }
 
+    /**
+     * Uses a StoryScheduler, overriding the one configured by the
+     * {@link EmbedderControls}
+     *
+     * @param storyScheduler the StoryScheduler
+     */
+    public void useStoryScheduler(StoryScheduler storyScheduler) {
+        this.storyScheduler = storyScheduler;
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
@@ -18,6 +18,10 @@ public class EmbedderControls {
     private String storyTimeouts = "300";
     private int threads = 1;
     private boolean failOnStoryTimeout = false;
+    private boolean scheduleLongestStoriesFirst = false;
+    private long defaultStoryDurationInSecs = 0;
+    private boolean streamStories = false;
+    private boolean cacheParsedStories = false;
 
     public EmbedderControls() {
     }
@@ -80,6 +84,22 @@ public class EmbedderControls {
         return this.threads;
     }
 
+    public boolean scheduleLongestStoriesFirst() {
+        return this.scheduleLongestStoriesFirst;
+    }
+
+    public long defaultStoryDurationInSecs() {
+        return this.defaultStoryDurationInSecs;
+    }
+
+    public boolean streamStories() {
+        return this.streamStories;
+    }
+
+    public boolean cacheParsedStories() {
+        return this.cacheParsedStories;
+    }
+
     public EmbedderControls doBatch(boolean batch) {
         this.batch = batch;
         return this;
@@ -146,6 +166,43 @@ public class EmbedderControls {
         return this;
     }
 
+    /**
+     * Enables or disables the scheduling of the longest stories first, using
+     * the story durations of the previous run.
+     */
+    public EmbedderControls doScheduleLongestStoriesFirst(boolean scheduleLongestStoriesFirst) {
+        this.scheduleLongestStoriesFirst = scheduleLongestStoriesFirst;
+        return this;
+    }
+
+    /**
+     * Sets the duration given to stories without a duration from the previous
+     * run, when scheduling the longest stories first.
+     */
+    public EmbedderControls useDefaultStoryDurationInSecs(long defaultStoryDurationInSecs) {
+        this.defaultStoryDurationInSecs = defaultStoryDurationInSecs;
+        return this;
+    }
+
+    /**
+     * Enables or disables the streaming of stories, i.e. the loading, parsing
+     * and adding to the performable tree of each story when its execution
+     * starts, rather than of all stories before the first is executed.
+     */
+    public EmbedderControls doStreamStories(boolean streamStories) {
+        this.streamStories = streamStories;
+        return this;
+    }
+
+    /**
+     * Enables or disables the caching of parsed stories across runs, so that
+     * only the stories changed since the previous run are parsed again.
+     */
+    public EmbedderControls doCacheParsedStories(boolean cacheParsedStories) {
+        this.cacheParsedStories = cacheParsedStories;
+        return this;
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
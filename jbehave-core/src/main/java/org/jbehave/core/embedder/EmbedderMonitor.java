@@ -87,4 +87,8 @@ public interface EmbedderMonitor {
 
     void usingTimeout(String path, long timeout);
 
+    void cachedParsedStory(String storyPath, boolean hit, long hits, long misses);
+
+    void templateRendered(String resource, long renders, long durationInMillis);
+
 }
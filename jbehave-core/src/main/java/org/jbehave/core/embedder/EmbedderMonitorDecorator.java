@@ -163,4 +163,12 @@ public class EmbedderMonitorDecorator implements EmbedderMonitor {
         this.delegate.usingTimeout(path, timeout);
     }
 
+    public void cachedParsedStory(String storyPath, boolean hit, long hits, long misses) {
+        this.delegate.cachedParsedStory(storyPath, hit, hits, misses);
+    }
+
+    public void templateRendered(String resource, long renders, long durationInMillis) {
+        this.delegate.templateRendered(resource, renders, durationInMillis);
+    }
+
 }
@@ -129,4 +129,10 @@ public class NullEmbedderMonitor implements EmbedderMonitor {
     public void usingTimeout(String path, long timeout) {
     }
 
+    public void cachedParsedStory(String storyPath, boolean hit, long hits, long misses) {
+    }
+
+    public void templateRendered(String resource, long renders, long durationInMillis) {
+    }
+
 }
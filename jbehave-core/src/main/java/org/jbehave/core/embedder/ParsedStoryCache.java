@@ -0,0 +1,350 @@
+package org.jbehave.core.embedder;
+
+import org.jbehave.core.annotations.AfterScenario.Outcome;
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.model.Description;
+import org.jbehave.core.model.ExamplesTable;
+import org.jbehave.core.model.ExamplesTableFactory;
+import org.jbehave.core.model.GivenStories;
+import org.jbehave.core.model.Lifecycle;
+import org.jbehave.core.model.Lifecycle.Steps;
+import org.jbehave.core.model.Meta;
+import org.jbehave.core.model.Narrative;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Caches the parsed stories on disk across runs, so that only the stories
+ * changed since the previous run are parsed again. Each story is stored in its
+ * own file, together with the hash of its path, its text and the keywords and
+ * parser used to parse it. A story whose hash differs from the stored one is
+ * parsed and stored again. The hits and misses are reported via the
+ * {@link EmbedderMonitor}.
+ * <p>
+ * The examples tables are stored as text, as they are once loaded. Stories
+ * with tables which do not convert back to the same text, e.g. transformed
+ * tables, are always parsed. So are stories with tables loaded from resource
+ * paths, as the resources may change independently of the story text.
+ * </p>
+ */
+public class ParsedStoryCache {
+
+    private static final int VERSION = 1;
+    private static final String ENCODING = "UTF-8";
+    private static final String EXTENSION = ".parsed";
+    private static final String TRANSFORMER = "transformer";
+
+    private final File directory;
+    private final EmbedderMonitor embedderMonitor;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public ParsedStoryCache(File directory, EmbedderMonitor embedderMonitor) {
+        this.directory = directory;
+        this.embedderMonitor = embedderMonitor;
+    }
+
+    /**
+     * Returns the parsed story from the cache, or else parses it with the
+     * {@link Configuration#storyParser()} and stores it in the cache
+     *
+     * @param configuration the Configuration used to parse the story
+     * @param storyAsText   the story text
+     * @param storyPath     the story path
+     * @return The parsed Story
+     */
+    public Story storyOfText(Configuration configuration, String storyAsText, String storyPath) {
+        String hash = hashOf(configuration.storyParser().getClass().getName(), configuration.keywords().toString(),
+                storyPath, storyAsText);
+        File file = new File(directory, hashOf(storyPath) + EXTENSION);
+        Story story = readStory(file, hash, storyPath, configuration);
+        if (story != null) {
+            embedderMonitor.cachedParsedStory(storyPath, true, hits.incrementAndGet(), misses.get());
+            return story;
+        }
+        story = configuration.storyParser().parseStory(storyAsText, storyPath);
+        embedderMonitor.cachedParsedStory(storyPath, false, hits.get(), misses.incrementAndGet());
+        if (isStorable(story, storyAsText, configuration)) {
+            writeStory(file, hash, story);
+        }
+        return story;
+    }
+
+    private boolean isStorable(Story story, String storyAsText, Configuration configuration) {
+        if (loadsTableFromResource(storyAsText, configuration.keywords())) {
+            return false;
+        }
+        for (Scenario scenario : story.getScenarios()) {
+            ExamplesTable table = scenario.getExamplesTable();
+            if (table != ExamplesTable.EMPTY) {
+                if (table.getProperties().getProperty(TRANSFORMER) != null) {
+                    return false;
+                }
+                String tableAsString = table.asString();
+                if (!tableOf(tableAsString, configuration).asString().equals(tableAsString)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean loadsTableFromResource(String storyAsText, Keywords keywords) {
+        for (String scenarioAsText : storyAsText.split(Pattern.quote(keywords.scenario()))) {
+            int examples = scenarioAsText.indexOf(keywords.examplesTable());
+            if (examples >= 0) {
+                String tableInput = scenarioAsText.substring(examples + keywords.examplesTable().length()).trim();
+                if (tableInput.length() > 0 && !tableInput.contains(keywords.examplesTableHeaderSeparator())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private ExamplesTable tableOf(String tableAsString, Configuration configuration) {
+        return new ExamplesTableFactory(configuration).createExamplesTable(tableAsString);
+    }
+
+    private Story readStory(File file, String hash, String storyPath, Configuration configuration) {
+        if (!file.exists()) {
+            return null;
+        }
+        try {
+            DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+            try {
+                if (input.readInt() != VERSION || !hash.equals(readString(input))) {
+                    return null;
+                }
+                return readStory(input, storyPath, configuration);
+            } finally {
+                input.close();
+            }
+        } catch (IOException e) {
+            // a story which cannot be read is parsed again
+            return null;
+        }
+    }
+
+    private void writeStory(File file, String hash, Story story) {
+        try {
+            directory.mkdirs();
+            File temporary = File.createTempFile(file.getName(), ".tmp", directory);
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporary)));
+            try {
+                output.writeInt(VERSION);
+                writeString(output, hash);
+                writeStory(output, story);
+            } finally {
+                output.close();
+            }
+            // the story is written in full before replacing any previous one,
+            // as it may be read concurrently, e.g. as a given story
+            if (!temporary.renameTo(file)) {
+                file.delete();
+                if (!temporary.renameTo(file)) {
+                    temporary.delete();
+                }
+            }
+        } catch (IOException e) {
+            // a story which cannot be written is parsed again in the next run
+        }
+    }
+
+    private Story readStory(DataInputStream input, String storyPath, Configuration configuration)
+            throws IOException {
+        Description description = input.readBoolean() ? Description.EMPTY : new Description(readString(input));
+        Meta meta = readMeta(input);
+        Narrative narrative = input.readBoolean() ? Narrative.EMPTY : new Narrative(readString(input),
+                readString(input), readString(input), readString(input));
+        GivenStories givenStories = readGivenStories(input);
+        Lifecycle lifecycle = readLifecycle(input);
+        int count = input.readInt();
+        List<Scenario> scenarios = new ArrayList<Scenario>(count);
+        for (int i = 0; i < count; i++) {
+            String title = readString(input);
+            Meta scenarioMeta = readMeta(input);
+            GivenStories scenarioGivenStories = readGivenStories(input);
+            ExamplesTable table = input.readBoolean() ? ExamplesTable.EMPTY : tableOf(readString(input),
+                    configuration);
+            scenarios.add(new Scenario(title, scenarioMeta, scenarioGivenStories, table, readSteps(input)));
+        }
+        Story story = new Story(storyPath, description, meta, narrative, givenStories, lifecycle, scenarios);
+        story.namedAs(new File(storyPath).getName());
+        return story;
+    }
+
+    private void writeStory(DataOutputStream output, Story story) throws IOException {
+        Description description = story.getDescription();
+        output.writeBoolean(description == Description.EMPTY);
+        if (description != Description.EMPTY) {
+            writeString(output, description.asString());
+        }
+        writeMeta(output, story.getMeta());
+        Narrative narrative = story.getNarrative();
+        output.writeBoolean(narrative == Narrative.EMPTY);
+        if (narrative != Narrative.EMPTY) {
+            writeString(output, narrative.inOrderTo());
+            writeString(output, narrative.asA());
+            writeString(output, narrative.iWantTo());
+            writeString(output, narrative.soThat());
+        }
+        writeGivenStories(output, story.getGivenStories());
+        writeLifecycle(output, story.getLifecycle());
+        output.writeInt(story.getScenarios().size());
+        for (Scenario scenario : story.getScenarios()) {
+            writeString(output, scenario.getTitle());
+            writeMeta(output, scenario.getMeta());
+            writeGivenStories(output, scenario.getGivenStories());
+            ExamplesTable table = scenario.getExamplesTable();
+            output.writeBoolean(table == ExamplesTable.EMPTY);
+            if (table != ExamplesTable.EMPTY) {
+                writeString(output, table.asString());
+            }
+            writeSteps(output, scenario.getSteps());
+        }
+    }
+
+    private Meta readMeta(DataInputStream input) throws IOException {
+        if (input.readBoolean()) {
+            return Meta.EMPTY;
+        }
+        Properties properties = new Properties();
+        int count = input.readInt();
+        for (int i = 0; i < count; i++) {
+            properties.setProperty(readString(input), readString(input));
+        }
+        return new Meta(properties);
+    }
+
+    private void writeMeta(DataOutputStream output, Meta meta) throws IOException {
+        output.writeBoolean(meta == Meta.EMPTY);
+        if (meta != Meta.EMPTY) {
+            output.writeInt(meta.getPropertyNames().size());
+            for (String name : meta.getPropertyNames()) {
+                writeString(output, name);
+                writeString(output, meta.getProperty(name));
+            }
+        }
+    }
+
+    private GivenStories readGivenStories(DataInputStream input) throws IOException {
+        return input.readBoolean() ? GivenStories.EMPTY : new GivenStories(readString(input));
+    }
+
+    private void writeGivenStories(DataOutputStream output, GivenStories givenStories) throws IOException {
+        output.writeBoolean(givenStories == GivenStories.EMPTY);
+        if (givenStories != GivenStories.EMPTY) {
+            writeString(output, givenStories.asString());
+        }
+    }
+
+    private Lifecycle readLifecycle(DataInputStream input) throws IOException {
+        if (input.readBoolean()) {
+            return Lifecycle.EMPTY;
+        }
+        Steps before = new Steps(readSteps(input));
+        int count = input.readInt();
+        Steps[] after = new Steps[count];
+        for (int i = 0; i < count; i++) {
+            String outcome = readString(input);
+            after[i] = new Steps(outcome != null ? Outcome.valueOf(outcome) : null, readString(input),
+                    readSteps(input));
+        }
+        return new Lifecycle(before, after);
+    }
+
+    private void writeLifecycle(DataOutputStream output, Lifecycle lifecycle) throws IOException {
+        output.writeBoolean(lifecycle.isEmpty());
+        if (!lifecycle.isEmpty()) {
+            writeSteps(output, lifecycle.getBeforeSteps());
+            output.writeInt(lifecycle.getOutcomes().size());
+            for (Outcome outcome : lifecycle.getOutcomes()) {
+                if (outcome == null) {
+                    // only the lifecycles without after steps have no outcome
+                    writeString(output, null);
+                    writeString(output, null);
+                    writeSteps(output, new ArrayList<String>());
+                } else {
+                    writeString(output, outcome.name());
+                    writeString(output, lifecycle.getMetaFilter(outcome).asString());
+                    writeSteps(output, lifecycle.getAfterSteps(outcome));
+                }
+            }
+        }
+    }
+
+    private List<String> readSteps(DataInputStream input) throws IOException {
+        int count = input.readInt();
+        List<String> steps = new ArrayList<String>(count);
+        for (int i = 0; i < count; i++) {
+            steps.add(readString(input));
+        }
+        return steps;
+    }
+
+    private void writeSteps(DataOutputStream output, List<String> steps) throws IOException {
+        output.writeInt(steps.size());
+        for (String step : steps) {
+            writeString(output, step);
+        }
+    }
+
+    private String readString(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, ENCODING);
+    }
+
+    private void writeString(DataOutputStream output, String value) throws IOException {
+        if (value == null) {
+            output.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(ENCODING);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String hashOf(String... values) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            for (String value : values) {
+                digest.update(value.getBytes(ENCODING));
+                digest.update((byte) 0);
+            }
+            StringBuilder hash = new StringBuilder();
+            for (byte b : digest.digest()) {
+                hash.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hash.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -24,6 +24,7 @@ import org.jbehave.core.model.Scenario;
 import org.jbehave.core.model.Story;
 import org.jbehave.core.model.StoryDuration;
 import org.jbehave.core.reporters.ConcurrentStoryReporter;
+import org.jbehave.core.reporters.NullStoryReporter;
 import org.jbehave.core.reporters.StoryReporter;
 import org.jbehave.core.steps.CandidateSteps;
 import org.jbehave.core.steps.InjectableStepsFactory;
@@ -41,6 +42,14 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Creates a tree of {@link Performable} objects for a set of stories, grouping
@@ -54,13 +63,18 @@ import java.util.Map;
  * {@link #perform(RunContext, Story)} methods are executed.</li>
  * </ol>
  * The tree is created per {@link RunContext} for the set of stories being run
- * but the individual stories can be performed concurrently.
+ * but the individual stories can be performed concurrently, as can the
+ * scenarios of a story if so configured by the {@link StoryControls}. Alternatively, the
+ * stories can be added via {@link #addStory(RunContext, Story)} while other
+ * stories are being performed, and removed via {@link #removeStory(Story)} once
+ * performed.
  */
 public class PerformableTree {
 
     private static final Map<String, String> NO_PARAMETERS = new HashMap<String, String>();
 
     private PerformableRoot root = new PerformableRoot();
+    private ParsedStoryCache parsedStoryCache;
 
     static void generatePendingStepMethods(RunContext context, List<Step> steps) {
         List<PendingStep> pendingSteps = new ArrayList<PendingStep>();
@@ -80,6 +94,137 @@ public class PerformableTree {
         }
     }
 
+    /**
+     * Performs the performables concurrently, each with its own context
+     * starting from the state of the given context. The performables are
+     * shared by the calling thread and by up to threads - 1 tasks submitted to
+     * the {@link RunContext#executorService()}, so that those not taken by a
+     * free thread of the executor service are performed by the calling
+     * thread, which never waits for a performable not yet started. The events
+     * reported by each performable are delayed and then invoked in the order
+     * of the performables, and the state of the given context becomes that of
+     * the first performable which failed, if any. The objects stored with
+     * story or scenario retention level by each performable are not visible to
+     * the others performed concurrently, but are added to the given context in
+     * the order of the performables once performed, so that those stored by a
+     * later performable replace those stored with the same key by an earlier
+     * one.
+     */
+    static void performConcurrently(RunContext context, final List<? extends Performable> performables, int threads)
+            throws InterruptedException {
+        final StoryReporter reporter = context.reporter();
+        final Map<String, Object> storyObjects = context.stepsContext().storyObjects();
+        final Map<String, Object> scenarioObjects = context.stepsContext().scenarioObjects();
+        final int size = performables.size();
+        final List<RunContext> contexts = new ArrayList<RunContext>();
+        final List<ConcurrentStoryReporter> reporters = new ArrayList<ConcurrentStoryReporter>();
+        for (int i = 0; i < size; i++) {
+            contexts.add(context.scenarioContext());
+            reporters.add(new ConcurrentStoryReporter(new NullStoryReporter(), reporter, true));
+        }
+        final AtomicReferenceArray<Map<String, Object>> storedStoryObjects = new AtomicReferenceArray<Map<String, Object>>(
+                size);
+        final AtomicReferenceArray<Map<String, Object>> storedScenarioObjects = new AtomicReferenceArray<Map<String, Object>>(
+                size);
+        final AtomicReferenceArray<Throwable> failures = new AtomicReferenceArray<Throwable>(size);
+        final AtomicInteger next = new AtomicInteger();
+        final AtomicBoolean interrupted = new AtomicBoolean();
+        final CountDownLatch performed = new CountDownLatch(size);
+        Runnable performing = new Runnable() {
+            public void run() {
+                for (int index = next.getAndIncrement(); index < size; index = next.getAndIncrement()) {
+                    if (interrupted.get()) {
+                        // the performables left are not performed once one is interrupted
+                        performed.countDown();
+                        continue;
+                    }
+                    RunContext performableContext = contexts.get(index);
+                    performableContext.reporter.set(reporters.get(index));
+                    performableContext.stepsContext().resetStory(storyObjects);
+                    performableContext.stepsContext().resetScenario(scenarioObjects);
+                    try {
+                        performables.get(index).perform(performableContext);
+                    } catch (Throwable e) {
+                        failures.set(index, e);
+                        if (e instanceof InterruptedException) {
+                            interrupted.set(true);
+                        }
+                    } finally {
+                        storedStoryObjects.set(index, performableContext.stepsContext().storyObjects());
+                        storedScenarioObjects.set(index, performableContext.stepsContext().scenarioObjects());
+                        performed.countDown();
+                    }
+                }
+            }
+        };
+        List<Future<?>> tasks = new ArrayList<Future<?>>();
+        ExecutorService executorService = context.executorService();
+        try {
+            for (int i = 1; executorService != null && i < Math.min(threads, size); i++) {
+                tasks.add(executorService.submit(performing));
+            }
+        } catch (RejectedExecutionException e) {
+            // the performables not taken are performed by the calling thread
+        }
+        try {
+            performing.run();
+        } finally {
+            // the calling thread goes back to the objects of its own context
+            context.stepsContext().resetStory(storyObjects);
+            context.stepsContext().resetScenario(scenarioObjects);
+        }
+        try {
+            performed.await();
+        } catch (InterruptedException e) {
+            for (Future<?> task : tasks) {
+                task.cancel(true);
+            }
+            throw e;
+        }
+        Throwable failure = null;
+        for (int i = 0; i < size; i++) {
+            if (failure == null) {
+                failure = failures.get(i);
+            }
+            reporters.get(i).invokeDelayed();
+            if (storedStoryObjects.get(i) != null) {
+                context.stepsContext().addStoryObjects(storedStoryObjects.get(i));
+                context.stepsContext().addScenarioObjects(storedScenarioObjects.get(i));
+            }
+            State state = contexts.get(i).state();
+            if (context.failed(state) && !context.failureOccurred()) {
+                context.stateIs(state);
+            }
+        }
+        rethrow(failure);
+    }
+
+    private static void rethrow(Throwable failure) throws InterruptedException {
+        if (failure == null) {
+            return;
+        }
+        if (failure instanceof InterruptedException) {
+            throw (InterruptedException) failure;
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        throw new UUIDExceptionWrapper(failure);
+    }
+
+    /**
+     * Uses the given cache of parsed stories when loading stories from their
+     * path
+     *
+     * @param parsedStoryCache the ParsedStoryCache
+     */
+    public void useParsedStoryCache(ParsedStoryCache parsedStoryCache) {
+        this.parsedStoryCache = parsedStoryCache;
+    }
+
     public PerformableRoot getRoot() {
         return this.root;
     }
@@ -92,6 +237,27 @@ public class PerformableTree {
         this.root.addAfterSteps(context.beforeOrAfterStoriesSteps(Stage.AFTER));
     }
 
+    /**
+     * Adds a story to the tree, which may be done while other stories are
+     * being performed with the same context.
+     *
+     * @param context the RunContext
+     * @param story   the Story to add
+     */
+    public void addStory(RunContext context, Story story) {
+        this.root.add(performableStory(context.storyContext(), story, NO_PARAMETERS));
+    }
+
+    /**
+     * Removes a performed story from the tree, so that it is no longer
+     * referenced by it.
+     *
+     * @param story the Story to remove
+     */
+    public void removeStory(Story story) {
+        this.root.remove(story);
+    }
+
     private PerformableStory performableStory(RunContext context, Story story, Map<String, String> storyParameters) {
         PerformableStory performableStory = new PerformableStory(story, context.configuration().keywords(),
                 context.givenStory());
@@ -168,7 +334,8 @@ public class PerformableTree {
 
             if (isParameterisedByExamples(scenario)) {
                 ExamplesTable table = scenario.getExamplesTable();
-                for (Map<String, String> scenarioParameters : table.getRows()) {
+                for (int row = 0; row < table.getRowCount(); row++) {
+                    Map<String, String> scenarioParameters = table.getRow(row);
                     Meta exampleScenarioMeta = parameterMeta(context, scenarioParameters).inheritFrom(storyAndScenarioMeta);
                     boolean exampleScenarioAllowed = context.filter().allow(exampleScenarioMeta);
 
@@ -288,6 +455,9 @@ public class PerformableTree {
      */
     public Story storyOfPath(Configuration configuration, String storyPath) {
         String storyAsText = configuration.storyLoader().loadStoryAsText(storyPath);
+        if (parsedStoryCache != null) {
+            return parsedStoryCache.storyOfText(configuration, storyAsText, storyPath);
+        }
         return configuration.storyParser().parseStory(storyAsText, storyPath);
     }
 
@@ -393,6 +563,12 @@ public class PerformableTree {
         return new RunContext(configuration, stepsFactory, embedderMonitor, filter, failures);
     }
 
+    public RunContext newRunContext(Configuration configuration, InjectableStepsFactory stepsFactory,
+                                    EmbedderMonitor embedderMonitor, MetaFilter filter, BatchFailures failures,
+                                    ExecutorService executorService) {
+        return new RunContext(configuration, stepsFactory, embedderMonitor, filter, failures, executorService);
+    }
+
     public static enum Status {
         SUCCESSFUL, FAILED, PENDING, NOT_PERFORMED, NOT_ALLOWED
     }
@@ -471,22 +647,42 @@ public class PerformableTree {
         private final EmbedderMonitor embedderMonitor;
         private final MetaFilter filter;
         private final BatchFailures failures;
+        private final ExecutorService executorService;
         private final StepsContext stepsContext;
         private final ThreadLocal<StoryReporter> reporter = new ThreadLocal<StoryReporter>();
-        private Map<Story, StoryDuration> cancelledStories = new HashMap<Story, StoryDuration>();
-        private Map<String, List<PendingStep>> pendingStories = new HashMap<String, List<PendingStep>>();
+        private Map<Story, StoryDuration> cancelledStories = new ConcurrentHashMap<Story, StoryDuration>();
+        private Map<String, List<PendingStep>> pendingStories = new ConcurrentHashMap<String, List<PendingStep>>();
         private String path;
         private boolean givenStory;
         private State state;
 
         public RunContext(Configuration configuration, InjectableStepsFactory stepsFactory, EmbedderMonitor embedderMonitor,
                           MetaFilter filter, BatchFailures failures) {
+            this(configuration, stepsFactory, embedderMonitor, filter, failures, null);
+        }
+
+        /**
+         * Creates a context whose scenarios, and examples, may be performed
+         * concurrently using the given ExecutorService, usually the one of the
+         * {@link Embedder} which also performs the stories. Without it they are
+         * performed one after the other.
+         */
+        public RunContext(Configuration configuration, InjectableStepsFactory stepsFactory, EmbedderMonitor embedderMonitor,
+                          MetaFilter filter, BatchFailures failures, ExecutorService executorService) {
+            this(configuration, stepsFactory, stepsFactory.createCandidateSteps(), embedderMonitor, filter, failures,
+                    executorService);
+        }
+
+        private RunContext(Configuration configuration, InjectableStepsFactory stepsFactory,
+                           List<CandidateSteps> candidateSteps, EmbedderMonitor embedderMonitor, MetaFilter filter,
+                           BatchFailures failures, ExecutorService executorService) {
             this.configuration = configuration;
             this.stepsFactory = stepsFactory;
             this.embedderMonitor = embedderMonitor;
-            this.candidateSteps = stepsFactory.createCandidateSteps();
+            this.candidateSteps = candidateSteps;
             this.filter = filter;
             this.failures = failures;
+            this.executorService = executorService;
             this.stepsContext = configuration.stepsContext();
             resetState();
         }
@@ -554,6 +750,10 @@ public class PerformableTree {
             return this.filter;
         }
 
+        public ExecutorService executorService() {
+            return this.executorService;
+        }
+
         public PerformableSteps beforeOrAfterStoriesSteps(Stage stage) {
             return new PerformableSteps(this.configuration.stepCollector().collectBeforeOrAfterStoriesSteps(this.candidateSteps,
                     stage));
@@ -582,8 +782,38 @@ public class PerformableTree {
             return new PerformableSteps(steps, monitor.matched());
         }
 
+        /**
+         * Creates a context for adding a story to the tree, sharing the
+         * candidate steps but not the path and state of this context, which
+         * may be performing other stories.
+         */
+        public RunContext storyContext() {
+            return new RunContext(this.configuration, this.stepsFactory, this.candidateSteps,
+                    this.embedderMonitor, this.filter, this.failures, this.executorService);
+        }
+
+        /**
+         * Creates a context for performing a scenario, or an example of a
+         * scenario, of the current story concurrently with the others, sharing
+         * the path and the
+         * cancelled and pending stories of this context, but with its own state
+         * and reporter.
+         */
+        public RunContext scenarioContext() {
+            RunContext child = new RunContext(this.configuration, this.stepsFactory, this.candidateSteps,
+                    this.embedderMonitor, this.filter, this.failures, this.executorService);
+            child.cancelledStories = this.cancelledStories;
+            child.pendingStories = this.pendingStories;
+            child.path = this.path;
+            child.givenStory = this.givenStory;
+            child.state = this.state;
+            return child;
+        }
+
         public RunContext childContextFor(GivenStory givenStory) {
-            RunContext child = new RunContext(this.configuration, this.stepsFactory, this.embedderMonitor, this.filter, this.failures);
+            // given stories share the candidate steps, created once per run
+            RunContext child = new RunContext(this.configuration, this.stepsFactory, this.candidateSteps,
+                    this.embedderMonitor, this.filter, this.failures, this.executorService);
             child.path = this.configuration.pathCalculator().calculate(this.path, givenStory.getPath());
             child.givenStory = true;
             return child;
@@ -701,15 +931,19 @@ public class PerformableTree {
             this.beforeSteps = beforeSteps;
         }
 
-        public void add(PerformableStory performableStory) {
+        public synchronized void add(PerformableStory performableStory) {
             this.stories.put(performableStory.getStory().getPath(), performableStory);
         }
 
+        public synchronized void remove(Story story) {
+            this.stories.remove(story.getPath());
+        }
+
         public void addAfterSteps(PerformableSteps afterSteps) {
             this.afterSteps = afterSteps;
         }
 
-        public PerformableStory get(Story story) {
+        public synchronized PerformableStory get(Story story) {
             PerformableStory performableStory = this.stories.get(story.getPath());
             if (performableStory != null) {
                 return performableStory;
@@ -717,7 +951,7 @@ public class PerformableTree {
             throw new RuntimeException("No performable story for path " + story.getPath());
         }
 
-        public List<PerformableStory> getStories() {
+        public synchronized List<PerformableStory> getStories() {
             return new ArrayList<PerformableStory>(this.stories.values());
         }
 
@@ -826,11 +1060,30 @@ public class PerformableTree {
         }
 
         private void performScenarios(RunContext context) throws InterruptedException {
+            int threads = scenarioThreads(context);
+            if (threads > 1 && this.scenarios.size() > 1 && !context.givenStory
+                    && context.configuration().storyControls().resetStateBeforeScenario()) {
+                performConcurrently(context, this.scenarios, threads);
+                return;
+            }
             for (PerformableScenario scenario : this.scenarios) {
                 scenario.perform(context);
             }
         }
 
+        private int scenarioThreads(RunContext context) {
+            int threads = context.configuration().storyControls().scenarioThreads();
+            Meta meta = this.story.getMeta();
+            if (meta.hasProperty(StoryControls.SCENARIO_THREADS)) {
+                try {
+                    threads = Integer.parseInt(meta.getProperty(StoryControls.SCENARIO_THREADS).trim());
+                } catch (NumberFormatException e) {
+                    // not a number of threads: the story controls are used
+                }
+            }
+            return threads;
+        }
+
         public List<PerformableScenario> getScenarios() {
             return this.scenarios;
         }
@@ -839,6 +1092,8 @@ public class PerformableTree {
 
     public static class PerformableScenario implements Performable {
 
+        public static final String PARALLEL = "parallel";
+
         private final Scenario scenario;
         private final String storyPath;
         private boolean allowed;
@@ -887,6 +1142,31 @@ public class PerformableTree {
             return this.normalPerformableScenario != null;
         }
 
+        /**
+         * The examples are performed concurrently if so requested by the
+         * {@link #PARALLEL} property of the examples table or meta property of
+         * the scenario, unless the scenario belongs to a given story or the
+         * state is not reset before each example, as a failure must then skip
+         * the examples that follow
+         */
+        private boolean parallelExamples(RunContext context) {
+            StoryControls storyControls = context.configuration().storyControls();
+            if (this.examplePerformableScenarios.size() < 2 || storyControls.exampleThreads() < 2
+                    || context.givenStory() || !storyControls.resetStateBeforeScenario()) {
+                return false;
+            }
+            String parallel = this.scenario.getExamplesTable().getProperties().getProperty(PARALLEL);
+            if (parallel != null) {
+                return Boolean.parseBoolean(parallel.trim());
+            }
+            Meta meta = this.scenario.getMeta();
+            if (meta.hasProperty(PARALLEL)) {
+                parallel = meta.getProperty(PARALLEL).trim();
+                return parallel.length() == 0 || Boolean.parseBoolean(parallel);
+            }
+            return false;
+        }
+
         public void perform(RunContext context) throws InterruptedException {
             if (!isAllowed()) {
                 context.embedderMonitor().scenarioNotAllowed(this.scenario, context.filter());
@@ -898,8 +1178,13 @@ public class PerformableTree {
             if (!this.examplePerformableScenarios.isEmpty()) {
                 context.reporter().beforeExamples(this.scenario.getSteps(),
                         this.scenario.getExamplesTable());
-                for (ExamplePerformableScenario exampleScenario : this.examplePerformableScenarios) {
-                    exampleScenario.perform(context);
+                if (parallelExamples(context)) {
+                    performConcurrently(context, this.examplePerformableScenarios,
+                            context.configuration().storyControls().exampleThreads());
+                } else {
+                    for (ExamplePerformableScenario exampleScenario : this.examplePerformableScenarios) {
+                        exampleScenario.perform(context);
+                    }
                 }
                 context.reporter().afterExamples();
             } else {
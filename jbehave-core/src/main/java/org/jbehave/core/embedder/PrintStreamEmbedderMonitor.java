@@ -193,6 +193,15 @@ public class PrintStreamEmbedderMonitor extends NullEmbedderMonitor {
         print("Using timeout for story " + path + " of " + timeout + " secs.");
     }
 
+    public void cachedParsedStory(String storyPath, boolean hit, long hits, long misses) {
+        print("Story " + storyPath + " " + (hit ? "hit" : "missed") + " cache of parsed stories (" + hits
+                + " hits, " + misses + " misses)");
+    }
+
+    public void templateRendered(String resource, long renders, long durationInMillis) {
+        print("Template " + resource + " rendered " + renders + " times in " + durationInMillis + " ms");
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
@@ -18,6 +18,10 @@ public class PropertyBasedEmbedderControls extends EmbedderControls {
     public static final String STORY_TIMEOUT_IN_SECS_BY_PATH = "STORY_TIMEOUT_IN_SECS_BY_PATH";
     public static final String FAIL_ON_STORY_TIMEOUT = "FAIL_ON_STORY_TIMEOUT";
     public static final String THREADS = "THREADS";
+    public static final String SCHEDULE_LONGEST_STORIES_FIRST = "SCHEDULE_LONGEST_STORIES_FIRST";
+    public static final String DEFAULT_STORY_DURATION_IN_SECS = "DEFAULT_STORY_DURATION_IN_SECS";
+    public static final String STREAM_STORIES = "STREAM_STORIES";
+    public static final String CACHE_PARSED_STORIES = "CACHE_PARSED_STORIES";
 
     private ParameterConverters converters = new ParameterConverters();
 
@@ -81,6 +85,26 @@ public class PropertyBasedEmbedderControls extends EmbedderControls {
         return propertyAs(THREADS, Integer.class, super.threads());
     }
 
+    @Override
+    public boolean scheduleLongestStoriesFirst() {
+        return propertyAs(SCHEDULE_LONGEST_STORIES_FIRST, Boolean.class, super.scheduleLongestStoriesFirst());
+    }
+
+    @Override
+    public long defaultStoryDurationInSecs() {
+        return propertyAs(DEFAULT_STORY_DURATION_IN_SECS, Long.class, super.defaultStoryDurationInSecs());
+    }
+
+    @Override
+    public boolean streamStories() {
+        return propertyAs(STREAM_STORIES, Boolean.class, super.streamStories());
+    }
+
+    @Override
+    public boolean cacheParsedStories() {
+        return propertyAs(CACHE_PARSED_STORIES, Boolean.class, super.cacheParsedStories());
+    }
+
     private <T> T propertyAs(String name, Class<T> type, T defaultValue) {
         String property = System.getProperty(name);
         if (property == null) {
@@ -104,6 +128,10 @@ public class PropertyBasedEmbedderControls extends EmbedderControls {
                 .append("storyTimeoutInSecs", storyTimeoutInSecs())
                 .append("storyTimeoutInSecsByPath", storyTimeoutInSecsByPath())
                 .append("threads", threads())
+                .append("scheduleLongestStoriesFirst", scheduleLongestStoriesFirst())
+                .append("defaultStoryDurationInSecs", defaultStoryDurationInSecs())
+                .append("streamStories", streamStories())
+                .append("cacheParsedStories", cacheParsedStories())
                 .toString();
     }
 
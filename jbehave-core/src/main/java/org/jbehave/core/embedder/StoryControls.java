@@ -8,6 +8,12 @@ import org.apache.commons.lang3.builder.ToStringStyle;
  */
 public class StoryControls {
 
+    /**
+     * The name of the story meta property which overrides the number of
+     * scenario threads for a story
+     */
+    public static final String SCENARIO_THREADS = "scenarioThreads";
+
     private boolean dryRun = false;
     private boolean resetStateBeforeStory = true;
     private boolean resetStateBeforeScenario = true;
@@ -17,6 +23,8 @@ public class StoryControls {
     private boolean metaByRow = false;
     private String storyMetaPrefix = "";
     private String scenarioMetaPrefix = "";
+    private int scenarioThreads = 1;
+    private int exampleThreads = 1;
 
     public StoryControls() {
     }
@@ -57,6 +65,14 @@ public class StoryControls {
         return scenarioMetaPrefix;
     }
 
+    public int scenarioThreads() {
+        return scenarioThreads;
+    }
+
+    public int exampleThreads() {
+        return exampleThreads;
+    }
+
     public StoryControls doDryRun(boolean dryRun) {
         this.dryRun = dryRun;
         return this;
@@ -103,6 +119,40 @@ public class StoryControls {
         return this;
     }
 
+    /**
+     * Sets the number of threads used to perform the scenarios of a story
+     * concurrently, where 1 means that they are performed sequentially. The
+     * number can be overridden for a story by its {@link #SCENARIO_THREADS}
+     * meta property. Scenarios are only performed concurrently if the state is
+     * reset before each scenario, as otherwise a failure must skip the
+     * scenarios that follow. The objects stored with story retention level by
+     * a scenario are not visible to the scenarios performed concurrently with
+     * it, only to those performed after them. The threads are taken from the
+     * executor service of the {@link Embedder}, shared with the stories, so
+     * that at most {@link EmbedderControls#threads()} scenarios, examples and
+     * stories are performed at the same time.
+     */
+    public StoryControls useScenarioThreads(int scenarioThreads) {
+        this.scenarioThreads = scenarioThreads;
+        return this;
+    }
+
+    /**
+     * Sets the number of threads used to perform concurrently the examples of
+     * the scenarios which request it, where 1, the default, means that they
+     * are performed sequentially. As with scenarios, the threads are taken
+     * from the executor service of the {@link Embedder}, and examples are only
+     * performed concurrently if the state is reset before each of them, and
+     * never for given stories. The objects stored with scenario retention
+     * level before the examples are visible to all of them, while those stored
+     * by an example are not visible to the other examples, only to the steps
+     * performed after them.
+     */
+    public StoryControls useExampleThreads(int exampleThreads) {
+        this.exampleThreads = exampleThreads;
+        return this;
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
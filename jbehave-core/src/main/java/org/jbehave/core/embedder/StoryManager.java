@@ -17,29 +17,52 @@ import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Manages the execution and outcomes of running stories. While each story is
  * run by the {@link PerformableTree}, the manager is responsible for the concurrent
  * submission and monitoring of their execution via the {@link ExecutorService}.
+ * The completion of each story is signalled to the manager, while its timeout is
+ * scheduled via a {@link ScheduledExecutorService}.
+ * The order of submission is determined by the {@link StoryScheduler}, which
+ * unless provided schedules the longest stories first if so configured by
+ * the {@link EmbedderControls}, or else in the order given.
  */
 public class StoryManager {
 
+    private static final String STORY_DURATIONS = "storyDurations.props";
+    private static final String PARSED_STORIES = "parsedStories";
+
     private final Configuration configuration;
     private final EmbedderControls embedderControls;
     private final EmbedderMonitor embedderMonitor;
     private final ExecutorService executorService;
     private final InjectableStepsFactory stepsFactory;
     private final PerformableTree performableTree;
+    private final StoryScheduler storyScheduler;
     private final Map<String, RunningStory> runningStories = new HashMap<String, RunningStory>();
     private final Map<MetaFilter, List<Story>> excludedStories = new HashMap<MetaFilter, List<Story>>();
+    private final BlockingQueue<RunningStory> completedStories = new LinkedBlockingQueue<RunningStory>();
+    private ScheduledExecutorService timeoutsExecutor;
     private RunContext context;
     private StoryTimeouts timeouts;
 
@@ -47,14 +70,38 @@ public class StoryManager {
                         InjectableStepsFactory stepsFactory,
                         EmbedderControls embedderControls, EmbedderMonitor embedderMonitor,
                         ExecutorService executorService, PerformableTree performableTree, TimeoutParser... parsers) {
+        this(configuration, stepsFactory, embedderControls, embedderMonitor, executorService, performableTree,
+                storySchedulerFor(configuration, embedderControls), parsers);
+    }
+
+    public StoryManager(Configuration configuration,
+                        InjectableStepsFactory stepsFactory,
+                        EmbedderControls embedderControls, EmbedderMonitor embedderMonitor,
+                        ExecutorService executorService, PerformableTree performableTree,
+                        StoryScheduler storyScheduler, TimeoutParser... parsers) {
         this.configuration = configuration;
         this.embedderControls = embedderControls;
         this.embedderMonitor = embedderMonitor;
         this.executorService = executorService;
         this.stepsFactory = stepsFactory;
         this.performableTree = performableTree;
+        this.storyScheduler = storyScheduler;
         this.timeouts = new StoryTimeouts(embedderControls, embedderMonitor);
         this.timeouts.withParsers(parsers);
+        if (embedderControls.cacheParsedStories()) {
+            File parsedStories = new File(configuration.storyReporterBuilder().outputDirectory(), PARSED_STORIES);
+            performableTree.useParsedStoryCache(new ParsedStoryCache(parsedStories, embedderMonitor));
+        }
+    }
+
+    private static StoryScheduler storySchedulerFor(Configuration configuration,
+                                                    EmbedderControls embedderControls) {
+        if (embedderControls.scheduleLongestStoriesFirst()) {
+            File storyDurations = new File(configuration.storyReporterBuilder().outputDirectory(), STORY_DURATIONS);
+            return new StoryScheduler.LongestFirst(storyDurations,
+                    embedderControls.defaultStoryDurationInSecs() * 1000);
+        }
+        return new StoryScheduler.InGivenOrder();
     }
 
     public Story storyOfPath(String storyPath) {
@@ -83,9 +130,55 @@ public class StoryManager {
 
     public void runStoriesAsPaths(List<String> storyPaths, MetaFilter filter,
                                   BatchFailures failures) {
+        if (embedderControls.streamStories()) {
+            streamStories(storyPaths, filter, failures);
+            return;
+        }
         runStories(storiesOf(storyPaths), filter, failures);
     }
 
+    /**
+     * Runs the stories as paths, loading, parsing and adding each story to the
+     * performable tree when its execution starts, rather than all stories
+     * before the first is executed. Unless the cross reference is to be
+     * serialised from the performable tree, each story is removed from the
+     * tree once performed.
+     *
+     * @param storyPaths the List of story paths
+     * @param filter     the MetaFilter
+     * @param failures   the BatchFailures
+     */
+    public void streamStories(List<String> storyPaths, MetaFilter filter,
+                              BatchFailures failures) {
+        // create new run context
+        context = performableTree.newRunContext(configuration, stepsFactory,
+                embedderMonitor, filter, failures, executorService);
+
+        // add before and after stories steps only
+        performableTree.addStories(context, new ArrayList<Story>());
+
+        // before stories
+        performableTree.performBeforeOrAfterStories(context, Stage.BEFORE);
+
+        // stream stories
+        boolean removePerformed = configuration.storyReporterBuilder().crossReference() == null;
+        List<Story> stories = new ArrayList<Story>();
+        for (String storyPath : storyPaths) {
+            stories.add(new Story(storyPath));
+        }
+        for (Story story : storyScheduler.schedule(stories)) {
+            runningStories.put(story.getPath(), submit(new StreamedStory(story, removePerformed)));
+        }
+        waitUntilAllDoneOrFailed(context);
+        storiesNotAllowed(context);
+
+        // after stories
+        performableTree.performBeforeOrAfterStories(context, Stage.AFTER);
+
+        // collect failures
+        failures.putAll(context.getFailures());
+    }
+
     private List<Story> storiesOf(List<String> storyPaths) {
         List<Story> stories = new ArrayList<Story>();
         for (String storyPath : storyPaths) {
@@ -98,7 +191,7 @@ public class StoryManager {
                            BatchFailures failures) {
         // create new run context
         context = performableTree.newRunContext(configuration, stepsFactory,
-                embedderMonitor, filter, failures);
+                embedderMonitor, filter, failures, executorService);
 
         // add stories
         performableTree.addStories(context, stories);
@@ -119,20 +212,24 @@ public class StoryManager {
         // run stories
         runningStories(context, stories);
         waitUntilAllDoneOrFailed(context);
+        storiesNotAllowed(context);
+
+        // after stories
+        performableTree.performBeforeOrAfterStories(context, Stage.AFTER);
+    }
+
+    private void storiesNotAllowed(RunContext context) {
         MetaFilter filter = context.filter();
         List<Story> notAllowed = notAllowedBy(filter);
         if (!notAllowed.isEmpty()) {
             embedderMonitor.storiesNotAllowed(notAllowed, filter,
                     embedderControls.verboseFiltering());
         }
-
-        // after stories
-        performableTree.performBeforeOrAfterStories(context, Stage.AFTER);
     }
 
     public Map<String, RunningStory> runningStories(RunContext context,
                                                     List<Story> stories) {
-        for (Story story : stories) {
+        for (Story story : storyScheduler.schedule(stories)) {
             filterRunning(context, story);
         }
         return runningStories;
@@ -147,7 +244,7 @@ public class StoryManager {
         }
     }
 
-    public List<Story> notAllowedBy(MetaFilter filter) {
+    public synchronized List<Story> notAllowedBy(MetaFilter filter) {
         List<Story> stories = excludedStories.get(filter);
         if (stories == null) {
             stories = new ArrayList<Story>();
@@ -161,58 +258,119 @@ public class StoryManager {
                 embedderControls, embedderMonitor, story, timeouts));
     }
 
+    /**
+     * Waits until all running stories are done, as signalled by their
+     * completion, or failed. Each running story is timed out as soon as its
+     * {@link StoryDuration} exceeds the timeout given by the
+     * {@link StoryTimeouts}. If stories are to fail on timeout, the first
+     * story timed out fails the run, but only once all stories are done and
+     * their failures and durations recorded.
+     *
+     * @param context the RunContext
+     */
     public void waitUntilAllDoneOrFailed(RunContext context) {
         if (runningStories.values().isEmpty()) {
             return;
         }
-        boolean allDone = false;
-        boolean started = false;
-        while (!allDone || !started) {
-            allDone = true;
-            for (RunningStory runningStory : runningStories.values()) {
-                if (runningStory.isStarted()) {
-                    started = true;
-                    Story story = runningStory.getStory();
-                    Future<ThrowableStory> future = runningStory.getFuture();
-                    if (!future.isDone()) {
-                        allDone = false;
-                        StoryDuration duration = runningStory.getDuration();
-                        runningStory.updateDuration();
-                        if (duration.timedOut()) {
-                            embedderMonitor.storyTimeout(story, duration);
-                            context.cancelStory(story, duration);
-                            future.cancel(true);
-                            if (embedderControls.failOnStoryTimeout()) {
-                                throw new StoryExecutionFailed(story.getPath(),
-                                        new StoryTimedOut(duration));
-                            }
-                            continue;
-                        }
-                    } else {
-                        try {
-                            ThrowableStory throwableStory = future.get();
-                            Throwable throwable = throwableStory.getThrowable();
-                            if (throwable != null) {
-                                context.addFailure(story.getPath(), throwable);
-                                if (!embedderControls.ignoreFailureInStories()) {
-                                    continue;
-                                }
-                            }
-                        } catch (Throwable e) {
-                            context.addFailure(story.getPath(), e);
-                            if (!embedderControls.ignoreFailureInStories()) {
-                                continue;
-                            }
-                        }
+        Set<RunningStory> outstanding = new HashSet<RunningStory>();
+        for (RunningStory runningStory : runningStories.values()) {
+            if (!runningStory.isCollected()) {
+                outstanding.add(runningStory);
+            }
+        }
+        // failures are added once all stories are done, as the failures of
+        // the context may be reset before each story
+        Map<String, Throwable> failures = new LinkedHashMap<String, Throwable>();
+        StoryExecutionFailed timedOut = null;
+        try {
+            while (!outstanding.isEmpty()) {
+                RunningStory runningStory = completedStories.take();
+                if (outstanding.remove(runningStory)) {
+                    StoryExecutionFailed failed = collect(runningStory, failures);
+                    if (timedOut == null) {
+                        timedOut = failed;
                     }
-                } else {
-                    started = false;
-                    allDone = false;
                 }
             }
-            tickTock();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            shutdownTimeouts();
+        }
+        for (Map.Entry<String, Throwable> failure : failures.entrySet()) {
+            context.addFailure(failure.getKey(), failure.getValue());
         }
         writeStoryDurations(runningStories.values());
+        if (timedOut != null) {
+            throw timedOut;
+        }
+    }
+
+    /**
+     * Collects the failure of the running story, if any.
+     *
+     * @return The StoryExecutionFailed to fail the run with if the story timed
+     * out and stories are to fail on timeout, or <code>null</code>
+     */
+    private StoryExecutionFailed collect(RunningStory runningStory, Map<String, Throwable> failures) {
+        runningStory.markCollected();
+        Story story = runningStory.getStory();
+        if (!runningStory.isAllowed()) {
+            runningStories.remove(story.getPath());
+            return null;
+        }
+        // fails if the story timeout is invalid
+        StoryDuration duration = runningStory.getDuration();
+        if (runningStory.isTimedOut()) {
+            if (embedderControls.failOnStoryTimeout()) {
+                StoryTimedOut storyTimedOut = new StoryTimedOut(duration);
+                failures.put(story.getPath(), storyTimedOut);
+                return new StoryExecutionFailed(story.getPath(), storyTimedOut);
+            }
+        }
+        try {
+            ThrowableStory throwableStory = runningStory.getFuture().get();
+            Throwable throwable = throwableStory.getThrowable();
+            if (throwable != null) {
+                failures.put(story.getPath(), throwable);
+            }
+        } catch (Throwable e) {
+            failures.put(story.getPath(), e);
+        }
+        return null;
+    }
+
+    private void timeout(RunningStory runningStory) {
+        if (runningStory.isDone()) {
+            return;
+        }
+        Story story = runningStory.getStory();
+        StoryDuration duration = runningStory.getDuration();
+        runningStory.updateDuration();
+        embedderMonitor.storyTimeout(story, duration);
+        context.cancelStory(story, duration);
+        runningStory.markTimedOut();
+        runningStory.getFuture().cancel(true);
+    }
+
+    private synchronized ScheduledExecutorService timeouts() {
+        if (timeoutsExecutor == null) {
+            timeoutsExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "jbehave-story-timeouts");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return timeoutsExecutor;
+    }
+
+    private synchronized void shutdownTimeouts() {
+        if (timeoutsExecutor != null) {
+            timeoutsExecutor.shutdownNow();
+            timeoutsExecutor = null;
+        }
     }
 
     protected void writeStoryDurations(Collection<RunningStory> runningStories) {
@@ -236,7 +394,7 @@ public class StoryManager {
         storyDurations.setProperty("threads", Long.toString(threads));
         storyDurations.setProperty("threadAverage",
                 Long.toString(threadAverage));
-        write(storyDurations, "storyDurations.props");
+        write(storyDurations, STORY_DURATIONS);
     }
 
     private void write(Properties p, String name) {
@@ -252,15 +410,127 @@ public class StoryManager {
         }
     }
 
-    private void tickTock() {
-        try {
-            Thread.sleep(100);
-        } catch (InterruptedException e) {
+    private synchronized RunningStory submit(EnqueuedStory enqueuedStory) {
+        StoryFuture future = new StoryFuture(enqueuedStory, Thread.currentThread());
+        RunningStory runningStory = new RunningStory(enqueuedStory, future);
+        future.runningStory = runningStory;
+        executorService.execute(future);
+        return runningStory;
+    }
+
+    /**
+     * The execution of an enqueued story, which signals its completion, or
+     * cancellation, to the manager. The timeout of the story is scheduled when
+     * its execution starts, unless the story is run by the thread which
+     * submitted it, in which case it cannot be interrupted.
+     */
+    private class StoryFuture extends FutureTask<ThrowableStory> {
+
+        private final Thread submittingThread;
+        private RunningStory runningStory;
+        private ScheduledFuture<?> timeout;
+
+        public StoryFuture(EnqueuedStory enqueuedStory, Thread submittingThread) {
+            super(enqueuedStory);
+            this.submittingThread = submittingThread;
+        }
+
+        @Override
+        public void run() {
+            runningStory.start();
+            if (Thread.currentThread() != submittingThread && !isDone()) {
+                try {
+                    scheduleTimeout();
+                } catch (RuntimeException e) {
+                    // the timeout of the story is invalid: fail without running it
+                    setException(e);
+                    return;
+                }
+            }
+            super.run();
+        }
+
+        private void scheduleTimeout() {
+            long timeoutInSecs = runningStory.getDuration().getTimeoutInSecs();
+            if (timeoutInSecs == 0) {
+                return;
+            }
+            // the story times out once its duration in secs exceeds the timeout
+            synchronized (this) {
+                try {
+                    timeout = timeouts().schedule(new Runnable() {
+                        public void run() {
+                            timeout(runningStory);
+                        }
+                    }, (timeoutInSecs + 1) * 1000, TimeUnit.MILLISECONDS);
+                } catch (RejectedExecutionException e) {
+                    // timeouts have been shut down: the story is not timed out
+                }
+            }
+        }
+
+        @Override
+        protected void done() {
+            synchronized (this) {
+                if (timeout != null) {
+                    timeout.cancel(false);
+                }
+            }
+            try {
+                if (runningStory.isStarted()) {
+                    runningStory.updateDuration();
+                }
+            } finally {
+                completedStories.add(runningStory);
+            }
         }
+
     }
 
-    private synchronized RunningStory submit(EnqueuedStory enqueuedStory) {
-        return new RunningStory(enqueuedStory, executorService.submit(enqueuedStory));
+    /**
+     * An enqueued story which is loaded, parsed and added to the performable
+     * tree when its execution starts.
+     */
+    private class StreamedStory extends EnqueuedStory {
+
+        private final Story unparsedStory;
+        private final boolean removePerformed;
+        private volatile boolean allowed = true;
+
+        public StreamedStory(Story unparsedStory, boolean removePerformed) {
+            super(performableTree, context, embedderControls, embedderMonitor, unparsedStory, timeouts);
+            this.unparsedStory = unparsedStory;
+            this.removePerformed = removePerformed;
+        }
+
+        @Override
+        protected boolean prepare() {
+            Story story = storyOfPath(unparsedStory.getPath());
+            useStory(story);
+            if (!context.filter(story).allowed()) {
+                allowed = false;
+                synchronized (StoryManager.this) {
+                    notAllowedBy(context.filter()).add(story);
+                }
+                return false;
+            }
+            performableTree.addStory(context, story);
+            return true;
+        }
+
+        @Override
+        protected void performed() {
+            if (removePerformed && allowed && getStory() != unparsedStory) {
+                performableTree.removeStory(getStory());
+                useStory(unparsedStory);
+            }
+        }
+
+        @Override
+        public boolean isAllowed() {
+            return allowed;
+        }
+
     }
 
     static class EnqueuedStory implements Callable<ThrowableStory> {
@@ -269,9 +539,10 @@ public class StoryManager {
         private final RunContext context;
         private final EmbedderControls embedderControls;
         private final EmbedderMonitor embedderMonitor;
-        private final Story story;
+        private volatile Story story;
         private final StoryTimeouts timeouts;
-        private long startedAtMillis;
+        private volatile long startedAtMillis;
+        private StoryDuration duration;
 
         public EnqueuedStory(PerformableTree performableTree,
                              RunContext context, EmbedderControls embedderControls,
@@ -284,10 +555,19 @@ public class StoryManager {
             this.timeouts = timeouts;
         }
 
+        void start() {
+            if (startedAtMillis == 0) {
+                startedAtMillis = System.currentTimeMillis();
+            }
+        }
+
         public ThrowableStory call() throws Exception {
-            startedAtMillis = System.currentTimeMillis();
+            start();
             String storyPath = story.getPath();
             try {
+                if (!prepare()) {
+                    return new ThrowableStory(story, null);
+                }
                 embedderMonitor.runningStory(storyPath);
                 performableTree.perform(context, story);
             } catch (Throwable e) {
@@ -297,10 +577,36 @@ public class StoryManager {
                     return new ThrowableStory(story, new StoryExecutionFailed(
                             storyPath, e));
                 }
+            } finally {
+                performed();
             }
             return new ThrowableStory(story, null);
         }
 
+        /**
+         * Prepares the story before it is performed
+         *
+         * @return A boolean, <code>true</code> if the story is allowed to be
+         * performed
+         */
+        protected boolean prepare() {
+            return true;
+        }
+
+        /**
+         * Invoked once the story has been performed, whether successfully or not
+         */
+        protected void performed() {
+        }
+
+        protected void useStory(Story story) {
+            this.story = story;
+        }
+
+        public boolean isAllowed() {
+            return true;
+        }
+
         public Story getStory() {
             return story;
         }
@@ -313,6 +619,17 @@ public class StoryManager {
             return timeouts.getTimeoutInSecs(story);
         }
 
+        synchronized StoryDuration getDuration() {
+            if (duration == null) {
+                duration = new StoryDuration(startedAtMillis, getTimeoutInSecs());
+            }
+            return duration;
+        }
+
+        synchronized void updateDuration() {
+            getDuration().update();
+        }
+
     }
 
     @SuppressWarnings("serial")
@@ -355,7 +672,8 @@ public class StoryManager {
     public static class RunningStory {
         private EnqueuedStory enqueuedStory;
         private Future<ThrowableStory> future;
-        private StoryDuration duration;
+        private volatile boolean timedOut;
+        private boolean collected;
 
         public RunningStory(EnqueuedStory enqueuedStory,
                             Future<ThrowableStory> future) {
@@ -372,21 +690,42 @@ public class StoryManager {
         }
 
         public long getDurationInMillis() {
-            if (duration == null) {
+            if (!isStarted()) {
                 return 0;
             }
-            return duration.getDurationInSecs() * 1000;
+            return getDuration().getDurationInSecs() * 1000;
         }
 
         public StoryDuration getDuration() {
-            if (duration == null) {
-                duration = new StoryDuration(enqueuedStory.getStartedAtMillis(), enqueuedStory.getTimeoutInSecs());
-            }
-            return duration;
+            return enqueuedStory.getDuration();
         }
 
         public void updateDuration() {
-            duration.update();
+            enqueuedStory.updateDuration();
+        }
+
+        void start() {
+            enqueuedStory.start();
+        }
+
+        public boolean isAllowed() {
+            return enqueuedStory.isAllowed();
+        }
+
+        public boolean isTimedOut() {
+            return timedOut;
+        }
+
+        void markTimedOut() {
+            this.timedOut = true;
+        }
+
+        boolean isCollected() {
+            return collected;
+        }
+
+        void markCollected() {
+            this.collected = true;
         }
 
         public boolean isDone() {
@@ -0,0 +1,110 @@
+package org.jbehave.core.embedder;
+
+import org.jbehave.core.model.Story;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Schedules the order in which the stories are submitted for execution by the
+ * {@link StoryManager}.
+ */
+public interface StoryScheduler {
+
+    /**
+     * Schedules the stories
+     *
+     * @param stories the List of Story to schedule
+     * @return A new List of the stories in the order of submission
+     */
+    List<Story> schedule(List<Story> stories);
+
+    /**
+     * Schedules the stories in the order in which they are given
+     */
+    class InGivenOrder implements StoryScheduler {
+
+        public List<Story> schedule(List<Story> stories) {
+            return new ArrayList<Story>(stories);
+        }
+
+    }
+
+    /**
+     * Schedules the longest stories first, using the durations in millis by
+     * story path found in the properties file written by
+     * {@link StoryManager#writeStoryDurations(java.util.Collection)} in a
+     * previous run. The stories without a previous duration are given a
+     * default duration. Stories with equal durations are left in their given
+     * order.
+     */
+    class LongestFirst implements StoryScheduler {
+
+        private final File storyDurations;
+        private final long defaultDurationInMillis;
+
+        public LongestFirst(File storyDurations, long defaultDurationInMillis) {
+            this.storyDurations = storyDurations;
+            this.defaultDurationInMillis = defaultDurationInMillis;
+        }
+
+        public List<Story> schedule(List<Story> stories) {
+            final Map<String, Long> durations = durationsOf(stories);
+            List<Story> scheduled = new ArrayList<Story>(stories);
+            Collections.sort(scheduled, new Comparator<Story>() {
+                public int compare(Story o1, Story o2) {
+                    return durations.get(o2.getPath()).compareTo(durations.get(o1.getPath()));
+                }
+            });
+            return scheduled;
+        }
+
+        private Map<String, Long> durationsOf(List<Story> stories) {
+            Properties properties = loadStoryDurations();
+            Map<String, Long> durations = new HashMap<String, Long>();
+            for (Story story : stories) {
+                durations.put(story.getPath(), durationOf(properties.getProperty(story.getPath())));
+            }
+            return durations;
+        }
+
+        private long durationOf(String duration) {
+            if (duration == null) {
+                return defaultDurationInMillis;
+            }
+            try {
+                return Long.parseLong(duration);
+            } catch (NumberFormatException e) {
+                return defaultDurationInMillis;
+            }
+        }
+
+        private Properties loadStoryDurations() {
+            Properties properties = new Properties();
+            if (storyDurations.exists()) {
+                try {
+                    Reader reader = new FileReader(storyDurations);
+                    try {
+                        properties.load(reader);
+                    } finally {
+                        reader.close();
+                    }
+                } catch (IOException e) {
+                    // no durations available: stories are given the default
+                }
+            }
+            return properties;
+        }
+
+    }
+
+}
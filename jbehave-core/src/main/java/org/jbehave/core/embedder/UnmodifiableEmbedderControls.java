@@ -71,6 +71,26 @@ public class UnmodifiableEmbedderControls extends EmbedderControls {
         return this.delegate.threads();
     }
 
+    @Override
+    public boolean scheduleLongestStoriesFirst() {
+        return this.delegate.scheduleLongestStoriesFirst();
+    }
+
+    @Override
+    public long defaultStoryDurationInSecs() {
+        return this.delegate.defaultStoryDurationInSecs();
+    }
+
+    @Override
+    public boolean streamStories() {
+        return this.delegate.streamStories();
+    }
+
+    @Override
+    public boolean cacheParsedStories() {
+        return this.delegate.cacheParsedStories();
+    }
+
     @Override
     public EmbedderControls doBatch(boolean batch) {
         throw notAllowed();
@@ -121,6 +141,26 @@ public class UnmodifiableEmbedderControls extends EmbedderControls {
         throw notAllowed();
     }
 
+    @Override
+    public EmbedderControls doScheduleLongestStoriesFirst(boolean scheduleLongestStoriesFirst) {
+        throw notAllowed();
+    }
+
+    @Override
+    public EmbedderControls useDefaultStoryDurationInSecs(long defaultStoryDurationInSecs) {
+        throw notAllowed();
+    }
+
+    @Override
+    public EmbedderControls doStreamStories(boolean streamStories) {
+        throw notAllowed();
+    }
+
+    @Override
+    public EmbedderControls doCacheParsedStories(boolean cacheParsedStories) {
+        throw notAllowed();
+    }
+
     private RuntimeException notAllowed() {
         return new ModificationNotAllowed();
     }
@@ -6,12 +6,14 @@ import org.apache.commons.lang3.builder.ToStringStyle;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.Charset;
 
 /**
  * Loads story resources from classpath
  */
-public class LoadFromClasspath implements StoryLoader {
+public class LoadFromClasspath implements StoryLoader, StreamingResourceLoader {
 
     protected final ClassLoader classLoader;
     private final Charset charset;
@@ -74,6 +76,10 @@ public class LoadFromClasspath implements StoryLoader {
         }
     }
 
+    public Reader loadResourceAsReader(String resourcePath) {
+        return new InputStreamReader(resourceAsStream(resourcePath), charset);
+    }
+
     public String loadStoryAsText(String storyPath) {
         return loadResourceAsText(storyPath);
     }
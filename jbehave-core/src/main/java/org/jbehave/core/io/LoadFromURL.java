@@ -1,13 +1,17 @@
 package org.jbehave.core.io;
 
+import org.apache.commons.io.Charsets;
+
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.net.URL;
 
 /**
  * Loads story resources from URL
  */
-public class LoadFromURL implements ResourceLoader, StoryLoader {
+public class LoadFromURL implements ResourceLoader, StoryLoader, StreamingResourceLoader {
 
     public String loadResourceAsText(String resourcePath) {
         try {
@@ -17,6 +21,14 @@ public class LoadFromURL implements ResourceLoader, StoryLoader {
         }
     }
 
+    public Reader loadResourceAsReader(String resourcePath) {
+        try {
+            return new InputStreamReader(resourceAsStream(resourcePath), Charsets.UTF_8);
+        } catch (Exception cause) {
+            throw new InvalidStoryResource(resourcePath, cause);
+        }
+    }
+
     public String loadStoryAsText(String storyPath) {
         return loadResourceAsText(storyPath);
     }
@@ -0,0 +1,20 @@
+package org.jbehave.core.io;
+
+import java.io.Reader;
+
+/**
+ * A {@link ResourceLoader} that can also provide the resources as a
+ * {@link Reader}, allowing large resources to be consumed without being loaded
+ * as text first.
+ */
+public interface StreamingResourceLoader extends ResourceLoader {
+
+    /**
+     * Opens a Reader of the resource, which must be closed by the caller
+     *
+     * @param resourcePath the path of the resource
+     * @return The Reader of the resource
+     */
+    Reader loadResourceAsReader(String resourcePath);
+
+}
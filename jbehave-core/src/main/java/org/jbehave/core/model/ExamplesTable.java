@@ -1,5 +1,6 @@
 package org.jbehave.core.model;
 
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 import org.jbehave.core.annotations.Parameter;
@@ -10,18 +11,29 @@ import org.jbehave.core.steps.ParameterConverters;
 import org.jbehave.core.steps.Parameters;
 import org.jbehave.core.steps.Row;
 
+import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.io.Reader;
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
+import java.util.AbstractMap;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Properties;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -174,6 +186,8 @@ public class ExamplesTable {
     private final List<Map<String, String>> data = new ArrayList<Map<String, String>>();
     private final Properties properties = new Properties();
     private String propertiesAsString = "";
+    private transient Columns columns;
+    private final transient ConcurrentMap<Entry<Class<?>, Map<String, String>>, FieldBinding<?>> fieldBindings = new ConcurrentHashMap<Entry<Class<?>, Map<String, String>>, FieldBinding<?>>();
     private Map<String, String> namedParameters = new HashMap<String, String>();
     private boolean trim = true;
 
@@ -203,6 +217,31 @@ public class ExamplesTable {
         parse();
     }
 
+    /**
+     * Creates a table reading it row by row, so that tables loaded from large
+     * resources are parsed without first reading them as a whole.  The rows
+     * are also transformed one at a time, unless the table transformer needs
+     * the whole table.  The parsed rows are held by the table, as are those of
+     * any other table: the example scenarios of a story are created for all
+     * rows before the story is performed, and the reporters are given the
+     * whole table.  The reader is left open.
+     */
+    public ExamplesTable(Reader tableReader, String headerSeparator, String valueSeparator,
+                         String ignorableSeparator, ParameterConverters parameterConverters, TableTransformers tableTransformers) {
+        this.tableAsString = EMPTY_VALUE;
+        this.headerSeparator = headerSeparator;
+        this.valueSeparator = valueSeparator;
+        this.ignorableSeparator = ignorableSeparator;
+        this.parameterConverters = parameterConverters;
+        this.tableTransformers = tableTransformers;
+        this.defaults = new ConvertedParameters(EMPTY_MAP, parameterConverters);
+        try {
+            parse(tableReader);
+        } catch (IOException e) {
+            throw new TableNotReadable(e);
+        }
+    }
+
     private ExamplesTable(ExamplesTable other, Row defaults) {
         this.data.addAll(other.data);
         this.tableAsString = other.tableAsString;
@@ -252,31 +291,92 @@ public class ExamplesTable {
         if (transformer != null) {
             tableAsString = this.tableTransformers.transform(transformer, tableAsString, this.properties);
         }
-        parseByRows(this.headers, this.data, tableAsString);
+        parseByRows(tableAsString);
     }
 
-    private void parseByRows(List<String> headers, List<Map<String, String>> data, String tableAsString) {
-        String[] rows = tableAsString.split(ROW_SEPARATOR);
-        for (int row = 0; row < rows.length; row++) {
-            String rowAsString = rows[row];
-            if (rowAsString.startsWith(this.properties.getProperty("ignorableSeparator")) || rowAsString.length() == 0) {
-                // skip ignorable or empty lines
-                continue;
-            } else if (headers.isEmpty()) {
-                headers.addAll(TableUtils.parseRow(rowAsString, this.properties.getProperty("headerSeparator"),
-                        this.properties.getProperty("commentSeparator"), this.trim));
+    private void parseByRows(String tableAsString) {
+        for (String rowAsString : tableAsString.split(ROW_SEPARATOR)) {
+            parseRow(rowAsString);
+        }
+    }
+
+    private void parseRow(String rowAsString) {
+        if (rowAsString.startsWith(this.properties.getProperty("ignorableSeparator")) || rowAsString.length() == 0) {
+            // skip ignorable or empty lines
+            return;
+        } else if (this.headers.isEmpty()) {
+            this.headers.addAll(TableUtils.parseRow(rowAsString, this.properties.getProperty("headerSeparator"),
+                    this.properties.getProperty("commentSeparator"), this.trim));
+            this.columns = new Columns(this.headers);
+        } else {
+            List<String> values = TableUtils.parseRow(rowAsString, this.properties.getProperty("valueSeparator"),
+                    this.properties.getProperty("commentSeparator"), this.trim);
+            this.data.add(new ColumnarRow(this.columns, values));
+        }
+    }
+
+    private void parse(Reader tableReader) throws IOException {
+        TableReader reader = new TableReader(tableReader);
+        reader.skipWhitespace();
+        String tableStart = EMPTY_VALUE;
+        if (reader.skip('{')) {
+            String properties = reader.readUntil('}');
+            if (!properties.endsWith("}")) {
+                // not properties after all, as in stripProperties()
+                tableStart = "{" + properties;
             } else {
-                List<String> columns = TableUtils.parseRow(rowAsString, this.properties.getProperty("valueSeparator"),
-                        this.properties.getProperty("commentSeparator"), this.trim);
-                Map<String, String> map = new LinkedHashMap<String, String>();
-                for (int column = 0; column < columns.size(); column++) {
-                    if (column < headers.size()) {
-                        map.put(headers.get(column), columns.get(column));
-                    }
+                this.propertiesAsString = properties.substring(0, properties.length() - 1);
+                reader.skipWhitespace();
+            }
+        }
+        parseProperties(this.propertiesAsString);
+        this.trim = parseBoolean(this.properties.getProperty("trim", "true"));
+        String transformer = this.properties.getProperty("transformer");
+        if (tableStart.length() > 0
+                || (transformer != null && !this.tableTransformers.transformsRows(transformer, this.properties))) {
+            parseTable((tableStart + reader.readRemaining()).trim());
+            return;
+        }
+        this.headers.clear();
+        this.data.clear();
+        // rows are parsed as if the table had been trimmed, i.e. the last
+        // non-blank row is trimmed and the blank rows following it ignored
+        String lastRow = null;
+        List<String> blankRows = new ArrayList<String>();
+        String rowAsString;
+        while ((rowAsString = reader.readRow()) != null) {
+            if (rowAsString.trim().length() == 0) {
+                blankRows.add(rowAsString);
+                continue;
+            }
+            if (lastRow != null) {
+                parseRow(lastRow, transformer);
+                for (String blankRow : blankRows) {
+                    parseRow(blankRow, transformer);
                 }
-                data.add(map);
             }
+            blankRows.clear();
+            lastRow = rowAsString;
+        }
+        if (lastRow != null) {
+            parseRow(trimEnd(lastRow), transformer);
+        }
+    }
+
+    private void parseRow(String rowAsString, String transformer) {
+        if (transformer == null) {
+            parseRow(rowAsString);
+        } else {
+            parseByRows(this.tableTransformers.transformRow(transformer, rowAsString, this.properties));
+        }
+    }
+
+    private static String trimEnd(String value) {
+        int end = value.length();
+        while (end > 0 && value.charAt(end - 1) <= ' ') {
+            end--;
         }
+        return value.substring(0, end);
     }
 
     public ExamplesTable withDefaults(Parameters defaults) {
@@ -388,48 +488,128 @@ public class ExamplesTable {
     public <T> List<T> getRowsAs(Class<T> type, Map<String, String> fieldNameMapping) {
         List<T> rows = new ArrayList<T>();
 
-        for (Parameters parameters : getRowsAsParameters()) {
-            rows.add(mapToType(parameters, type, fieldNameMapping));
+        for (T row : iterateRowsAs(type, fieldNameMapping)) {
+            rows.add(row);
         }
 
         return rows;
     }
 
-    private <T> T mapToType(Parameters parameters, Class<T> type, Map<String, String> fieldNameMapping) {
-        try {
-            T instance = type.newInstance();
-            Map<String, String> values = parameters.values();
-            for (String name : values.keySet()) {
-                Field field = findField(type, name, fieldNameMapping);
-                Type fieldType = field.getGenericType();
-                Object value = parameters.valueAs(name, fieldType);
-                field.setAccessible(true);
-                field.set(instance, value);
+    public <T> Iterable<T> iterateRowsAs(Class<T> type) {
+        return iterateRowsAs(type, new HashMap<String, String>());
+    }
+
+    /**
+     * Returns the rows mapped to the type, each row being mapped only when it
+     * is iterated, so that the rows of large tables need not all be held in
+     * memory at once. The fields of the type bound to the table columns are
+     * looked up once per type and field name mapping, and reused by all the
+     * iterations of the table mapping the rows to the same type.
+     *
+     * @param type             the Class of the mapped rows
+     * @param fieldNameMapping the Map of field names by column name
+     * @return The Iterable of the mapped rows
+     */
+    public <T> Iterable<T> iterateRowsAs(final Class<T> type, final Map<String, String> fieldNameMapping) {
+        return new Iterable<T>() {
+            public Iterator<T> iterator() {
+                final FieldBinding<T> binding = fieldBinding(type, fieldNameMapping);
+                return new Iterator<T>() {
+                    private int row = 0;
+
+                    public boolean hasNext() {
+                        return row < getRowCount();
+                    }
+
+                    public T next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        return binding.mapToType(getRowAsParameters(row++));
+                    }
+
+                    public void remove() {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> FieldBinding<T> fieldBinding(Class<T> type, Map<String, String> fieldNameMapping) {
+        Map<String, String> mapping = new HashMap<String, String>(fieldNameMapping);
+        Entry<Class<?>, Map<String, String>> key = new SimpleImmutableEntry<Class<?>, Map<String, String>>(type,
+                mapping);
+        FieldBinding<?> binding = fieldBindings.get(key);
+        if (binding == null) {
+            binding = new FieldBinding<T>(type, mapping);
+            FieldBinding<?> existing = fieldBindings.putIfAbsent(key, binding);
+            if (existing != null) {
+                binding = existing;
+            }
+        }
+        return (FieldBinding<T>) binding;
+    }
+
+    /**
+     * Binds the values of the rows to the fields of a type, resolving the field
+     * of each column, and making it accessible, only the first time the column
+     * is mapped.
+     */
+    private static class FieldBinding<T> {
+        private final Class<T> type;
+        private final Map<String, String> fieldNameMapping;
+        private final ConcurrentMap<String, Field> fields = new ConcurrentHashMap<String, Field>();
+
+        private FieldBinding(Class<T> type, Map<String, String> fieldNameMapping) {
+            this.type = type;
+            this.fieldNameMapping = fieldNameMapping;
+        }
+
+        private T mapToType(Parameters parameters) {
+            try {
+                T instance = type.newInstance();
+                Map<String, String> values = parameters.values();
+                for (String name : values.keySet()) {
+                    Field field = field(name);
+                    Object value = parameters.valueAs(name, field.getGenericType());
+                    field.set(instance, value);
+                }
+                return instance;
+            } catch (Exception e) {
+                throw new ParametersNotMappableToType(parameters, type, e);
             }
-            return instance;
-        } catch (Exception e) {
-            throw new ParametersNotMappableToType(parameters, type, e);
         }
-    }
 
-    private <T> Field findField(Class<T> type, String name, Map<String, String> fieldNameMapping)
-            throws NoSuchFieldException {
-        // Get field name from mapping, if specified
-        String fieldName = fieldNameMapping.get(name);
-        if (fieldName == null) {
-            fieldName = name;
+        private Field field(String name) throws NoSuchFieldException {
+            Field field = fields.get(name);
+            if (field == null) {
+                field = findField(name);
+                field.setAccessible(true);
+                fields.put(name, field);
+            }
+            return field;
         }
-        // First look for fields annotated by @Parameter specifying the name
-        for (Field field : type.getDeclaredFields()) {
-            if (field.isAnnotationPresent(Parameter.class)) {
-                Parameter parameter = field.getAnnotation(Parameter.class);
-                if (fieldName.equals(parameter.name())) {
-                    return field;
+
+        private Field findField(String name) throws NoSuchFieldException {
+            // Get field name from mapping, if specified
+            String fieldName = fieldNameMapping.get(name);
+            if (fieldName == null) {
+                fieldName = name;
+            }
+            // First look for fields annotated by @Parameter specifying the name
+            for (Field field : type.getDeclaredFields()) {
+                if (field.isAnnotationPresent(Parameter.class)) {
+                    Parameter parameter = field.getAnnotation(Parameter.class);
+                    if (fieldName.equals(parameter.name())) {
+                        return field;
+                    }
                 }
             }
+            // Default to field matching given name
+            return type.getDeclaredField(fieldName);
         }
-        // Default to field matching given name
-        return type.getDeclaredField(fieldName);
     }
 
     private Parameters createParameters(Map<String, String> values) {
@@ -480,6 +660,252 @@ public class ExamplesTable {
         return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
     }
 
+    /**
+     * Reads a table one row at a time, rows being separated as by
+     * {@link #ROW_SEPARATOR}.
+     */
+    private static class TableReader {
+
+        private final BufferedReader reader;
+
+        private TableReader(Reader reader) {
+            this.reader = new BufferedReader(reader);
+        }
+
+        void skipWhitespace() throws IOException {
+            int c;
+            do {
+                reader.mark(1);
+                c = reader.read();
+            } while (c != -1 && c <= ' ');
+            reader.reset();
+        }
+
+        boolean skip(char expected) throws IOException {
+            reader.mark(1);
+            if (reader.read() == expected) {
+                return true;
+            }
+            reader.reset();
+            return false;
+        }
+
+        String readUntil(char terminator) throws IOException {
+            StringBuilder builder = new StringBuilder();
+            int c;
+            while ((c = reader.read()) != -1) {
+                builder.append((char) c);
+                if (c == terminator) {
+                    break;
+                }
+            }
+            return builder.toString();
+        }
+
+        String readRow() throws IOException {
+            StringBuilder builder = new StringBuilder();
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            while (c != -1 && c != '\n') {
+                builder.append((char) c);
+                c = reader.read();
+            }
+            int length = builder.length();
+            if (c == '\n' && length > 0 && builder.charAt(length - 1) == '\r') {
+                builder.setLength(length - 1);
+            }
+            return builder.toString();
+        }
+
+        String readRemaining() throws IOException {
+            return IOUtils.toString(reader);
+        }
+    }
+
+    /**
+     * The columns of the parsed rows, holding each header once for all rows,
+     * by the slot of its value in the rows. Repeated headers share the same
+     * slot, the value of the last column taking precedence.
+     */
+    private static class Columns {
+        private final List<String> headers;
+        private final List<Integer> slots;
+        private final Map<String, Integer> slotsByHeader = new HashMap<String, Integer>();
+
+        private Columns(List<String> parsedHeaders) {
+            this.headers = new ArrayList<String>();
+            this.slots = new ArrayList<Integer>();
+            for (String header : parsedHeaders) {
+                Integer slot = slotsByHeader.get(header);
+                if (slot == null) {
+                    slot = headers.size();
+                    slotsByHeader.put(header, slot);
+                    headers.add(header);
+                }
+                slots.add(slot);
+            }
+        }
+
+        private Integer slotOf(Object header) {
+            return slotsByHeader.get(header);
+        }
+    }
+
+    /**
+     * A parsed row, storing its values in an array indexed by the slots of the
+     * columns shared by all rows of the table, rather than in a map of its own.
+     * Headers that are not columns of the table, e.g. added via
+     * {@link ExamplesTable#withRowValues(int, Map)}, are kept in a separate
+     * map. The row iterates its values in the order of the columns.
+     */
+    public static class ColumnarRow extends AbstractMap<String, String> {
+        private final Columns columns;
+        private final String[] values;
+        private Map<String, String> others;
+        private final Set<Entry<String, String>> entrySet = new EntrySet();
+
+        private ColumnarRow(Columns columns, List<String> values) {
+            this.columns = columns;
+            this.values = new String[columns.headers.size()];
+            for (int column = 0; column < values.size() && column < columns.slots.size(); column++) {
+                this.values[columns.slots.get(column)] = values.get(column);
+            }
+        }
+
+        @Override
+        public String get(Object key) {
+            Integer slot = columns.slotOf(key);
+            if (slot != null && values[slot] != null) {
+                return values[slot];
+            }
+            return others != null ? others.get(key) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            Integer slot = columns.slotOf(key);
+            if (slot != null && values[slot] != null) {
+                return true;
+            }
+            return others != null && others.containsKey(key);
+        }
+
+        @Override
+        public String put(String key, String value) {
+            Integer slot = columns.slotOf(key);
+            if (slot != null && value != null) {
+                String previous = get(key);
+                values[slot] = value;
+                if (others != null) {
+                    others.remove(key);
+                }
+                return previous;
+            }
+            if (others == null) {
+                others = new LinkedHashMap<String, String>();
+            }
+            String previous = get(key);
+            if (slot != null) {
+                values[slot] = null;
+            }
+            others.put(key, value);
+            return previous;
+        }
+
+        @Override
+        public String remove(Object key) {
+            String previous = get(key);
+            Integer slot = columns.slotOf(key);
+            if (slot != null) {
+                values[slot] = null;
+            }
+            if (others != null) {
+                others.remove(key);
+            }
+            return previous;
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            return entrySet;
+        }
+
+        private class EntrySet extends AbstractSet<Entry<String, String>> {
+
+            @Override
+            public Iterator<Entry<String, String>> iterator() {
+                return new Iterator<Entry<String, String>>() {
+                    private int slot = nextSlot(0);
+                    private Iterator<Entry<String, String>> othersIterator;
+                    private String lastKey;
+
+                    private int nextSlot(int from) {
+                        int next = from;
+                        while (next < values.length && values[next] == null) {
+                            next++;
+                        }
+                        return next;
+                    }
+
+                    public boolean hasNext() {
+                        if (slot < values.length) {
+                            return true;
+                        }
+                        return others().hasNext();
+                    }
+
+                    public Entry<String, String> next() {
+                        if (slot < values.length) {
+                            final int current = slot;
+                            slot = nextSlot(slot + 1);
+                            lastKey = columns.headers.get(current);
+                            return new SimpleEntry<String, String>(lastKey, values[current]) {
+                                @Override
+                                public String setValue(String value) {
+                                    super.setValue(value);
+                                    return put(getKey(), value);
+                                }
+                            };
+                        }
+                        Entry<String, String> entry = others().next();
+                        lastKey = null;
+                        return entry;
+                    }
+
+                    public void remove() {
+                        if (lastKey != null) {
+                            values[columns.slotOf(lastKey)] = null;
+                            lastKey = null;
+                        } else {
+                            others().remove();
+                        }
+                    }
+
+                    private Iterator<Entry<String, String>> others() {
+                        if (othersIterator == null) {
+                            Map<String, String> empty = Collections.emptyMap();
+                            othersIterator = (others != null ? others : empty).entrySet().iterator();
+                        }
+                        return othersIterator;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                int size = others != null ? others.size() : 0;
+                for (String value : values) {
+                    if (value != null) {
+                        size++;
+                    }
+                }
+                return size;
+            }
+        }
+    }
+
     public static class RowNotFound extends RuntimeException {
 
         public RowNotFound(int row) {
@@ -488,6 +914,14 @@ public class ExamplesTable {
 
     }
 
+    public static class TableNotReadable extends RuntimeException {
+
+        public TableNotReadable(IOException e) {
+            super(e);
+        }
+
+    }
+
     public static class ParametersNotMappableToType extends RuntimeException {
 
         public ParametersNotMappableToType(Parameters parameters, Class<?> type, Exception e) {
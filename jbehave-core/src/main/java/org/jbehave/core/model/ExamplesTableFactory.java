@@ -5,8 +5,12 @@ import org.jbehave.core.configuration.Keywords;
 import org.jbehave.core.i18n.LocalizedKeywords;
 import org.jbehave.core.io.LoadFromClasspath;
 import org.jbehave.core.io.ResourceLoader;
+import org.jbehave.core.io.StreamingResourceLoader;
 import org.jbehave.core.steps.ParameterConverters;
 
+import java.io.IOException;
+import java.io.Reader;
+
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
 /**
@@ -16,7 +20,8 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
  * <li>table text input, i.e. any input that contains a
  * {@link Keywords#examplesTableHeaderSeparator()}</li>
  * <li>resource path input, the table as text is loaded via the
- * {@link ResourceLoader} (defaulting to {@link LoadFromClasspath}).</li>
+ * {@link ResourceLoader} (defaulting to {@link LoadFromClasspath}), or read
+ * row by row if the loader is a {@link StreamingResourceLoader}.</li>
  * </ul>
  * Factory also supports optional specification of {@link ParameterConverters}
  * to allow the ExamplesTable to convert row values.
@@ -79,6 +84,15 @@ public class ExamplesTableFactory {
         String tableAsString;
         if (isBlank(input) || isTable(input)) {
             tableAsString = input;
+        } else if (resourceLoader instanceof StreamingResourceLoader) {
+            Reader reader = ((StreamingResourceLoader) resourceLoader).loadResourceAsReader(input);
+            try {
+                return new ExamplesTable(reader, keywords.examplesTableHeaderSeparator(),
+                        keywords.examplesTableValueSeparator(), keywords.examplesTableIgnorableSeparator(),
+                        parameterConverters, tableTransformers);
+            } finally {
+                close(reader);
+            }
         } else {
             tableAsString = resourceLoader.loadResourceAsText(input);
         }
@@ -87,6 +101,14 @@ public class ExamplesTableFactory {
                 parameterConverters, tableTransformers);
     }
 
+    private void close(Reader reader) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            // ignore failure to close
+        }
+    }
+
     protected boolean isTable(String input) {
         return input.contains(keywords.examplesTableHeaderSeparator());
     }
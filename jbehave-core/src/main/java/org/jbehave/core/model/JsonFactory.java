@@ -1,14 +1,27 @@
 package org.jbehave.core.model;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import org.jbehave.core.configuration.Configuration;
 import org.jbehave.core.configuration.Keywords;
 import org.jbehave.core.i18n.LocalizedKeywords;
 import org.jbehave.core.io.LoadFromClasspath;
 import org.jbehave.core.io.ResourceLoader;
+import org.jbehave.core.io.StreamingResourceLoader;
 import org.jbehave.core.steps.ParameterConverters;
 
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
@@ -17,6 +30,8 @@ public class JsonFactory {
     private final ResourceLoader resourceLoader;
     private final ParameterConverters parameterConverters;
     private Keywords keywords;
+    private Gson gson = new Gson();
+    private ConcurrentMap<Type, TypeAdapter<?>> typeAdapters = new ConcurrentHashMap<Type, TypeAdapter<?>>();
 
     public JsonFactory() {
         this(new LocalizedKeywords());
@@ -48,19 +63,100 @@ public class JsonFactory {
     }
 
     public Object createJson(final String input, final Type type) {
-        String jsonAsString;
+        if (input == null) {
+            return null;
+        }
         if (isBlank(input) || isJson(input)) {
-            jsonAsString = input;
-        } else {
-            jsonAsString = resourceLoader.loadResourceAsText(input);
+            return createJson(new StringReader(input), type);
+        }
+        if (resourceLoader instanceof StreamingResourceLoader) {
+            Reader reader = ((StreamingResourceLoader) resourceLoader).loadResourceAsReader(input);
+            try {
+                return createJson(reader, type);
+            } finally {
+                close(reader);
+            }
+        }
+        return createJson(new StringReader(resourceLoader.loadResourceAsText(input)), type);
+    }
+
+    /**
+     * Creates the JSON object of the given type, reading the JSON from the
+     * Reader, which is left open. The same conversion rules as
+     * {@link Gson#fromJson(Reader, Type)} apply.
+     *
+     * @param reader the Reader of the JSON
+     * @param type   the Type of the JSON object
+     * @return The JSON object or <code>null</code> if the JSON is empty
+     */
+    public Object createJson(final Reader reader, final Type type) {
+        JsonReader jsonReader = new JsonReader(reader);
+        jsonReader.setLenient(true);
+        Object json;
+        try {
+            jsonReader.peek();
+        } catch (EOFException e) {
+            return null;
+        } catch (IOException e) {
+            throw new JsonSyntaxException(e);
+        }
+        try {
+            json = typeAdapter(type).read(jsonReader);
+            if (jsonReader.peek() != JsonToken.END_DOCUMENT) {
+                throw new JsonIOException("JSON document was not fully consumed.");
+            }
+        } catch (IllegalStateException e) {
+            throw new JsonSyntaxException(e);
+        } catch (IOException e) {
+            throw new JsonSyntaxException(e);
+        }
+        return json;
+    }
+
+    /**
+     * Returns the {@link TypeAdapter} of the type, looked up from the Gson
+     * instance only the first time the type is created.
+     *
+     * @param type the Type
+     * @return The TypeAdapter
+     */
+    private TypeAdapter<?> typeAdapter(final Type type) {
+        TypeAdapter<?> typeAdapter = typeAdapters.get(type);
+        if (typeAdapter == null) {
+            typeAdapter = gson.getAdapter(TypeToken.get(type));
+            typeAdapters.putIfAbsent(type, typeAdapter);
+        }
+        return typeAdapter;
+    }
+
+    private void close(final Reader reader) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            // ignore failure to close
         }
-        return new Gson().fromJson(jsonAsString, type);
     }
 
     protected boolean isJson(final String input) {
         return (input.startsWith("[") && input.endsWith("]")) || (input.startsWith("{") && input.endsWith("}"));
     }
 
+    /**
+     * Uses a Gson instance, for example configured with custom type adapters,
+     * to create the JSON objects. Gson instances are thread-safe and the same
+     * one is used for all conversions.
+     *
+     * @param gson the Gson
+     */
+    public void useGson(final Gson gson) {
+        this.gson = gson;
+        this.typeAdapters = new ConcurrentHashMap<Type, TypeAdapter<?>>();
+    }
+
+    public Gson gson() {
+        return this.gson;
+    }
+
     public void useKeywords(final Keywords keywords) {
         this.keywords = keywords;
     }
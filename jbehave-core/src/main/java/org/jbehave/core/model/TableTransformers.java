@@ -49,6 +49,33 @@ public class TableTransformers {
         return tableAsString;
     }
 
+    /**
+     * Determines if the named transformer can transform the table row by row,
+     * i.e. if transforming each row yields the same table as transforming
+     * the table as a whole.  Unknown transformers leave tables unchanged and
+     * hence also transform rows.
+     * 
+     * @param transformerName the name of the transformer
+     * @param properties the table properties
+     * @return A boolean, <code>true</code> if the rows can be transformed
+     *         one at a time
+     */
+    public boolean transformsRows(String transformerName, Properties properties) {
+        TableTransformer transformer = transformers.get(transformerName);
+        if (transformer == null) {
+            return true;
+        }
+        return transformer instanceof RowTransformer && ((RowTransformer) transformer).transformsRows(properties);
+    }
+
+    public String transformRow(String transformerName, String rowAsString, Properties properties) {
+        TableTransformer transformer = transformers.get(transformerName);
+        if (transformer instanceof RowTransformer) {
+            return ((RowTransformer) transformer).transformRow(rowAsString, properties);
+        }
+        return rowAsString;
+    }
+
     public void useTransformer(String name, TableTransformer transformer) {
         transformers.put(name, transformer);
     }
@@ -57,6 +84,17 @@ public class TableTransformers {
         String transform(String tableAsString, Properties properties);
     }
 
+    /**
+     * A {@link TableTransformer} that can also transform a table one row at a
+     * time, allowing tables to be transformed as they are read.
+     */
+    public interface RowTransformer extends TableTransformer {
+
+        boolean transformsRows(Properties properties);
+
+        String transformRow(String rowAsString, Properties properties);
+    }
+
     public static class FromLandscape implements TableTransformer {
 
         private static final String ROW_SEPARATOR = "\n";
@@ -194,7 +232,16 @@ public class TableTransformers {
 
     }
 
-    public static class Replacing implements TableTransformer {
+    public static class Replacing implements RowTransformer {
+
+        public boolean transformsRows(Properties properties) {
+            String replacing = properties.getProperty("replacing");
+            return replacing == null || !(replacing.contains("\n") || replacing.contains("\r"));
+        }
+
+        public String transformRow(String rowAsString, Properties properties) {
+            return transform(rowAsString, properties);
+        }
 
         public String transform(String tableAsString, Properties properties) {
             String replacing = properties.getProperty("replacing");
@@ -3,6 +3,7 @@ package org.jbehave.core.model;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class TableUtils {
@@ -12,12 +13,8 @@ public class TableUtils {
     }
 
     public static List<String> parseRow(String rowAsString, String separator, String commentSeparator, boolean trimValues) {
-        StringBuffer regex = new StringBuffer();
-        for (char c : separator.toCharArray()) {
-            regex.append("\\").append(c);
-        }
         List<String> values = new ArrayList<String>();
-        for (String value : rowAsString.split(regex.toString(), -1)) {
+        for (String value : split(rowAsString, separator)) {
             String stripped = StringUtils.substringBefore(value, commentSeparator);
             String trimmed = trimValues ? stripped.trim() : stripped;
             values.add(StringUtils.substringBefore(trimmed, commentSeparator));
@@ -33,4 +30,25 @@ public class TableUtils {
         return values;
     }
 
+    /**
+     * Splits the row around the literal separator, keeping empty values, as
+     * {@link String#split(String, int)} with a negative limit would, but
+     * without compiling a regex for each row.
+     */
+    private static List<String> split(String rowAsString, String separator) {
+        List<String> values = new ArrayList<String>();
+        if (separator.length() == 0) {
+            values.addAll(Arrays.asList(rowAsString.split("", -1)));
+            return values;
+        }
+        int start = 0;
+        int end;
+        while ((end = rowAsString.indexOf(separator, start)) != -1) {
+            values.add(rowAsString.substring(start, end));
+            start = end + separator.length();
+        }
+        values.add(rowAsString.substring(start));
+        return values;
+    }
+
 }
@@ -8,10 +8,14 @@ import java.util.regex.Pattern;
 
 public class RegexStepMatcher implements StepMatcher {
 
+    private static final String WHITESPACE = "\\s";
+    private static final String QUANTIFIERS = "?*+{";
+    private static final String METACHARACTERS = "[](){}.*+?^$|\\";
+
     private final Pattern regexPattern;
     private final String[] parameterNames;
     private final StepPattern stepPattern;
-    private Matcher matcher;
+    private final ThreadLocal<Matcher> matcher = new ThreadLocal<Matcher>();
 
     public RegexStepMatcher(StepType stepType, String annotatedPattern, Pattern regexPattern, String[] parameterNames) {
         this.regexPattern = regexPattern;
@@ -20,21 +24,54 @@ public class RegexStepMatcher implements StepMatcher {
     }
 
     public boolean matches(String stepWithoutStartingWord) {
-        matcher(stepWithoutStartingWord);
-        return matcher.matches();
+        return matcher(stepWithoutStartingWord).matches();
     }
 
     public boolean find(String stepWithoutStartingWord) {
-        matcher(stepWithoutStartingWord);
-        return matcher.find();
+        return matcher(stepWithoutStartingWord).find();
+    }
+
+    /**
+     * Finds the step pattern in the step, without changing the state of the
+     * matcher seen by other threads.
+     *
+     * @param stepWithoutStartingWord the step to match
+     * @return The StepMatchResult holding the matched parameters, or
+     * {@link StepMatchResult#NOT_FOUND}
+     */
+    public StepMatchResult findMatch(String stepWithoutStartingWord) {
+        Matcher matcher = matcher(stepWithoutStartingWord);
+        if (!matcher.find()) {
+            return StepMatchResult.NOT_FOUND;
+        }
+        String[] parameters = new String[matcher.groupCount() + 1];
+        for (int i = 0; i < parameters.length; i++) {
+            parameters[i] = matcher.group(i);
+        }
+        return new StepMatchResult(parameters);
     }
 
     public String parameter(int matchedPosition) {
+        Matcher matcher = this.matcher.get();
+        if (matcher == null) {
+            throw new IllegalStateException("No match found");
+        }
         return matcher.group(matchedPosition);
     }
 
-    private void matcher(String patternToMatch) {
-        matcher = regexPattern.matcher(patternToMatch);
+    /**
+     * Returns the matcher of the current thread, which is reused for each match
+     * by the thread.
+     */
+    private Matcher matcher(String patternToMatch) {
+        Matcher matcher = this.matcher.get();
+        if (matcher == null) {
+            matcher = regexPattern.matcher(patternToMatch);
+            this.matcher.set(matcher);
+        } else {
+            matcher.reset(patternToMatch);
+        }
+        return matcher;
     }
 
     public String[] parameterNames() {
@@ -44,4 +81,69 @@ public class RegexStepMatcher implements StepMatcher {
     public StepPattern pattern() {
         return stepPattern;
     }
+
+    /**
+     * Returns the literal text that any step matching the regex pattern must
+     * start with, in which a single space stands for a run of one or more
+     * whitespace characters. The prefix stops at the first construct which is
+     * not a plain or escaped literal character, e.g. a parameter capturing
+     * group, and is empty if the pattern uses alternatives or flags other than
+     * {@link Pattern#DOTALL}.
+     *
+     * @return The literal prefix, possibly empty
+     */
+    public String literalPrefix() {
+        String regex = regexPattern.pattern();
+        if ((regexPattern.flags() & ~Pattern.DOTALL) != 0 || hasAlternatives(regex)) {
+            return "";
+        }
+        StringBuilder prefix = new StringBuilder();
+        int i = 0;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            if (regex.startsWith(WHITESPACE + "+", i)) {
+                i += WHITESPACE.length() + 1;
+                if (followedByQuantifier(regex, i - 1) || prefix.length() == 0
+                        || prefix.charAt(prefix.length() - 1) == ' ') {
+                    break;
+                }
+                prefix.append(' ');
+                continue;
+            }
+            char literal;
+            int next;
+            if (c == '\\' && i + 1 < regex.length() && !Character.isLetterOrDigit(regex.charAt(i + 1))) {
+                literal = regex.charAt(i + 1);
+                next = i + 2;
+            } else if (METACHARACTERS.indexOf(c) < 0) {
+                literal = c;
+                next = i + 1;
+            } else {
+                break;
+            }
+            if (Character.isWhitespace(literal) || followedByQuantifier(regex, next - 1)) {
+                break;
+            }
+            prefix.append(literal);
+            i = next;
+        }
+        return prefix.toString();
+    }
+
+    private boolean hasAlternatives(String regex) {
+        for (int i = 0; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '|') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean followedByQuantifier(String regex, int end) {
+        return end + 1 < regex.length() && QUANTIFIERS.indexOf(regex.charAt(end + 1)) >= 0;
+    }
+
 }
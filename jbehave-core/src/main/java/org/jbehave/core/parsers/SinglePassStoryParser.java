@@ -0,0 +1,565 @@
+package org.jbehave.core.parsers;
+
+import org.apache.commons.lang3.StringUtils;
+import org.jbehave.core.annotations.AfterScenario.Outcome;
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.i18n.LocalizedKeywords;
+import org.jbehave.core.model.Description;
+import org.jbehave.core.model.ExamplesTable;
+import org.jbehave.core.model.ExamplesTableFactory;
+import org.jbehave.core.model.GivenStories;
+import org.jbehave.core.model.Lifecycle;
+import org.jbehave.core.model.Lifecycle.Steps;
+import org.jbehave.core.model.Meta;
+import org.jbehave.core.model.Narrative;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.Arrays.asList;
+import static java.util.regex.Pattern.DOTALL;
+import static java.util.regex.Pattern.compile;
+import static org.apache.commons.lang3.StringUtils.removeStart;
+
+/**
+ * <p>
+ * Story parser which tokenises the textual story line by line, in a single
+ * pass, into the same {@link Story} as the {@link RegexStoryParser}, using the
+ * keywords provided.
+ * </p>
+ * <p>
+ * Unlike the {@link RegexStoryParser}, which matches several patterns against
+ * the whole text of the story, the keywords delimiting the elements of the
+ * story are only recognised at the start of lines, so that parsing stays
+ * linear in the length of the story, however long its scenarios and examples
+ * tables.
+ * </p>
+ */
+public class SinglePassStoryParser implements StoryParser {
+
+    private static final String NONE = "";
+    private static final String NL = "\n";
+    private final Keywords keywords;
+    private final ExamplesTableFactory tableFactory;
+    private final String[] startingWords;
+    private final Pattern findingNarrativeElements;
+    private final Pattern findingAlternativeNarrativeElements;
+    private final Pattern findingLifecycleOutcome;
+    private final Pattern findingLifecycleFilters;
+
+    public SinglePassStoryParser() {
+        this(new LocalizedKeywords());
+    }
+
+    public SinglePassStoryParser(Keywords keywords) {
+        this(keywords, new ExamplesTableFactory(keywords));
+    }
+
+    public SinglePassStoryParser(ExamplesTableFactory tableFactory) {
+        this(tableFactory.keywords(), tableFactory);
+    }
+
+    public SinglePassStoryParser(Keywords keywords, ExamplesTableFactory tableFactory) {
+        this.keywords = keywords;
+        this.tableFactory = tableFactory;
+        // must ensure that both are using same keywords
+        this.tableFactory.useKeywords(keywords);
+        this.startingWords = keywords.startingWords();
+        this.findingNarrativeElements = findingNarrativeElements();
+        this.findingAlternativeNarrativeElements = findingAlternativeNarrativeElements();
+        this.findingLifecycleOutcome = findingLifecycleOutcome();
+        this.findingLifecycleFilters = findingLifecycleFilters();
+    }
+
+    public SinglePassStoryParser(Configuration configuration) {
+        this(configuration.keywords(), new ExamplesTableFactory(configuration));
+    }
+
+    public Story parseStory(String storyAsText) {
+        return parseStory(storyAsText, null);
+    }
+
+    public Story parseStory(String storyAsText, String storyPath) {
+        List<String> lines = linesOf(storyAsText);
+        StoryElements elements = new StoryElements();
+        for (int line = 0; line < lines.size(); line++) {
+            elements.add(lines.get(line), line);
+        }
+        Description description = parseDescription(lines, elements);
+        Meta meta = parseStoryMeta(lines, elements);
+        Narrative narrative = parseNarrative(lines, elements);
+        GivenStories givenStories = parseGivenStories(lines, elements);
+        Lifecycle lifecycle = parseLifecycle(lines, elements);
+        List<Scenario> scenarios = parseScenarios(lines, elements);
+        Story story = new Story(storyPath, description, meta, narrative, givenStories, lifecycle, scenarios);
+        if (storyPath != null) {
+            story.namedAs(new File(storyPath).getName());
+        }
+        return story;
+    }
+
+    private Description parseDescription(List<String> lines, StoryElements elements) {
+        if (elements.descriptionEnd < 0) {
+            return Description.EMPTY;
+        }
+        return new Description(join(lines, 0, elements.descriptionEnd).trim());
+    }
+
+    private Meta parseStoryMeta(List<String> lines, StoryElements elements) {
+        if (elements.metaStart < 0) {
+            return Meta.EMPTY;
+        }
+        int end = elements.metaEnd >= 0 ? elements.metaEnd : elements.preScenarioEnd(lines.size());
+        String meta = textAfter(lines, elements.metaStart, keywords.meta(), end).trim();
+        return Meta.createMeta(meta, keywords);
+    }
+
+    private Narrative parseNarrative(List<String> lines, StoryElements elements) {
+        if (elements.narrativeEnd < 0) {
+            return Narrative.EMPTY;
+        }
+        String narrative = textAfter(lines, elements.narrativeStart, keywords.narrative(), elements.narrativeEnd)
+                .trim();
+        Matcher findingElements = findingNarrativeElements.matcher(narrative);
+        if (findingElements.matches()) {
+            String inOrderTo = findingElements.group(1).trim();
+            String asA = findingElements.group(2).trim();
+            String iWantTo = findingElements.group(3).trim();
+            return new Narrative(inOrderTo, asA, iWantTo);
+        }
+        Matcher findingAlternativeElements = findingAlternativeNarrativeElements.matcher(narrative);
+        if (findingAlternativeElements.matches()) {
+            String asA = findingAlternativeElements.group(1).trim();
+            String iWantTo = findingAlternativeElements.group(2).trim();
+            String soThat = findingAlternativeElements.group(3).trim();
+            return new Narrative("", asA, iWantTo, soThat);
+        }
+        return Narrative.EMPTY;
+    }
+
+    private GivenStories parseGivenStories(List<String> lines, StoryElements elements) {
+        // only given stories before the first scenario
+        if (elements.scenarioStarts.isEmpty() || elements.givenStoriesStart < 0) {
+            return new GivenStories(NONE);
+        }
+        int end = elements.givenStoriesEnd >= 0 ? elements.givenStoriesEnd : elements.preScenarioEnd(lines.size());
+        return new GivenStories(textAfter(lines, elements.givenStoriesStart, keywords.givenStories(), end).trim());
+    }
+
+    private Lifecycle parseLifecycle(List<String> lines, StoryElements elements) {
+        // only lifecycle before the first scenario
+        if (elements.scenarioStarts.isEmpty() || elements.lifecycleStart < 0) {
+            return Lifecycle.EMPTY;
+        }
+        String lifecycle = textAfter(lines, elements.lifecycleStart, keywords.lifecycle(),
+                elements.preScenarioEnd(lines.size())).trim();
+        String before = keywords.before();
+        String after = keywords.after();
+        int afterStart = lifecycle.lastIndexOf(after);
+        int beforeStart = afterStart >= 0 ? lifecycle.lastIndexOf(before, afterStart - before.length()) : -1;
+        if (afterStart >= 0 && beforeStart >= 0) {
+            Steps beforeSteps = parseBeforeLifecycle(lifecycle.substring(beforeStart + before.length(), afterStart));
+            Steps[] afterSteps = parseAfterLifecycle(lifecycle.substring(afterStart + after.length()));
+            return new Lifecycle(beforeSteps, afterSteps);
+        }
+        beforeStart = lifecycle.lastIndexOf(before);
+        if (beforeStart >= 0) {
+            Steps beforeSteps = parseBeforeLifecycle(lifecycle.substring(beforeStart + before.length()));
+            return new Lifecycle(beforeSteps, new Steps(new ArrayList<String>()));
+        }
+        if (afterStart >= 0) {
+            Steps[] afterSteps = parseAfterLifecycle(lifecycle.substring(afterStart + after.length()));
+            return new Lifecycle(Steps.EMPTY, afterSteps);
+        }
+        return Lifecycle.EMPTY;
+    }
+
+    private Steps parseBeforeLifecycle(String lifecycleAsText) {
+        return new Steps(findSteps(linesOf(lifecycleAsText.trim())));
+    }
+
+    private Steps[] parseAfterLifecycle(String lifecycleAsText) {
+        List<Steps> list = new ArrayList<Steps>();
+        for (String byOutcome : StringUtils.splitByWholeSeparatorPreserveAllTokens(lifecycleAsText.trim(),
+                keywords.outcome())) {
+            byOutcome = byOutcome.trim();
+            if (byOutcome.isEmpty()) continue;
+            String outcomeAsText = findOutcome(byOutcome);
+            String filtersAsText = findFilters(removeStart(byOutcome, outcomeAsText));
+            List<String> steps = findSteps(linesOf(removeStart(byOutcome, filtersAsText)));
+            list.add(new Steps(parseOutcome(outcomeAsText), parseFilters(filtersAsText), steps));
+        }
+        return list.toArray(new Steps[list.size()]);
+    }
+
+    private String findOutcome(String stepsByOutcome) {
+        Matcher findingOutcome = findingLifecycleOutcome.matcher(stepsByOutcome);
+        if (findingOutcome.matches()) {
+            return findingOutcome.group(1).trim();
+        }
+        return keywords.outcomeAny();
+    }
+
+    private Outcome parseOutcome(String outcomeAsText) {
+        if (outcomeAsText.equals(keywords.outcomeSuccess())) {
+            return Outcome.SUCCESS;
+        } else if (outcomeAsText.equals(keywords.outcomeFailure())) {
+            return Outcome.FAILURE;
+        }
+        return Outcome.ANY;
+    }
+
+    private String findFilters(String stepsByFilters) {
+        Matcher findingFilters = findingLifecycleFilters.matcher(stepsByFilters.trim());
+        if (findingFilters.matches()) {
+            return findingFilters.group(1).trim();
+        }
+        return NONE;
+    }
+
+    private String parseFilters(String filtersAsText) {
+        return removeStart(filtersAsText, keywords.metaFilter()).trim();
+    }
+
+    private List<Scenario> parseScenarios(List<String> lines, StoryElements elements) {
+        List<Scenario> scenarios = new ArrayList<Scenario>();
+        if (elements.scenarioStarts.isEmpty()) {
+            // the whole story is a single scenario
+            addScenario(scenarios, lines);
+            return scenarios;
+        }
+        String scenarioKeyword = keywords.scenario();
+        for (int i = 0; i < elements.scenarioStarts.size(); i++) {
+            int start = elements.scenarioStarts.get(i);
+            int end = i + 1 < elements.scenarioStarts.size() ? elements.scenarioStarts.get(i + 1) : lines.size();
+            List<String> scenarioLines = new ArrayList<String>(lines.subList(start, end));
+            scenarioLines.set(0, lines.get(start).substring(keywordEnd(lines.get(start), scenarioKeyword)));
+            addScenario(scenarios, scenarioLines);
+        }
+        return scenarios;
+    }
+
+    private void addScenario(List<Scenario> scenarios, List<String> lines) {
+        if (join(lines, 0, lines.size()).trim().length() > 0) {
+            scenarios.add(parseScenario(lines));
+        }
+    }
+
+    private Scenario parseScenario(List<String> lines) {
+        int titleEnd = -1;
+        for (int line = 0; line < lines.size(); line++) {
+            if (startsWithStartingWord(lines.get(line)) || startsWithKeyword(lines.get(line), keywords.meta())) {
+                titleEnd = line;
+                break;
+            }
+        }
+        String title = titleEnd >= 0 ? join(lines, 0, titleEnd).trim() : NONE;
+        List<String> scenarioLines;
+        if (title.length() > 0) {
+            scenarioLines = trimEnd(lines.subList(titleEnd, lines.size()));
+        } else {
+            scenarioLines = trim(lines);
+        }
+        Meta meta = findScenarioMeta(scenarioLines);
+        ExamplesTable examplesTable = findExamplesTable(scenarioLines);
+        GivenStories givenStories = findScenarioGivenStories(scenarioLines);
+        if (givenStories.requireParameters()) {
+            givenStories.useExamplesTable(examplesTable);
+        }
+        List<String> steps = findSteps(scenarioLines);
+        return new Scenario(title, meta, givenStories, examplesTable, steps);
+    }
+
+    private Meta findScenarioMeta(List<String> lines) {
+        int start = -1;
+        int found = -1;
+        int end = -1;
+        for (int line = 0; line < lines.size(); line++) {
+            String text = lines.get(line);
+            if (startsWithKeyword(text, keywords.meta())) {
+                start = line;
+            } else if (start >= 0 && (startsWithKeyword(text, keywords.givenStories()) || startsWithStartingWord(text))) {
+                // meta only found if followed by given stories or steps
+                found = start;
+                end = line;
+                start = -1;
+            }
+        }
+        if (found < 0) {
+            return Meta.EMPTY;
+        }
+        return Meta.createMeta(textAfter(lines, found, keywords.meta(), end).trim(), keywords);
+    }
+
+    private ExamplesTable findExamplesTable(List<String> lines) {
+        String tableInput = NONE;
+        for (int line = 0; line < lines.size(); line++) {
+            if (lines.get(line).startsWith(keywords.examplesTable())) {
+                tableInput = textAfter(lines, line, keywords.examplesTable(), lines.size()).trim();
+                break;
+            }
+        }
+        return tableFactory.createExamplesTable(tableInput);
+    }
+
+    private GivenStories findScenarioGivenStories(List<String> lines) {
+        String givenStories = NONE;
+        for (int line = 0; line < lines.size(); line++) {
+            if (lines.get(line).startsWith(keywords.givenStories())) {
+                // given stories only found if followed by steps
+                for (int end = line + 1; end < lines.size(); end++) {
+                    if (startsWithStartingWord(lines.get(end))) {
+                        givenStories = textAfter(lines, line, keywords.givenStories(), end).trim();
+                        break;
+                    }
+                }
+                break;
+            }
+        }
+        return new GivenStories(givenStories);
+    }
+
+    /**
+     * Finds the steps, each starting on a line with a starting word followed
+     * by a whitespace and ending before the next step, the examples table or
+     * the end of the lines.
+     */
+    private List<String> findSteps(List<String> lines) {
+        List<String> steps = new ArrayList<String>();
+        int line = 0;
+        while (line < lines.size()) {
+            int wordLength = stepStartingWordLength(lines, line);
+            if (wordLength < 0) {
+                line++;
+                continue;
+            }
+            int end = line + 1;
+            if (lines.get(line).length() == wordLength) {
+                // the starting word is followed by the line break
+                end++;
+            }
+            while (end < lines.size() && stepStartingWordLength(lines, end) < 0
+                    && !lines.get(end).startsWith(keywords.examplesTable())) {
+                end++;
+            }
+            steps.add(trimEnd(join(lines, line, Math.min(end, lines.size()))));
+            line = end;
+        }
+        return steps;
+    }
+
+    private int stepStartingWordLength(List<String> lines, int line) {
+        String text = lines.get(line);
+        for (String word : startingWords) {
+            if (text.startsWith(word)) {
+                int length = word.length();
+                if (text.length() > length ? isWhitespace(text.charAt(length)) : line + 1 < lines.size()) {
+                    return length;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private boolean startsWithStartingWord(String line) {
+        for (String word : startingWords) {
+            if (line.startsWith(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean startsWithKeyword(String line, String keyword) {
+        return line.startsWith(keyword, indentation(line));
+    }
+
+    private static int keywordEnd(String line, String keyword) {
+        return indentation(line) + keyword.length();
+    }
+
+    private static int indentation(String line) {
+        int start = 0;
+        while (start < line.length() && line.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private static String textAfter(List<String> lines, int start, String keyword, int end) {
+        String first = lines.get(start);
+        StringBuilder builder = new StringBuilder(first.substring(keywordEnd(first, keyword)));
+        for (int line = start + 1; line < end; line++) {
+            builder.append(NL).append(lines.get(line));
+        }
+        return builder.toString();
+    }
+
+    private static String join(List<String> lines, int start, int end) {
+        StringBuilder builder = new StringBuilder();
+        for (int line = start; line < end; line++) {
+            if (line > start) {
+                builder.append(NL);
+            }
+            builder.append(lines.get(line));
+        }
+        return builder.toString();
+    }
+
+    private static List<String> linesOf(String text) {
+        return asList(text.split(NL, -1));
+    }
+
+    /**
+     * Trims the lines as if they were joined and trimmed as a whole
+     */
+    private static List<String> trim(List<String> lines) {
+        int start = 0;
+        while (start < lines.size() && lines.get(start).trim().length() == 0) {
+            start++;
+        }
+        List<String> trimmed = trimEnd(lines.subList(start, lines.size()));
+        if (!trimmed.isEmpty()) {
+            String first = trimmed.get(0);
+            trimmed.set(0, first.substring(indentation(first)));
+        }
+        return trimmed;
+    }
+
+    private static List<String> trimEnd(List<String> lines) {
+        int end = lines.size();
+        while (end > 0 && lines.get(end - 1).trim().length() == 0) {
+            end--;
+        }
+        List<String> trimmed = new ArrayList<String>(lines.subList(0, end));
+        if (end > 0) {
+            String last = trimmed.get(end - 1);
+            int length = last.length();
+            while (length > 0 && last.charAt(length - 1) <= ' ') {
+                length--;
+            }
+            trimmed.set(end - 1, last.substring(0, length));
+        }
+        return trimmed;
+    }
+
+    private static String trimEnd(String text) {
+        int length = text.length();
+        while (length > 0 && isWhitespace(text.charAt(length - 1))) {
+            length--;
+        }
+        return text.substring(0, length);
+    }
+
+    /**
+     * Same whitespace characters as in regex patterns
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * The lines delimiting the elements of the story, found in a single pass
+     */
+    private class StoryElements {
+
+        private int descriptionEnd = -1;
+        private int metaStart = -1;
+        private int metaEnd = -1;
+        private int narrativeStart = -1;
+        private int narrativeEnd = -1;
+        private int openNarrativeStart = -1;
+        private int givenStoriesStart = -1;
+        private int givenStoriesEnd = -1;
+        private int lifecycleStart = -1;
+        private final List<Integer> scenarioStarts = new ArrayList<Integer>();
+
+        private void add(String text, int line) {
+            boolean scenario = startsWithKeyword(text, keywords.scenario());
+            boolean meta = startsWithKeyword(text, keywords.meta());
+            boolean narrative = startsWithKeyword(text, keywords.narrative());
+            boolean lifecycle = startsWithKeyword(text, keywords.lifecycle());
+            boolean givenStories = startsWithKeyword(text, keywords.givenStories());
+            if (descriptionEnd < 0 && (scenario || meta || narrative || lifecycle)) {
+                descriptionEnd = line;
+            }
+            if (narrative) {
+                openNarrativeStart = line;
+            } else if (openNarrativeStart >= 0 && (givenStories || lifecycle || scenario)) {
+                // narrative only found if followed by given stories, lifecycle or scenario
+                narrativeStart = openNarrativeStart;
+                narrativeEnd = line;
+                openNarrativeStart = -1;
+            }
+            if (scenario) {
+                scenarioStarts.add(line);
+                return;
+            }
+            if (!scenarioStarts.isEmpty()) {
+                return;
+            }
+            // before the first scenario
+            if (meta) {
+                metaStart = line;
+                metaEnd = -1;
+            } else if (metaStart >= 0 && metaEnd < 0 && (narrative || lifecycle || givenStories)) {
+                metaEnd = line;
+            }
+            if (givenStories) {
+                givenStoriesStart = line;
+                givenStoriesEnd = -1;
+            } else if (givenStoriesStart >= 0 && givenStoriesEnd < 0 && lifecycle) {
+                givenStoriesEnd = line;
+            }
+            if (lifecycle) {
+                lifecycleStart = line;
+            }
+        }
+
+        private int preScenarioEnd(int lines) {
+            return scenarioStarts.isEmpty() ? lines : scenarioStarts.get(0);
+        }
+
+    }
+
+    // Regex Patterns, only matched against the text of single elements
+
+    private Pattern findingNarrativeElements() {
+        return compile(".*" + keywords.inOrderTo() + "(.*)\\s*" + keywords.asA() + "(.*)\\s*" + keywords.iWantTo()
+                + "(.*)", DOTALL);
+    }
+
+    private Pattern findingAlternativeNarrativeElements() {
+        return compile(".*" + keywords.asA() + "(.*)\\s*" + keywords.iWantTo() + "(.*)\\s*" + keywords.soThat()
+                + "(.*)", DOTALL);
+    }
+
+    private Pattern findingLifecycleOutcome() {
+        String startingWords = concatenateWithOr("\\n", "", keywords.startingWords());
+        String outcomes = concatenateWithOr(null, null, new String[] { keywords.outcomeAny(),
+                keywords.outcomeSuccess(), keywords.outcomeFailure() });
+        return compile("\\s*(" + outcomes + ")\\s*(" + keywords.metaFilter() + "|" + startingWords + ").*", DOTALL);
+    }
+
+    private Pattern findingLifecycleFilters() {
+        String startingWords = concatenateWithOr("\\n", "", keywords.startingWords());
+        return compile("\\s*(" + keywords.metaFilter() + "[\\w\\+\\-\\_\\s]*)(" + startingWords + ").*", DOTALL);
+    }
+
+    private String concatenateWithOr(String beforeKeyword, String afterKeyword, String[] keywords) {
+        StringBuilder builder = new StringBuilder();
+        String before = beforeKeyword != null ? beforeKeyword : NONE;
+        String after = afterKeyword != null ? afterKeyword : NONE;
+        for (String keyword : keywords) {
+            builder.append(before).append(keyword).append(after).append("|");
+        }
+        return StringUtils.removeEnd(builder.toString(), "|"); // remove last "|"
+    }
+
+}
@@ -0,0 +1,62 @@
+package org.jbehave.core.parsers;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+/**
+ * Immutable result of matching a step against a step pattern, holding the
+ * parameters captured by the match. Being immutable, it can be safely passed
+ * between threads, unlike a {@link java.util.regex.Matcher}.
+ */
+public class StepMatchResult {
+
+    public static final StepMatchResult NOT_FOUND = new StepMatchResult(false, new String[0]);
+
+    private final boolean found;
+    private final String[] parameters;
+
+    /**
+     * Creates a found result
+     *
+     * @param parameters the parameters, by matched position, where the
+     *                   parameter at position 0 is the whole match
+     */
+    public StepMatchResult(String... parameters) {
+        this(true, parameters);
+    }
+
+    private StepMatchResult(boolean found, String[] parameters) {
+        this.found = found;
+        this.parameters = parameters.clone();
+    }
+
+    public boolean found() {
+        return found;
+    }
+
+    /**
+     * Returns the parameter at a given matched position
+     *
+     * @param matchedPosition the position, starting at 1 for the first
+     *                        parameter
+     * @return The parameter value, which may be <code>null</code> if the
+     * parameter did not take part in the match
+     * @throws IllegalStateException if the match was not found
+     */
+    public String parameter(int matchedPosition) {
+        if (!found) {
+            throw new IllegalStateException("No match found");
+        }
+        return parameters[matchedPosition];
+    }
+
+    public int parameterCount() {
+        return Math.max(parameters.length - 1, 0);
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
+    }
+
+}
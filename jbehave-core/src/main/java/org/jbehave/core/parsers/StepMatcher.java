@@ -4,7 +4,10 @@ import org.jbehave.core.model.StepPattern;
 
 /**
  * A step matcher is responsible for matching steps against a given step pattern
- * and extracting the parameters for the step
+ * and extracting the parameters for the step. As the steps of stories run in
+ * parallel are matched by the same matcher, implementations must be
+ * thread-safe: the parameters returned by {@link #parameter(int)} must be those
+ * of the last match by the calling thread, as done by {@link RegexStepMatcher}.
  */
 public interface StepMatcher {
 
@@ -0,0 +1,278 @@
+package org.jbehave.core.reporters;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Writes report files asynchronously, so that the threads running the stories
+ * do not block on disk. The output written to each file is buffered in large
+ * chunks, which are queued and written by a dedicated writer thread via the
+ * file channel, in the order in which they are queued. The queue is bounded,
+ * so that the threads writing faster than the disk eventually wait for the
+ * writer thread to catch up. {@link #awaitWritten()} waits for all the output
+ * written so far to be written to the files, including the chunks not yet
+ * filled of the streams still open. Streams left open once all stories have
+ * been run, e.g. by stories cancelled on timeout, can then be closed by
+ * {@link #closeOpenStreams()}, so that their files are not left open.
+ */
+public class AsyncReportWriter {
+
+    private static final int QUEUE_CAPACITY = 128;
+    private static final int CHUNK_SIZE = 32 * 1024;
+
+    private final BlockingQueue<Chunk> queue;
+    private final int chunkSize;
+    private final Set<AsyncFileOutputStream> openStreams = Collections
+            .newSetFromMap(new ConcurrentHashMap<AsyncFileOutputStream, Boolean>());
+    private Thread writerThread;
+    private IOException failure;
+
+    public AsyncReportWriter() {
+        this(QUEUE_CAPACITY, CHUNK_SIZE);
+    }
+
+    public AsyncReportWriter(int queueCapacity, int chunkSize) {
+        this.queue = new ArrayBlockingQueue<Chunk>(queueCapacity);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Creates the output stream writing asynchronously to the given file
+     *
+     * @param file   the File to write to
+     * @param append the boolean flag to append to the file
+     * @return The OutputStream
+     * @throws FileNotFoundException if the file cannot be opened
+     */
+    public OutputStream outputStreamFor(File file, boolean append) throws FileNotFoundException {
+        AsyncFileOutputStream stream = new AsyncFileOutputStream(new FileOutputStream(file, append).getChannel());
+        openStreams.add(stream);
+        return stream;
+    }
+
+    /**
+     * Waits for all the output written so far to be written, queueing first
+     * the output pending in the streams still open
+     *
+     * @throws ReportWritingFailed if any output failed to be written
+     */
+    public void awaitWritten() {
+        CountDownLatch written = new CountDownLatch(1);
+        try {
+            for (AsyncFileOutputStream stream : new ArrayList<AsyncFileOutputStream>(openStreams)) {
+                stream.flushPending();
+            }
+            enqueue(new Chunk(written));
+            written.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReportWritingFailed(e);
+        }
+        IOException failed = failure();
+        if (failed != null) {
+            throw new ReportWritingFailed(failed);
+        }
+    }
+
+    /**
+     * Closes the streams still open, queueing their pending output, e.g. those
+     * of stories cancelled before their reporters were done. Any output
+     * written to them afterwards fails.
+     */
+    public void closeOpenStreams() {
+        for (AsyncFileOutputStream stream : new ArrayList<AsyncFileOutputStream>(openStreams)) {
+            try {
+                stream.close();
+            } catch (IOException e) {
+                failed(e);
+            }
+        }
+    }
+
+    private void enqueue(Chunk chunk) throws InterruptedException {
+        startWriterThread();
+        queue.put(chunk);
+    }
+
+    private synchronized void startWriterThread() {
+        if (writerThread == null) {
+            writerThread = new Thread(new Runnable() {
+                public void run() {
+                    writeChunks();
+                }
+            }, "jbehave-report-writer");
+            writerThread.setDaemon(true);
+            writerThread.start();
+        }
+    }
+
+    private void writeChunks() {
+        while (true) {
+            Chunk chunk;
+            try {
+                chunk = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                chunk.write();
+            } catch (IOException e) {
+                failed(e);
+            }
+        }
+    }
+
+    private synchronized void failed(IOException e) {
+        if (failure == null) {
+            failure = e;
+        }
+    }
+
+    private synchronized IOException failure() {
+        return failure;
+    }
+
+    private static class Chunk {
+
+        private final FileChannel channel;
+        private final byte[] bytes;
+        private final int length;
+        private final boolean close;
+        private final CountDownLatch written;
+
+        Chunk(FileChannel channel, byte[] bytes, int length, boolean close) {
+            this.channel = channel;
+            this.bytes = bytes;
+            this.length = length;
+            this.close = close;
+            this.written = null;
+        }
+
+        Chunk(CountDownLatch written) {
+            this.channel = null;
+            this.bytes = null;
+            this.length = 0;
+            this.close = false;
+            this.written = written;
+        }
+
+        void write() throws IOException {
+            if (written != null) {
+                written.countDown();
+                return;
+            }
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, length);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            } finally {
+                if (close) {
+                    channel.close();
+                }
+            }
+        }
+
+    }
+
+    private class AsyncFileOutputStream extends OutputStream {
+
+        private final FileChannel channel;
+        private byte[] buffer = new byte[chunkSize];
+        private int count;
+        private boolean closed;
+
+        AsyncFileOutputStream(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public synchronized void write(int b) throws IOException {
+            ensureOpen();
+            if (count == buffer.length) {
+                enqueueBuffer(false);
+            }
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) throws IOException {
+            ensureOpen();
+            while (len > 0) {
+                if (count == buffer.length) {
+                    enqueueBuffer(false);
+                }
+                int copied = Math.min(len, buffer.length - count);
+                System.arraycopy(b, off, buffer, count, copied);
+                count += copied;
+                off += copied;
+                len -= copied;
+            }
+        }
+
+        @Override
+        public synchronized void flush() throws IOException {
+            ensureOpen();
+            if (count > 0) {
+                enqueueBuffer(false);
+            }
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            if (!closed) {
+                enqueueBuffer(true);
+                closed = true;
+                openStreams.remove(this);
+            }
+        }
+
+        synchronized void flushPending() throws InterruptedException {
+            if (!closed && count > 0) {
+                enqueue(new Chunk(channel, buffer, count, false));
+                buffer = new byte[chunkSize];
+                count = 0;
+            }
+        }
+
+        private void ensureOpen() throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+        }
+
+        private void enqueueBuffer(boolean close) throws IOException {
+            try {
+                enqueue(new Chunk(channel, buffer, count, close));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while queueing report output");
+            }
+            buffer = close ? null : new byte[chunkSize];
+            count = 0;
+        }
+
+    }
+
+    @SuppressWarnings("serial")
+    public static class ReportWritingFailed extends RuntimeException {
+
+        public ReportWritingFailed(Throwable cause) {
+            super("Failed to write reports", cause);
+        }
+
+    }
+
+}
@@ -10,86 +10,23 @@ import org.jbehave.core.model.Scenario;
 import org.jbehave.core.model.Story;
 import org.jbehave.core.model.StoryDuration;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
 /**
  * When running a multithreading mode, reports cannot be written concurrently but should
  * be delayed and invoked only at the end of a story, ensuring synchronization on the delegate
- * responsible for the reporting.
+ * responsible for the reporting. The delayed events are recorded in a journal and replayed
+ * to each of the delegates in turn, e.g. to the reporter of each format, so that each delegate
+ * is only synchronized on while its own events are replayed.
  */
 public class ConcurrentStoryReporter implements StoryReporter {
 
-    private static Method storyCancelled;
-    private static Method storyNotAllowed;
-    private static Method beforeStory;
-    private static Method afterStory;
-    private static Method narrative;
-    private static Method lifecycle;
-    private static Method scenarioNotAllowed;
-    private static Method beforeScenario;
-    private static Method scenarioMeta;
-    private static Method afterScenario;
-    private static Method givenStories;
-    private static Method givenStoriesPaths;
-    private static Method beforeExamples;
-    private static Method example;
-    private static Method afterExamples;
-    private static Method beforeStep;
-    private static Method successful;
-    private static Method ignorable;
-    private static Method comment;
-    private static Method pending;
-    private static Method notPerformed;
-    private static Method failed;
-    private static Method failedOutcomes;
-    private static Method dryRun;
-    private static Method pendingMethods;
-    private static Method restarted;
-    private static Method restartedStory;
-
-    static {
-        try {
-            storyCancelled = StoryReporter.class.getMethod("storyCancelled", Story.class, StoryDuration.class);
-            storyNotAllowed = StoryReporter.class.getMethod("storyNotAllowed", Story.class, String.class);
-            beforeStory = StoryReporter.class.getMethod("beforeStory", Story.class, Boolean.TYPE);
-            afterStory = StoryReporter.class.getMethod("afterStory", Boolean.TYPE);
-            narrative = StoryReporter.class.getMethod("narrative", Narrative.class);
-            lifecycle = StoryReporter.class.getMethod("lifecyle", Lifecycle.class);
-            scenarioNotAllowed = StoryReporter.class.getMethod("scenarioNotAllowed", Scenario.class, String.class);
-            beforeScenario = StoryReporter.class.getMethod("beforeScenario", String.class);
-            scenarioMeta = StoryReporter.class.getMethod("scenarioMeta", Meta.class);
-            afterScenario = StoryReporter.class.getMethod("afterScenario");
-            givenStories = StoryReporter.class.getMethod("givenStories", GivenStories.class);
-            givenStoriesPaths = StoryReporter.class.getMethod("givenStories", List.class);
-            beforeExamples = StoryReporter.class.getMethod("beforeExamples", List.class, ExamplesTable.class);
-            example = StoryReporter.class.getMethod("example", Map.class);
-            afterExamples = StoryReporter.class.getMethod("afterExamples");
-            beforeStep = StoryReporter.class.getMethod("beforeStep", String.class);
-            successful = StoryReporter.class.getMethod("successful", String.class);
-            ignorable = StoryReporter.class.getMethod("ignorable", String.class);
-            comment = StoryReporter.class.getMethod("comment", String.class);
-            pending = StoryReporter.class.getMethod("pending", String.class);
-            notPerformed = StoryReporter.class.getMethod("notPerformed", String.class);
-            failed = StoryReporter.class.getMethod("failed", String.class, Throwable.class);
-            failedOutcomes = StoryReporter.class.getMethod("failedOutcomes", String.class, OutcomesTable.class);
-            dryRun = StoryReporter.class.getMethod("dryRun");
-            pendingMethods = StoryReporter.class.getMethod("pendingMethods", List.class);
-            restarted = StoryReporter.class.getMethod("restarted", String.class, Throwable.class);
-            restartedStory = StoryReporter.class.getMethod("restartedStory", Story.class, Throwable.class);
-        } catch (NoSuchMethodException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
     private final StoryReporter crossReferencing;
     private final StoryReporter delegate;
     private final boolean multiThreading;
-    private List<DelayedMethod> delayedMethods = new ArrayList<DelayedMethod>();
+    private final EventJournal journal = new EventJournal();
     private boolean invoked = false;
 
     public ConcurrentStoryReporter(StoryReporter crossReferencing, StoryReporter delegate, boolean multiThreading) {
@@ -102,7 +39,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void storyNotAllowed(Story story, String filter) {
         crossReferencing.storyNotAllowed(story, filter);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(storyNotAllowed, story, filter));
+            journal.record(Event.STORY_NOT_ALLOWED, story, filter);
         } else {
             delegate.storyNotAllowed(story, filter);
         }
@@ -112,7 +49,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void beforeStory(Story story, boolean givenStory) {
         crossReferencing.beforeStory(story, givenStory);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(beforeStory, story, givenStory));
+            journal.record(Event.BEFORE_STORY, story, givenStory);
         } else {
             delegate.beforeStory(story, givenStory);
         }
@@ -122,7 +59,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void afterStory(boolean givenStory) {
         crossReferencing.afterStory(givenStory);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(afterStory, givenStory));
+            journal.record(Event.AFTER_STORY, givenStory);
         } else {
             delegate.afterStory(givenStory);
         }
@@ -132,7 +69,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void narrative(Narrative aNarrative) {
         crossReferencing.narrative(aNarrative);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(narrative, aNarrative));
+            journal.record(Event.NARRATIVE, aNarrative);
         } else {
             delegate.narrative(aNarrative);
         }
@@ -142,7 +79,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void lifecyle(Lifecycle aLifecycle) {
         crossReferencing.lifecyle(aLifecycle);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(lifecycle, aLifecycle));
+            journal.record(Event.LIFECYCLE, aLifecycle);
         } else {
             delegate.lifecyle(aLifecycle);
         }
@@ -152,7 +89,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void scenarioNotAllowed(Scenario scenario, String filter) {
         crossReferencing.scenarioNotAllowed(scenario, filter);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(scenarioNotAllowed, scenario, filter));
+            journal.record(Event.SCENARIO_NOT_ALLOWED, scenario, filter);
         } else {
             delegate.scenarioNotAllowed(scenario, filter);
         }
@@ -162,7 +99,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void beforeScenario(String scenarioTitle) {
         crossReferencing.beforeScenario(scenarioTitle);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(beforeScenario, scenarioTitle));
+            journal.record(Event.BEFORE_SCENARIO, scenarioTitle);
         } else {
             delegate.beforeScenario(scenarioTitle);
         }
@@ -172,7 +109,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void scenarioMeta(Meta meta) {
         crossReferencing.scenarioMeta(meta);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(scenarioMeta, meta));
+            journal.record(Event.SCENARIO_META, meta);
         } else {
             delegate.scenarioMeta(meta);
         }
@@ -182,7 +119,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void afterScenario() {
         crossReferencing.afterScenario();
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(afterScenario));
+            journal.record(Event.AFTER_SCENARIO);
         } else {
             delegate.afterScenario();
         }
@@ -192,7 +129,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void givenStories(GivenStories stories) {
         crossReferencing.givenStories(stories);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(givenStories, stories));
+            journal.record(Event.GIVEN_STORIES, stories);
         } else {
             delegate.givenStories(stories);
         }
@@ -202,7 +139,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void givenStories(List<String> storyPaths) {
         crossReferencing.givenStories(storyPaths);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(givenStoriesPaths, storyPaths));
+            journal.record(Event.GIVEN_STORIES_PATHS, storyPaths);
         } else {
             delegate.givenStories(storyPaths);
         }
@@ -212,7 +149,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void beforeExamples(List<String> steps, ExamplesTable table) {
         crossReferencing.beforeExamples(steps, table);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(beforeExamples, steps, table));
+            journal.record(Event.BEFORE_EXAMPLES, steps, table);
         } else {
             delegate.beforeExamples(steps, table);
         }
@@ -222,7 +159,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void example(Map<String, String> tableRow) {
         crossReferencing.example(tableRow);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(example, tableRow));
+            journal.record(Event.EXAMPLE, tableRow);
         } else {
             delegate.example(tableRow);
         }
@@ -232,7 +169,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void afterExamples() {
         crossReferencing.afterExamples();
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(afterExamples));
+            journal.record(Event.AFTER_EXAMPLES);
         } else {
             delegate.afterExamples();
         }
@@ -242,7 +179,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void beforeStep(String step) {
         crossReferencing.beforeStep(step);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(beforeStep, step));
+            journal.record(Event.BEFORE_STEP, step);
         } else {
             delegate.beforeStep(step);
         }
@@ -252,7 +189,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void successful(String step) {
         crossReferencing.successful(step);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(successful, step));
+            journal.record(Event.SUCCESSFUL, step);
         } else {
             delegate.successful(step);
         }
@@ -262,7 +199,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void ignorable(String step) {
         crossReferencing.ignorable(step);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(ignorable, step));
+            journal.record(Event.IGNORABLE, step);
         } else {
             delegate.ignorable(step);
         }
@@ -272,7 +209,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void comment(String step) {
         crossReferencing.comment(step);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(comment, step));
+            journal.record(Event.COMMENT, step);
         } else {
             delegate.comment(step);
         }
@@ -282,7 +219,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void pending(String step) {
         crossReferencing.pending(step);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(pending, step));
+            journal.record(Event.PENDING, step);
         } else {
             delegate.pending(step);
         }
@@ -292,7 +229,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void notPerformed(String step) {
         crossReferencing.notPerformed(step);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(notPerformed, step));
+            journal.record(Event.NOT_PERFORMED, step);
         } else {
             delegate.notPerformed(step);
         }
@@ -302,7 +239,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void failed(String step, Throwable cause) {
         crossReferencing.failed(step, cause);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(failed, step, cause));
+            journal.record(Event.FAILED, step, cause);
         } else {
             delegate.failed(step, cause);
         }
@@ -312,7 +249,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void failedOutcomes(String step, OutcomesTable table) {
         crossReferencing.failedOutcomes(step, table);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(failedOutcomes, step, table));
+            journal.record(Event.FAILED_OUTCOMES, step, table);
         } else {
             delegate.failedOutcomes(step, table);
         }
@@ -322,7 +259,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void dryRun() {
         crossReferencing.dryRun();
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(dryRun));
+            journal.record(Event.DRY_RUN);
         } else {
             delegate.dryRun();
         }
@@ -332,7 +269,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void pendingMethods(List<String> methods) {
         crossReferencing.pendingMethods(methods);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(pendingMethods, methods));
+            journal.record(Event.PENDING_METHODS, methods);
         } else {
             delegate.pendingMethods(methods);
         }
@@ -343,7 +280,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void restarted(String step, Throwable cause) {
         crossReferencing.restarted(step, cause);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(restarted, step, cause));
+            journal.record(Event.RESTARTED, step, cause);
         } else {
             delegate.restarted(step, cause);
         }
@@ -353,7 +290,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void restartedStory(Story story, Throwable cause) {
         crossReferencing.restartedStory(story, cause);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(restartedStory, story, cause));
+            journal.record(Event.RESTARTED_STORY, story, cause);
         } else {
             delegate.restartedStory(story, cause);
         }
@@ -363,7 +300,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void storyCancelled(Story story, StoryDuration storyDuration) {
         crossReferencing.storyCancelled(story, storyDuration);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(storyCancelled, story, storyDuration));
+            journal.record(Event.STORY_CANCELLED, story, storyDuration);
         } else {
             delegate.storyCancelled(story, storyDuration);
         }
@@ -381,33 +318,216 @@ public class ConcurrentStoryReporter implements StoryReporter {
         if (!multiThreading) {
             return;
         }
-        synchronized (delegate) {
-            for (DelayedMethod delayed : Collections.unmodifiableList(delayedMethods)) {
-                delayed.invoke(delegate);
+        if (delegate instanceof DelegatingStoryReporter) {
+            for (StoryReporter reporter : ((DelegatingStoryReporter) delegate).getDelegates()) {
+                invokeDelayed(reporter);
             }
+        } else {
+            invokeDelayed(delegate);
         }
+        journal.clear();
         invoked = true;
     }
 
-    public static class DelayedMethod {
-        private Method method;
-        private Object[] args;
+    private void invokeDelayed(StoryReporter reporter) {
+        synchronized (reporter) {
+            journal.replay(reporter);
+        }
+    }
 
-        public DelayedMethod(Method method, Object... args) {
-            this.method = method;
-            this.args = args;
+    /**
+     * The events of the reporter, each replayed by a direct invocation of the
+     * corresponding method
+     */
+    private enum Event {
+        STORY_NOT_ALLOWED {
+            void replay(StoryReporter reporter, Object first, Object second) {
+                reporter.storyNotAllowed((Story) first, (String) second);
+            }
+        },
+        STORY_CANCELLED {
+            void replay(StoryReporter reporter, Object first, Object second) {
+                reporter.storyCancelled((Story) first, (StoryDuration) second);
+            }
+        },
+        BEFORE_STORY {
+            void replay(StoryReporter reporter, Object first, Object second) {
+                reporter.beforeStory((Story) first, (Boolean) second);
+            }
+        },
+        AFTER_STORY {
+            void replay(StoryReporter reporter, Object first, Object second) {
+                reporter.afterStory((Boolean) first);
+            }
+        },
+        NARRATIVE {
+            void replay(StoryReporter reporter, Object first, Object second) {
+                reporter.narrative((Narrative) first);
+            }
+        },
+        LIFECYCLE {
+            void replay(StoryReporter reporter, Object first, Object second) {
+                reporter.lifecyle((Lifecycle) first);
+            }
+        },
+        SCENARIO_NOT_ALLOWED {
+            void replay(StoryReporter reporter, Object first, Object second) {
+                reporter.scenarioNotAllowed((Scenario) first, (String) second);
+            }
+        },
+        BEFORE_SCENARIO {
+            void replay(StoryReporter reporter, Object first, Object second) {
+                reporter.beforeScenario((String) first);
+            }
+        },
+        SCENARIO_META {
+            void replay(StoryReporter reporter, Object first, Object second) {
+                reporter.scenarioMeta((Meta) first);
+            }
+        },
+        AFTER_SCENARIO {
+            void replay(StoryReporter reporter, Object first, Object second) {
+                reporter.afterScenario();
+            }
+        },
+        GIVEN_STORIES {
+            void replay(StoryReporter reporter, Object first, Object second) {
+                reporter.givenStories((GivenStories) first);
+            }
+        },
+        GIVEN_STORIES_PATHS {
+            @SuppressWarnings("unchecked")
+            void replay(StoryReporter reporter, Object first, Object second) {
+                reporter.givenStories((List<String>) first);
+            }
+        },
+        BEFORE_EXAMPLES {
+            @SuppressWarnings("unchecked")
+            void replay(StoryReporter reporter, Object first, Object second) {
+                reporter.beforeExamples((List<String>) first, (ExamplesTable) second);
+            }
+        },
+        EXAMPLE {
+            @SuppressWarnings("unchecked")
+            void replay(StoryReporter reporter, Object first, Object second) {
+                reporter.example((Map<String, String>) first);
+            }
+        },
+        AFTER_EXAMPLES {
+            void replay(StoryReporter reporter, Object first, Object second) {
+                reporter.afterExamples();
+            }
+        },
+        BEFORE_STEP {
+            void replay(StoryReporter reporter, Object first, Object second) {
+                reporter.beforeStep((String) first);
+            }
+        },
+        SUCCESSFUL {
+            void replay(StoryReporter reporter, Object first, Object second) {
+                reporter.successful((String) first);
+            }
+        },
+        IGNORABLE {
+            void replay(StoryReporter reporter, Object first, Object second) {
+                reporter.ignorable((String) first);
+            }
+        },
+        COMMENT {
+            void replay(StoryReporter reporter, Object first, Object second) {
+                reporter.comment((String) first);
+            }
+        },
+        PENDING {
+            void replay(StoryReporter reporter, Object first, Object second) {
+                reporter.pending((String) first);
+            }
+        },
+        NOT_PERFORMED {
+            void replay(StoryReporter reporter, Object first, Object second) {
+                reporter.notPerformed((String) first);
+            }
+        },
+        FAILED {
+            void replay(StoryReporter reporter, Object first, Object second) {
+                reporter.failed((String) first, (Throwable) second);
+            }
+        },
+        FAILED_OUTCOMES {
+            void replay(StoryReporter reporter, Object first, Object second) {
+                reporter.failedOutcomes((String) first, (OutcomesTable) second);
+            }
+        },
+        DRY_RUN {
+            void replay(StoryReporter reporter, Object first, Object second) {
+                reporter.dryRun();
+            }
+        },
+        PENDING_METHODS {
+            @SuppressWarnings("unchecked")
+            void replay(StoryReporter reporter, Object first, Object second) {
+                reporter.pendingMethods((List<String>) first);
+            }
+        },
+        RESTARTED {
+            void replay(StoryReporter reporter, Object first, Object second) {
+                reporter.restarted((String) first, (Throwable) second);
+            }
+        },
+        RESTARTED_STORY {
+            void replay(StoryReporter reporter, Object first, Object second) {
+                reporter.restartedStory((Story) first, (Throwable) second);
+            }
+        };
+
+        abstract void replay(StoryReporter reporter, Object first, Object second);
+
+    }
+
+    /**
+     * The journal of the delayed events, with the (at most two) arguments of
+     * each event held in a buffer which is reused once the events have been
+     * replayed
+     */
+    private static class EventJournal {
+
+        private static final int ARGUMENTS = 2;
+
+        private Event[] events = new Event[32];
+        private Object[] arguments = new Object[events.length * ARGUMENTS];
+        private int size;
+
+        void record(Event event) {
+            record(event, null, null);
+        }
+
+        void record(Event event, Object first) {
+            record(event, first, null);
+        }
+
+        void record(Event event, Object first, Object second) {
+            if (size == events.length) {
+                events = Arrays.copyOf(events, size * 2);
+                arguments = Arrays.copyOf(arguments, events.length * ARGUMENTS);
+            }
+            events[size] = event;
+            arguments[size * ARGUMENTS] = first;
+            arguments[size * ARGUMENTS + 1] = second;
+            size++;
         }
 
-        public void invoke(StoryReporter delegate) {
-            try {
-                method.invoke(delegate, args);
-            } catch (IllegalAccessException e) {
-                throw new RuntimeException(e);
-            } catch (InvocationTargetException e) {
-                throw new RuntimeException(e);
-            } catch (IllegalArgumentException e) {
-                throw new RuntimeException("" + method, e);
+        void replay(StoryReporter reporter) {
+            for (int i = 0; i < size; i++) {
+                events[i].replay(reporter, arguments[i * ARGUMENTS], arguments[i * ARGUMENTS + 1]);
             }
         }
+
+        void clear() {
+            Arrays.fill(events, 0, size, null);
+            Arrays.fill(arguments, 0, size * ARGUMENTS, null);
+            size = 0;
+        }
+
     }
+
 }
@@ -1,6 +1,7 @@
 package org.jbehave.core.reporters;
 
 import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.converters.collections.MapConverter;
 import com.thoughtworks.xstream.io.json.JsonHierarchicalStreamDriver;
 import org.jbehave.core.embedder.MatchingStepMonitor.StepMatch;
 import org.jbehave.core.embedder.PerformableTree.ExamplePerformableScenario;
@@ -11,6 +12,7 @@ import org.jbehave.core.embedder.PerformableTree.PerformableStory;
 import org.jbehave.core.embedder.PerformableTree.Status;
 import org.jbehave.core.failures.PendingStepStrategy;
 import org.jbehave.core.model.ExamplesTable;
+import org.jbehave.core.model.ExamplesTable.ColumnarRow;
 import org.jbehave.core.model.GivenStory;
 import org.jbehave.core.model.Scenario;
 import org.jbehave.core.model.Story;
@@ -127,6 +129,8 @@ public class CrossReference {
         xstream.omitField(ExamplesTable.class, "parameterConverters");
         xstream.omitField(ExamplesTable.class, "tableTrasformers");
         xstream.omitField(ExamplesTable.class, "defaults");
+        xstream.alias("linked-hash-map", ColumnarRow.class);
+        xstream.registerConverter(new MapConverter(xstream.getMapper(), ColumnarRow.class));
     }
 
     private String fileName(String extension) {
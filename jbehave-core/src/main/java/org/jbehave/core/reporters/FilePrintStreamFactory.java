@@ -20,6 +20,7 @@ public class FilePrintStreamFactory implements PrintStreamFactory {
 
     private final StoryLocation storyLocation;
     private FileConfiguration configuration;
+    private AsyncReportWriter asyncWriter;
     private File outputFile;
 
     public FilePrintStreamFactory(StoryLocation storyLocation) {
@@ -35,6 +36,9 @@ public class FilePrintStreamFactory implements PrintStreamFactory {
         try {
             outputFile = outputFile();
             outputFile.getParentFile().mkdirs();
+            if (asyncWriter != null) {
+                return new FilePrintStream(outputFile, false, asyncWriter);
+            }
             return new FilePrintStream(outputFile, false);
         } catch (Exception e) {
             throw new PrintStreamCreationFailed(outputFile, e);
@@ -54,6 +58,15 @@ public class FilePrintStreamFactory implements PrintStreamFactory {
         return configuration;
     }
 
+    /**
+     * Uses the given writer to write the print streams asynchronously
+     *
+     * @param asyncWriter the AsyncReportWriter
+     */
+    public void useAsyncWriter(AsyncReportWriter asyncWriter) {
+        this.asyncWriter = asyncWriter;
+    }
+
     protected File outputFile() {
         return new File(outputDirectory(), outputName());
     }
@@ -140,6 +153,13 @@ public class FilePrintStreamFactory implements PrintStreamFactory {
             this.append = append;
         }
 
+        public FilePrintStream(File outputFile, boolean append, AsyncReportWriter asyncWriter)
+                throws FileNotFoundException {
+            super(asyncWriter.outputStreamFor(outputFile, append));
+            this.outputFile = outputFile;
+            this.append = append;
+        }
+
         @Override
         public String toString() {
             return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE).append(outputFile).append(append)
@@ -105,7 +105,8 @@ public abstract class Format {
         public StoryReporter createStoryReporter(FilePrintStreamFactory factory,
                                                  StoryReporterBuilder storyReporterBuilder) {
             factory.useConfiguration(storyReporterBuilder.fileConfiguration("stats"));
-            return new PostStoryStatisticsCollector(factory.createPrintStream());
+            return new PostStoryStatisticsCollector(factory.createPrintStream(), factory.getOutputFile(),
+                    storyReporterBuilder.collectedStatistics());
         }
     };
 
@@ -1,13 +1,38 @@
 package org.jbehave.core.reporters;
 
+import freemarker.cache.MruCacheStorage;
 import freemarker.template.Configuration;
 import freemarker.template.ObjectWrapper;
 
+import java.io.IOException;
 import java.io.Writer;
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Processes Freemarker templates, using a configuration shared by all the
+ * processors of the same class loading templates from the same class, so that
+ * each template is loaded and parsed once and then found in the template
+ * cache. The shared configurations are held by weak keys and soft values, so
+ * that they do not keep the classes, and their class loaders, from being
+ * unloaded. The time taken by the processor to render each template is
+ * collected and available via {@link #collectRenderTimings()}.
+ */
 public class FreemarkerProcessor implements TemplateProcessor {
+
+    private static final int STRONGLY_CACHED_TEMPLATES = 20;
+    private static final int SOFTLY_CACHED_TEMPLATES = 250;
+    private static final Map<Class<?>, Map<Class<?>, SoftReference<Configuration>>> CONFIGURATIONS = new WeakHashMap<Class<?>, Map<Class<?>, SoftReference<Configuration>>>();
+
+    private final ConcurrentMap<String, RenderTiming> renderTimings = new ConcurrentHashMap<String, RenderTiming>();
     private Class<?> templateLoadingFrom;
+    private volatile Configuration sharedConfiguration;
 
     public FreemarkerProcessor() {
         this(FreemarkerProcessor.class);
@@ -18,21 +43,125 @@ public class FreemarkerProcessor implements TemplateProcessor {
     }
 
     public void process(String resource, Map<String, Object> dataModel, Writer writer) {
-        Configuration configuration = configuration();
+        Configuration configuration = sharedConfiguration();
         try {
+            long start = System.nanoTime();
             configuration.getTemplate(resource).process(dataModel, writer);
+            renderTimingOf(resource).rendered(System.nanoTime() - start);
         } catch (Exception e) {
             throw new FreemarkerProcessingFailed(configuration, resource, dataModel, e);
         }
     }
 
+    /**
+     * Loads the given templates in the template cache, so that they are
+     * already parsed when first processed. Templates which fail to load are
+     * ignored, as they will fail when processed.
+     *
+     * @param resources the template resources
+     */
+    public void prewarm(String... resources) {
+        Configuration configuration = sharedConfiguration();
+        for (String resource : resources) {
+            if (resource == null) {
+                continue;
+            }
+            try {
+                configuration.getTemplate(resource);
+            } catch (IOException e) {
+                // fails when processed
+            }
+        }
+    }
+
+    /**
+     * Creates the configuration used to process the templates. Processors
+     * requiring a different configuration override this method, which is
+     * invoked once for all the processors of the same class loading templates
+     * from the same class, as long as they share the configuration.
+     *
+     * @return The Configuration
+     */
     public Configuration configuration() {
         Configuration configuration = new Configuration();
         configuration.setClassForTemplateLoading(templateLoadingFrom, "/");
         configuration.setObjectWrapper(ObjectWrapper.BEANS_WRAPPER);
+        configuration.setCacheStorage(new MruCacheStorage(STRONGLY_CACHED_TEMPLATES, SOFTLY_CACHED_TEMPLATES));
+        // templates loaded from the classpath do not change while running
+        configuration.setTemplateUpdateDelayMilliseconds(Long.MAX_VALUE);
         return configuration;
     }
 
+    Configuration sharedConfiguration() {
+        Configuration configuration = sharedConfiguration;
+        if (configuration == null) {
+            synchronized (CONFIGURATIONS) {
+                Map<Class<?>, SoftReference<Configuration>> configurations = CONFIGURATIONS.get(getClass());
+                if (configurations == null) {
+                    configurations = new WeakHashMap<Class<?>, SoftReference<Configuration>>();
+                    CONFIGURATIONS.put(getClass(), configurations);
+                }
+                SoftReference<Configuration> reference = configurations.get(templateLoadingFrom);
+                configuration = reference != null ? reference.get() : null;
+                if (configuration == null) {
+                    configuration = configuration();
+                    configurations.put(templateLoadingFrom, new SoftReference<Configuration>(configuration));
+                }
+            }
+            sharedConfiguration = configuration;
+        }
+        return configuration;
+    }
+
+    private RenderTiming renderTimingOf(String resource) {
+        RenderTiming timing = renderTimings.get(resource);
+        if (timing == null) {
+            RenderTiming created = new RenderTiming();
+            timing = renderTimings.putIfAbsent(resource, created);
+            if (timing == null) {
+                timing = created;
+            }
+        }
+        return timing;
+    }
+
+    /**
+     * Returns the render timings of the templates processed by this processor
+     * since the last collection, by template resource, and clears them
+     *
+     * @return The Map of RenderTiming by resource
+     */
+    public Map<String, RenderTiming> collectRenderTimings() {
+        Map<String, RenderTiming> timings = new HashMap<String, RenderTiming>();
+        for (String resource : renderTimings.keySet()) {
+            RenderTiming timing = renderTimings.remove(resource);
+            if (timing != null) {
+                timings.put(resource, timing);
+            }
+        }
+        return timings;
+    }
+
+    public static class RenderTiming {
+
+        private final AtomicLong renders = new AtomicLong();
+        private final AtomicLong durationInNanos = new AtomicLong();
+
+        void rendered(long durationInNanos) {
+            this.renders.incrementAndGet();
+            this.durationInNanos.addAndGet(durationInNanos);
+        }
+
+        public long getRenders() {
+            return renders.get();
+        }
+
+        public long getDurationInMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(durationInNanos.get());
+        }
+
+    }
+
     @SuppressWarnings("serial")
     public static class FreemarkerProcessingFailed extends RuntimeException {
 
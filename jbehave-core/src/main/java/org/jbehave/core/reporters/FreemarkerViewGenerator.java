@@ -2,7 +2,11 @@ package org.jbehave.core.reporters;
 
 import org.jbehave.core.io.StoryNameResolver;
 import org.jbehave.core.io.UnderscoredToCapitalized;
+import org.jbehave.core.reporters.FreemarkerProcessor.RenderTiming;
 
+import java.io.File;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 /**
@@ -22,8 +26,10 @@ import java.util.Properties;
  * &quot;decorated&quot;: &quot;ftl/jbehave-report-decorated.ftl&quot;
  * &quot;nonDecorated&quot;: &quot;ftl/jbehave-report-non-decorated.ftl&quot;
  * &quot;decorateNonHtml&quot;: &quot;true&quot;
+ * &quot;streamBody&quot;: &quot;true&quot;
  * &quot;defaultFormats&quot;: &quot;stats&quot;
  * &quot;viewDirectory&quot;: &quot;view&quot;
+ * &quot;threads&quot;: the number of available processors
  * </pre>
  * <p>
  * </p>
@@ -33,17 +39,26 @@ import java.util.Properties;
  * Freemarker uses to load the templates from (defaulting to
  * {@link FreemarkerProcessor}).
  * </p>
+ * <p>
+ * The templates of the reports view are loaded in the template cache before
+ * the reports are generated. As the {@link FreemarkerProcessor} is
+ * thread-safe, the single reports are decorated in parallel by default.
+ * Their bodies are streamed from the report files, as the decorated template
+ * outputs them either unchanged or escaped.
+ * </p>
  *
  * @author Mauro Talevi
  */
 public class FreemarkerViewGenerator extends TemplateableViewGenerator {
 
+    private final FreemarkerProcessor processor;
+
     public FreemarkerViewGenerator() {
         this(FreemarkerViewGenerator.class);
     }
 
     public FreemarkerViewGenerator(StoryNameResolver nameResolver) {
-        super(nameResolver, new FreemarkerProcessor());
+        this(nameResolver, new FreemarkerProcessor());
     }
 
     public FreemarkerViewGenerator(Class<?> templateLoadingFrom) {
@@ -51,7 +66,12 @@ public class FreemarkerViewGenerator extends TemplateableViewGenerator {
     }
 
     public FreemarkerViewGenerator(StoryNameResolver nameResolver, Class<?> templateLoadingFrom) {
-        super(nameResolver, new FreemarkerProcessor(templateLoadingFrom));
+        this(nameResolver, new FreemarkerProcessor(templateLoadingFrom));
+    }
+
+    private FreemarkerViewGenerator(StoryNameResolver nameResolver, FreemarkerProcessor processor) {
+        super(nameResolver, processor);
+        this.processor = processor;
     }
 
     public Properties defaultViewProperties() {
@@ -62,7 +82,28 @@ public class FreemarkerViewGenerator extends TemplateableViewGenerator {
         properties.setProperty("reports", "ftl/jbehave-reports.ftl");
         properties.setProperty("decorated", "ftl/jbehave-report-decorated.ftl");
         properties.setProperty("nonDecorated", "ftl/jbehave-report-non-decorated.ftl");
+        properties.setProperty("streamBody", "true");
+        properties.setProperty("threads", String.valueOf(Runtime.getRuntime().availableProcessors()));
         return properties;
     }
 
+    @Override
+    public void generateReportsView(File outputDirectory, List<String> formats, Properties viewProperties) {
+        Properties properties = defaultViewProperties();
+        properties.putAll(viewProperties);
+        processor.prewarm(properties.getProperty("views"), properties.getProperty("reports"),
+                properties.getProperty("decorated"), properties.getProperty("nonDecorated"));
+        super.generateReportsView(outputDirectory, formats, viewProperties);
+    }
+
+    /**
+     * Returns the render timings of the templates processed since the last
+     * collection, by template resource, and clears them
+     *
+     * @return The Map of RenderTiming by resource
+     */
+    public Map<String, RenderTiming> collectRenderTimings() {
+        return processor.collectRenderTimings();
+    }
+
 }
@@ -13,6 +13,7 @@ import org.jbehave.core.model.Scenario;
 import org.jbehave.core.model.Story;
 import org.jbehave.core.model.StoryDuration;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.HashMap;
@@ -27,10 +28,19 @@ import static java.util.Arrays.asList;
  * Reporter that collects statistics and writes them as properties to output
  * stream after each story
  * </p>
+ * <p>
+ * If created with the stats file the output stream writes to and a map of
+ * collected statistics, e.g. that of the {@link StoryReporterBuilder}, the
+ * statistics written are also put in the map by the absolute path of the stats
+ * file, so that the view generator running in the same JVM can aggregate them
+ * without reading the stats file back.
+ * </p>
  */
 public class PostStoryStatisticsCollector implements StoryReporter {
 
     private final OutputStream output;
+    private final File statsFile;
+    private final Map<String, Map<String, Integer>> collectedStatistics;
     private final Map<String, Integer> data = new HashMap<String, Integer>();
     private final List<String> events = asList("notAllowed", "pending", "scenariosNotAllowed",
             "givenStoryScenariosNotAllowed", "steps", "stepsSuccessful", "stepsIgnorable", "comments", "stepsPending",
@@ -44,7 +54,14 @@ public class PostStoryStatisticsCollector implements StoryReporter {
     private boolean currentScenarioNotAllowed;
 
     public PostStoryStatisticsCollector(OutputStream output) {
+        this(output, null, null);
+    }
+
+    public PostStoryStatisticsCollector(OutputStream output, File statsFile,
+                                        Map<String, Map<String, Integer>> collectedStatistics) {
         this.output = output;
+        this.statsFile = statsFile;
+        this.collectedStatistics = collectedStatistics;
     }
 
     @Override
@@ -266,11 +283,16 @@ public class PostStoryStatisticsCollector implements StoryReporter {
 
     private void writeData() {
         Properties p = new Properties();
+        Map<String, Integer> statistics = new HashMap<String, Integer>();
         for (String event : data.keySet()) {
             if (!event.startsWith("current")) {
                 p.setProperty(event, data.get(event).toString());
+                statistics.put(event, data.get(event));
             }
         }
+        if (statsFile != null && collectedStatistics != null) {
+            collectedStatistics.put(statsFile.getAbsolutePath(), statistics);
+        }
         try {
             p.store(output, this.getClass().getName());
             output.close();
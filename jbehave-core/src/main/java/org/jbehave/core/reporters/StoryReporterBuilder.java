@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Arrays.asList;
 
@@ -134,9 +135,12 @@ public class StoryReporterBuilder {
     protected Keywords keywords;
     protected CrossReference crossReference;
     protected boolean multiThreading;
+    protected boolean asyncWriting;
     protected Configuration configuration;
     private List<org.jbehave.core.reporters.Format> formats = new ArrayList<org.jbehave.core.reporters.Format>();
     private FileConfiguration defaultFileConfiguration = new FileConfiguration();
+    private AsyncReportWriter asyncWriter;
+    private final Map<String, Map<String, Integer>> collectedStatistics = new ConcurrentHashMap<String, Map<String, Integer>>();
 
     public StoryReporterBuilder() {
     }
@@ -204,6 +208,10 @@ public class StoryReporterBuilder {
         return this.multiThreading;
     }
 
+    public boolean asyncWriting() {
+        return this.asyncWriting;
+    }
+
     public boolean reportFailureTrace() {
         return this.reportFailureTrace;
     }
@@ -305,6 +313,55 @@ public class StoryReporterBuilder {
         return this;
     }
 
+    /**
+     * Writes the file-based reports asynchronously, via a dedicated writer
+     * thread, rather than from the threads running the stories.
+     * {@link #awaitReportsWritten()} needs to be invoked before reading the
+     * reports, e.g. as done by the Embedder before generating the reports view.
+     */
+    public StoryReporterBuilder withAsyncWriting(boolean asyncWriting) {
+        this.asyncWriting = asyncWriting;
+        return this;
+    }
+
+    /**
+     * Waits for the reports written asynchronously to be written, if so
+     * configured, once the stories are run. The reports still open, e.g. those
+     * of stories cancelled on timeout, are written as far as they go and
+     * closed.
+     */
+    public void awaitReportsWritten() {
+        AsyncReportWriter writer = existingAsyncWriter();
+        if (writer != null) {
+            writer.closeOpenStreams();
+            writer.awaitWritten();
+        }
+    }
+
+    /**
+     * Returns the statistics collected in memory by the {@link Format#STATS}
+     * reporters built, by the absolute path of their stats file, which the
+     * {@link TemplateableViewGenerator} aggregates without reading the stats
+     * files back. Those not aggregated need to be cleared once the stories
+     * are run, as done by the Embedder.
+     *
+     * @return The Map of statistics by stats file path
+     */
+    public Map<String, Map<String, Integer>> collectedStatistics() {
+        return collectedStatistics;
+    }
+
+    private synchronized AsyncReportWriter existingAsyncWriter() {
+        return this.asyncWriter;
+    }
+
+    private synchronized AsyncReportWriter asyncWriter() {
+        if (this.asyncWriter == null) {
+            this.asyncWriter = new AsyncReportWriter();
+        }
+        return this.asyncWriter;
+    }
+
     public StoryReporterBuilder withViewResources(Properties resources) {
         this.viewResources = resources;
         return this;
@@ -342,8 +399,12 @@ public class StoryReporterBuilder {
     }
 
     protected FilePrintStreamFactory filePrintStreamFactory(String storyPath) {
-        return new FilePrintStreamFactory(new StoryLocation(codeLocation(),
+        FilePrintStreamFactory factory = new FilePrintStreamFactory(new StoryLocation(codeLocation(),
                 storyPath), fileConfiguration(""));
+        if (asyncWriting()) {
+            factory.useAsyncWriter(asyncWriter());
+        }
+        return factory;
     }
 
     public FileConfiguration fileConfiguration(String extension) {
@@ -10,14 +10,21 @@ import org.jbehave.core.model.StoryLanes;
 import org.jbehave.core.model.StoryMaps;
 import org.jbehave.core.reporters.TemplateableViewGenerator.Reports.ViewType;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.FilenameFilter;
 import java.io.IOException;
+import java.io.FileOutputStream;
 import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -30,6 +37,12 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static java.util.Arrays.asList;
 
@@ -52,10 +65,33 @@ import static java.util.Arrays.asList;
  * <p>
  * <pre>
  * &quot;decorateNonHtml&quot; = &quot;true&quot;
+ * &quot;streamBody&quot; = &quot;false&quot;
+ * &quot;incremental&quot; = &quot;false&quot;
  * &quot;defaultFormats&quot; = &quot;stats&quot;
  * &quot;viewDirectory&quot; = &quot;view&quot;
+ * &quot;threads&quot; = &quot;1&quot;
  * </pre>
  * <p>
+ * The single reports are decorated in parallel if the number of "threads"
+ * is greater than one, in which case the {@link TemplateProcessor} must be
+ * thread-safe. If "incremental" is "true", a report is decorated again only
+ * if it has been modified since it was last decorated, so it must only be
+ * enabled if neither the templates nor the view properties change between
+ * runs. The statistics of the stories run in the same JVM are taken from
+ * those collected by the {@link PostStoryStatisticsCollector}, if given via
+ * {@link #useCollectedStatistics(Map)}, without reading the stats files.
+ * </p>
+ * <p>
+ * If "streamBody" is "true", the report body is not loaded in memory to be
+ * decorated: the template is given a {@link ReportBody} in its place, and the
+ * body is copied from the report file between the fragments of the output
+ * preceding and following it, which are encoded in the charset of the
+ * "encoding" property, also given to the template. It must only be enabled
+ * for decorated templates which output the body unchanged, as with
+ * <code>${body}</code>, or escaped, as with <code>${body?html}</code>, as any
+ * other transformation of the body, e.g. trimming it, is not applied to the
+ * report file. If the template does not output the body once, the body is
+ * loaded in memory as a String instead.
  * </p>
  *
  * @author Mauro Talevi
@@ -66,6 +102,7 @@ public class TemplateableViewGenerator implements ViewGenerator {
     private final TemplateProcessor processor;
     private Properties viewProperties;
     private Reports reports;
+    private Map<String, Map<String, Integer>> collectedStatistics = new ConcurrentHashMap<String, Map<String, Integer>>();
 
     public TemplateableViewGenerator(StoryNameResolver nameResolver, TemplateProcessor processor) {
         this.nameResolver = nameResolver;
@@ -76,12 +113,27 @@ public class TemplateableViewGenerator implements ViewGenerator {
         Properties properties = new Properties();
         properties.setProperty("encoding", "ISO-8859-1");
         properties.setProperty("decorateNonHtml", "true");
+        properties.setProperty("streamBody", "false");
+        properties.setProperty("incremental", "false");
         properties.setProperty("defaultFormats", "stats");
         properties.setProperty("reportsViewType", Reports.ViewType.LIST.name());
         properties.setProperty("viewDirectory", "view");
+        properties.setProperty("threads", "1");
         return properties;
     }
 
+    /**
+     * Uses the statistics collected in memory, by the absolute path of their
+     * stats file, for the reports generated. The statistics of each report are
+     * removed once aggregated.
+     *
+     * @param collectedStatistics the Map of statistics by stats file path,
+     *                            which must be thread-safe
+     */
+    public void useCollectedStatistics(Map<String, Map<String, Integer>> collectedStatistics) {
+        this.collectedStatistics = collectedStatistics;
+    }
+
     private Properties mergeWithDefault(Properties properties) {
         Properties merged = defaultViewProperties();
         merged.putAll(properties);
@@ -194,42 +246,85 @@ public class TemplateableViewGenerator implements ViewGenerator {
     }
 
     Reports createReports(Map<String, List<File>> reportFiles) {
+        ExecutorService executor = null;
         try {
-            String decoratedTemplate = templateResource("decorated");
-            String nonDecoratedTemplate = templateResource("nonDecorated");
-            String viewDirectory = templateResource("viewDirectory");
-            boolean decorateNonHtml = Boolean.valueOf(templateResource("decorateNonHtml"));
-            List<Report> reports = new ArrayList<Report>();
-            for (String name : reportFiles.keySet()) {
-                Map<String, File> filesByFormat = new HashMap<String, File>();
-                for (File file : reportFiles.get(name)) {
-                    String fileName = file.getName();
-                    String format = FilenameUtils.getExtension(fileName);
-                    Map<String, Object> dataModel = newDataModel();
-                    dataModel.put("name", name);
-                    dataModel.put("body", IOUtils.toString(new FileReader(file), true));
-                    dataModel.put("format", format);
-                    File outputDirectory = file.getParentFile();
-                    String outputName = viewDirectory + "/" + fileName;
-                    String template = decoratedTemplate;
-                    if (!format.equals("html")) {
-                        if (decorateNonHtml) {
-                            outputName = outputName + ".html";
-                        } else {
-                            template = nonDecoratedTemplate;
-                        }
+            executor = Executors.newFixedThreadPool(threads(reportFiles.size()));
+            List<Future<Report>> futures = new ArrayList<Future<Report>>();
+            for (final String name : reportFiles.keySet()) {
+                final List<File> files = reportFiles.get(name);
+                futures.add(executor.submit(new Callable<Report>() {
+                    public Report call() throws Exception {
+                        return createReport(name, files);
                     }
-                    File written = write(outputDirectory, outputName, template, dataModel);
-                    filesByFormat.put(format, written);
-                }
-                reports.add(new Report(name, filesByFormat));
+                }));
+            }
+            List<Report> reports = new ArrayList<Report>();
+            for (Future<Report> future : futures) {
+                reports.add(future.get());
             }
             return new Reports(reports, nameResolver);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw new ReportCreationFailed(reportFiles, cause instanceof Exception ? (Exception) cause : e);
         } catch (Exception e) {
             throw new ReportCreationFailed(reportFiles, e);
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private int threads(int reports) {
+        try {
+            int threads = Integer.parseInt(templateResource("threads"));
+            return Math.max(1, Math.min(threads, reports));
+        } catch (NumberFormatException e) {
+            return 1;
         }
     }
 
+    private Report createReport(String name, List<File> files) throws IOException {
+        String decoratedTemplate = templateResource("decorated");
+        String nonDecoratedTemplate = templateResource("nonDecorated");
+        String viewDirectory = templateResource("viewDirectory");
+        boolean decorateNonHtml = Boolean.valueOf(templateResource("decorateNonHtml"));
+        boolean streamBody = Boolean.valueOf(templateResource("streamBody"));
+        boolean incremental = Boolean.valueOf(templateResource("incremental"));
+        Map<String, File> filesByFormat = new HashMap<String, File>();
+        Map<String, Integer> stats = null;
+        for (File file : files) {
+            String fileName = file.getName();
+            String format = FilenameUtils.getExtension(fileName);
+            if (format.equals("stats")) {
+                stats = collectedStatistics.remove(file.getAbsolutePath());
+            }
+            String outputName = viewDirectory + "/" + fileName;
+            String template = decoratedTemplate;
+            if (!format.equals("html")) {
+                if (decorateNonHtml) {
+                    outputName = outputName + ".html";
+                } else {
+                    template = nonDecoratedTemplate;
+                }
+            }
+            File output = new File(file.getParentFile(), outputName);
+            if (!incremental || !output.exists() || file.lastModified() >= output.lastModified()) {
+                Map<String, Object> dataModel = newDataModel();
+                dataModel.put("name", name);
+                dataModel.put("format", format);
+                if (streamBody) {
+                    output = decorate(file, outputName, template, dataModel);
+                } else {
+                    dataModel.put("body", IOUtils.toString(new FileReader(file), true));
+                    output = write(file.getParentFile(), outputName, template, dataModel);
+                }
+            }
+            filesByFormat.put(format, output);
+        }
+        return new Report(name, filesByFormat, stats);
+    }
+
     SortedMap<String, List<File>> readReportFiles(File outputDirectory, final String outputName,
                                                   final List<String> formats) {
         SortedMap<String, List<File>> reportFiles = new TreeMap<String, List<File>>();
@@ -262,11 +357,127 @@ public class TemplateableViewGenerator implements ViewGenerator {
         return reportFiles;
     }
 
+    private File decorate(File body, String outputName, String resource, Map<String, Object> dataModel)
+            throws IOException {
+        Charset charset = Charset.forName(templateResource("encoding"));
+        dataModel.put("encoding", charset.name());
+        String fragments = null;
+        try {
+            dataModel.put("body", new ReportBody(body));
+            StringWriter writer = new StringWriter();
+            processor.process(resource, dataModel, writer);
+            fragments = writer.toString();
+        } catch (RuntimeException e) {
+            // decorated with the body loaded in memory
+        }
+        String marker = ReportBody.MARKER;
+        int start = fragments != null ? fragments.indexOf(marker) : -1;
+        if (start < 0 && fragments != null) {
+            marker = ReportBody.ESCAPED_MARKER;
+            start = fragments.indexOf(marker);
+        }
+        if (start < 0 || fragments.indexOf(ReportBody.MARKER, start + 1) >= 0
+                || fragments.indexOf(ReportBody.ESCAPED_MARKER, start + 1) >= 0) {
+            dataModel.put("body", IOUtils.toString(new FileReader(body), true));
+            return write(body.getParentFile(), outputName, resource, dataModel, charset);
+        }
+        String header = fragments.substring(0, start);
+        String footer = fragments.substring(start + marker.length());
+        return write(body, new File(body.getParentFile(), outputName), header, footer,
+                marker.equals(ReportBody.ESCAPED_MARKER), charset, resource);
+    }
+
+    private File write(File body, File file, String header, String footer, boolean escaped, Charset charset,
+                       String resource) {
+        try {
+            file.getParentFile().mkdirs();
+            FileOutputStream output = new FileOutputStream(file);
+            try {
+                if (escaped || !charset.equals(Charset.defaultCharset())) {
+                    // the report file, written in the default charset, is decoded
+                    Writer writer = new BufferedWriter(new OutputStreamWriter(output, charset));
+                    writer.write(header);
+                    copy(body, writer, escaped);
+                    writer.write(footer);
+                    writer.flush();
+                } else {
+                    FileChannel target = output.getChannel();
+                    write(target, header, charset);
+                    FileInputStream input = new FileInputStream(body);
+                    try {
+                        FileChannel source = input.getChannel();
+                        long position = 0;
+                        long size = source.size();
+                        while (position < size) {
+                            position += source.transferTo(position, size - position, target);
+                        }
+                    } finally {
+                        input.close();
+                    }
+                    write(target, footer, charset);
+                }
+            } finally {
+                output.close();
+            }
+            return file;
+        } catch (Exception e) {
+            throw new ViewGenerationFailedForTemplate(resource, e);
+        }
+    }
+
+    private void write(FileChannel channel, String fragment, Charset charset) throws IOException {
+        ByteBuffer buffer = charset.encode(fragment);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private void copy(File body, Writer writer, boolean escaped) throws IOException {
+        Reader reader = new FileReader(body);
+        try {
+            char[] buffer = new char[ReportBody.BUFFER_SIZE];
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                if (!escaped) {
+                    writer.write(buffer, 0, read);
+                    continue;
+                }
+                // escaped as by the ?html built-in of the template
+                for (int i = 0; i < read; i++) {
+                    char c = buffer[i];
+                    switch (c) {
+                        case '<':
+                            writer.write("&lt;");
+                            break;
+                        case '>':
+                            writer.write("&gt;");
+                            break;
+                        case '&':
+                            writer.write("&amp;");
+                            break;
+                        case '"':
+                            writer.write("&quot;");
+                            break;
+                        default:
+                            writer.write(c);
+                    }
+                }
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
     private File write(File outputDirectory, String outputName, String resource, Map<String, Object> dataModel) {
+        return write(outputDirectory, outputName, resource, dataModel, Charset.defaultCharset());
+    }
+
+    private File write(File outputDirectory, String outputName, String resource, Map<String, Object> dataModel,
+                       Charset charset) {
         try {
             File file = new File(outputDirectory, outputName);
             file.getParentFile().mkdirs();
-            Writer writer = new FileWriter(file);
+            Writer writer = new OutputStreamWriter(new FileOutputStream(file), charset);
             processor.process(resource, dataModel, writer);
             writer.close();
             return file;
@@ -404,6 +615,13 @@ public class TemplateableViewGenerator implements ViewGenerator {
 
         public Properties asProperties(String format) {
             Properties p = new Properties();
+            // the stats collected in memory stand for those of the stats file
+            if (format.equals("stats") && this.stats != null && filesByFormat.containsKey(format)) {
+                for (String key : this.stats.keySet()) {
+                    p.setProperty(key, String.valueOf(this.stats.get(key)));
+                }
+                return p;
+            }
             File stats = filesByFormat.get(format);
             try {
                 InputStream inputStream = new FileInputStream(stats);
@@ -445,6 +663,58 @@ public class TemplateableViewGenerator implements ViewGenerator {
         }
     }
 
+    /**
+     * The body of a report, given to the template in place of its content.
+     * It is output as a marker, replaced by the content of the report file
+     * when the decorated report is written, escaped if the marker was.
+     */
+    public static class ReportBody {
+
+        static final String MARKER = "<jbehave:report-body/>";
+        static final String ESCAPED_MARKER = "&lt;jbehave:report-body/&gt;";
+        static final int BUFFER_SIZE = 8192;
+
+        private final File file;
+
+        public ReportBody(File file) {
+            this.file = file;
+        }
+
+        /**
+         * Reads the report file, without loading it all in memory, to find
+         * the given text
+         *
+         * @param text the text to find
+         * @return A boolean <code>true</code> if the report contains the text
+         * @throws IOException if the report file cannot be read
+         */
+        public boolean contains(String text) throws IOException {
+            Reader reader = new FileReader(file);
+            try {
+                char[] buffer = new char[BUFFER_SIZE];
+                StringBuilder window = new StringBuilder();
+                int read;
+                while ((read = reader.read(buffer)) != -1) {
+                    window.append(buffer, 0, read);
+                    if (window.indexOf(text) >= 0) {
+                        return true;
+                    }
+                    // keeps the text which could start a match in the next read
+                    window.delete(0, window.length() - Math.min(window.length(), text.length() - 1));
+                }
+                return false;
+            } finally {
+                reader.close();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return MARKER;
+        }
+
+    }
+
     public static class TimeFormatter {
 
         public String formatMillis(long millis) {
@@ -17,6 +17,11 @@ public class DelegatingStepMonitor implements StepMonitor {
         delegate.convertedValueOfType(value, type, converted, converterClass);
     }
 
+    public void convertedValueOfType(String value, Type type, Object converted, Class<?> converterClass, boolean hit,
+                                     long hits, long misses) {
+        delegate.convertedValueOfType(value, type, converted, converterClass, hit, hits, misses);
+    }
+
     public void stepMatchesType(String stepAsString, String previousAsString, boolean matchesType, StepType stepType, Method method, Object stepsInstance) {
         delegate.stepMatchesType(stepAsString, previousAsString, matchesType, stepType, method, stepsInstance);
     }
@@ -25,6 +30,10 @@ public class DelegatingStepMonitor implements StepMonitor {
         delegate.stepMatchesPattern(step, matches, stepPattern, method, stepsInstance);
     }
 
+    public void cachedStepMatch(String step, boolean hit, long hits, long misses) {
+        delegate.cachedStepMatch(step, hit, hits, misses);
+    }
+
     public void foundParameter(String parameter, int position) {
         delegate.foundParameter(parameter, position);
     }
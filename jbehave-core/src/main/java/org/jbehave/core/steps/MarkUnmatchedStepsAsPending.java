@@ -9,21 +9,35 @@ import org.jbehave.core.model.Meta;
 import org.jbehave.core.model.Scenario;
 import org.jbehave.core.model.Story;
 import org.jbehave.core.steps.AbstractStepResult.Pending;
+import org.jbehave.core.steps.MatchedStepsCache.MatchedStep;
 import org.jbehave.core.steps.StepCreator.PendingStep;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
  * StepCollector that marks unmatched steps as {@link Pending}. It uses a
  * {@link StepFinder} to collect and prioritise {@link StepCandidate}s.
+ * <p>
+ * The outcome of matching each textual step can optionally be
+ * {@link #doCacheMatchedSteps(boolean) cached}, so that steps repeated across
+ * scenarios and stories are not prioritised and matched again, e.g.:
+ * <pre>
+ * configuration.useStepCollector(new MarkUnmatchedStepsAsPending().doCacheMatchedSteps(true));
+ * </pre>
+ * The cache hits and misses are reported to the {@link StepMonitor}.
+ * </p>
  */
 public class MarkUnmatchedStepsAsPending implements StepCollector {
 
     private final StepFinder stepFinder;
     private final Keywords keywords;
+    private boolean cacheMatchedSteps = false;
+    private int matchedStepsCacheSize = 1000;
+    private final Map<List<CandidateSteps>, MatchedStepsCache> caches = new WeakHashMap<List<CandidateSteps>, MatchedStepsCache>();
 
     public MarkUnmatchedStepsAsPending() {
         this(new StepFinder());
@@ -42,6 +56,37 @@ public class MarkUnmatchedStepsAsPending implements StepCollector {
         this.keywords = keywords;
     }
 
+    /**
+     * Enables or disables the caching of the matched steps
+     *
+     * @param cacheMatchedSteps the boolean flag
+     * @return The MarkUnmatchedStepsAsPending
+     */
+    public MarkUnmatchedStepsAsPending doCacheMatchedSteps(boolean cacheMatchedSteps) {
+        this.cacheMatchedSteps = cacheMatchedSteps;
+        return this;
+    }
+
+    public boolean cacheMatchedSteps() {
+        return cacheMatchedSteps;
+    }
+
+    /**
+     * Sets the maximum number of matched steps cached for each list of
+     * {@link CandidateSteps}
+     *
+     * @param matchedStepsCacheSize the maximum size of the cache
+     * @return The MarkUnmatchedStepsAsPending
+     */
+    public MarkUnmatchedStepsAsPending useMatchedStepsCacheSize(int matchedStepsCacheSize) {
+        this.matchedStepsCacheSize = matchedStepsCacheSize;
+        return this;
+    }
+
+    public int matchedStepsCacheSize() {
+        return matchedStepsCacheSize;
+    }
+
     public List<Step> collectBeforeOrAfterStoriesSteps(List<CandidateSteps> candidateSteps, Stage stage) {
         List<Step> steps = new ArrayList<Step>();
         for (CandidateSteps candidates : candidateSteps) {
@@ -139,44 +184,44 @@ public class MarkUnmatchedStepsAsPending implements StepCollector {
     private void addMatchedSteps(List<String> stepsAsString, List<Step> steps, Map<String, String> namedParameters,
                                  List<CandidateSteps> candidateSteps, Outcome outcome, StepMonitor stepMonitor) {
         List<StepCandidate> allCandidates = this.stepFinder.collectCandidates(candidateSteps);
+        MatchedStepsCache cache = matchedStepsCacheFor(candidateSteps);
         String previousNonAndStep = null;
         for (String stepAsString : stepsAsString) {
             // pending is default step, overridden below
             Step step = StepCreator.createPendingStep(stepAsString, previousNonAndStep);
             List<Step> composedSteps = new ArrayList<Step>();
-            List<StepCandidate> prioritisedCandidates = this.stepFinder.prioritise(stepAsString, allCandidates);
-            for (StepCandidate candidate : prioritisedCandidates) {
-                candidate.useStepMonitor(stepMonitor);
-                if (candidate.ignore(stepAsString)) {
-                    // ignorable steps are added so they can be reported
-                    step = StepCreator.createIgnorableStep(stepAsString);
-                    break;
-                }
-                if (candidate.comment(stepAsString)) {
-                    // comments are added so they can be reported
-                    step = StepCreator.createComment(stepAsString);
-                    break;
-                }
-                if (matchesCandidate(stepAsString, previousNonAndStep, candidate)) {
-                    // step matches candidate
-                    if (candidate.isPending()) {
-                        ((PendingStep) step).annotatedOn(candidate.getMethod());
+            MatchedStep matchedStep = matchStep(stepAsString, previousNonAndStep, candidateSteps, allCandidates,
+                    cache, stepMonitor);
+            switch (matchedStep.getType()) {
+            case IGNORABLE:
+                // ignorable steps are added so they can be reported
+                step = StepCreator.createIgnorableStep(stepAsString);
+                break;
+            case COMMENT:
+                // comments are added so they can be reported
+                step = StepCreator.createComment(stepAsString);
+                break;
+            case MATCHED:
+                StepCandidate candidate = matchedStep.getCandidate();
+                if (candidate.isPending()) {
+                    ((PendingStep) step).annotatedOn(candidate.getMethod());
+                } else {
+                    if (outcome != null) {
+                        step = candidate.createMatchedStepUponOutcome(stepAsString, namedParameters, outcome);
                     } else {
-                        if (outcome != null) {
-                            step = candidate.createMatchedStepUponOutcome(stepAsString, namedParameters, outcome);
-                        } else {
-                            step = candidate.createMatchedStep(stepAsString, namedParameters);
-                        }
-                        if (candidate.isComposite()) {
-                            candidate.addComposedSteps(composedSteps, stepAsString, namedParameters, allCandidates);
-                        }
+                        step = candidate.createMatchedStep(stepAsString, namedParameters);
                     }
-                    if (!(candidate.isAndStep(stepAsString) || candidate.isIgnorableStep(stepAsString))) {
-                        // only update previous step if not AND or IGNORABLE step
-                        previousNonAndStep = stepAsString;
+                    if (candidate.isComposite()) {
+                        candidate.addComposedSteps(composedSteps, stepAsString, namedParameters, allCandidates);
                     }
-                    break;
                 }
+                if (!(candidate.isAndStep(stepAsString) || candidate.isIgnorableStep(stepAsString))) {
+                    // only update previous step if not AND or IGNORABLE step
+                    previousNonAndStep = stepAsString;
+                }
+                break;
+            default:
+                break;
             }
             if (!(this.keywords.isAndStep(stepAsString) || this.keywords.isIgnorableStep(stepAsString))) {
                 previousNonAndStep = stepAsString;
@@ -186,6 +231,66 @@ public class MarkUnmatchedStepsAsPending implements StepCollector {
         }
     }
 
+    private MatchedStep matchStep(String stepAsString, String previousNonAndStep,
+                                  List<CandidateSteps> candidateSteps, List<StepCandidate> allCandidates,
+                                  MatchedStepsCache cache, StepMonitor stepMonitor) {
+        if (cache != null) {
+            MatchedStep cached = cache.get(stepAsString, previousNonAndStep, stepMonitor);
+            if (cached != null) {
+                if (cached.getType() != MatchedStep.Type.MATCHED) {
+                    return cached;
+                }
+                // the winning candidate alone is matched again, so that its
+                // match is monitored and its parameters are resolved
+                StepCandidate candidate = cached.getCandidate();
+                candidate.useStepMonitor(stepMonitor);
+                if (matchesCandidate(stepAsString, previousNonAndStep, candidate)) {
+                    return cached;
+                }
+            }
+        }
+        MatchedStep matchedStep = findMatchedStep(stepAsString, previousNonAndStep, candidateSteps,
+                allCandidates, stepMonitor);
+        if (cache != null) {
+            cache.put(stepAsString, previousNonAndStep, matchedStep);
+        }
+        return matchedStep;
+    }
+
+    private MatchedStep findMatchedStep(String stepAsString, String previousNonAndStep,
+                                        List<CandidateSteps> candidateSteps, List<StepCandidate> allCandidates,
+                                        StepMonitor stepMonitor) {
+        List<StepCandidate> prioritisedCandidates = this.stepFinder.prioritise(stepAsString,
+                this.stepFinder.candidatesFor(stepAsString, candidateSteps, allCandidates));
+        for (StepCandidate candidate : prioritisedCandidates) {
+            candidate.useStepMonitor(stepMonitor);
+            if (candidate.ignore(stepAsString)) {
+                return MatchedStep.IGNORABLE;
+            }
+            if (candidate.comment(stepAsString)) {
+                return MatchedStep.COMMENT;
+            }
+            if (matchesCandidate(stepAsString, previousNonAndStep, candidate)) {
+                return MatchedStep.matched(candidate);
+            }
+        }
+        return MatchedStep.PENDING;
+    }
+
+    private MatchedStepsCache matchedStepsCacheFor(List<CandidateSteps> candidateSteps) {
+        if (!cacheMatchedSteps) {
+            return null;
+        }
+        synchronized (caches) {
+            MatchedStepsCache cache = caches.get(candidateSteps);
+            if (cache == null) {
+                cache = new MatchedStepsCache(keywords, matchedStepsCacheSize);
+                caches.put(candidateSteps, cache);
+            }
+            return cache;
+        }
+    }
+
     private boolean matchesCandidate(String step, String previousNonAndStep, StepCandidate candidate) {
         if (previousNonAndStep != null) {
             return candidate.matches(step, previousNonAndStep);
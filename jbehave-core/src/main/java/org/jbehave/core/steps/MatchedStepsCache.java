@@ -0,0 +1,172 @@
+package org.jbehave.core.steps;
+
+import org.jbehave.core.configuration.Keywords;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Bounded cache of the outcomes of matching textual steps against the
+ * {@link StepCandidate}s collected from a list of {@link CandidateSteps}. The
+ * outcomes are keyed by the textual step and by the starting word of the
+ * previous non-And step, as the latter determines the type matched by And
+ * steps. The cache can be read and updated concurrently, without locking. When
+ * the maximum size is exceeded, the least recently used outcomes are evicted
+ * by a single thread, until a tenth of the maximum size is free again. The
+ * eviction is approximate, as outcomes put or used while it runs may be
+ * evicted in the place of older ones, or the size may briefly exceed the
+ * maximum.
+ */
+class MatchedStepsCache {
+
+    private final ConcurrentMap<List<String>, CachedStep> matched = new ConcurrentHashMap<List<String>, CachedStep>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final int maximumSize;
+    private final String[] startingWords;
+
+    MatchedStepsCache(Keywords keywords, int maximumSize) {
+        this.maximumSize = maximumSize;
+        this.startingWords = keywords.startingWords();
+        // longest first, so that the most specific starting word is found
+        Arrays.sort(this.startingWords, new Comparator<String>() {
+            public int compare(String o1, String o2) {
+                return o2.length() - o1.length();
+            }
+        });
+    }
+
+    MatchedStep get(String step, String previousNonAndStep, StepMonitor stepMonitor) {
+        CachedStep cached = matched.get(keyFor(step, previousNonAndStep));
+        if (cached != null) {
+            cached.lastUsed = clock.incrementAndGet();
+            stepMonitor.cachedStepMatch(step, true, hits.incrementAndGet(), misses.get());
+            return cached.matchedStep;
+        }
+        stepMonitor.cachedStepMatch(step, false, hits.get(), misses.incrementAndGet());
+        return null;
+    }
+
+    void put(String step, String previousNonAndStep, MatchedStep matchedStep) {
+        CachedStep cached = new CachedStep(matchedStep, clock.incrementAndGet());
+        if (matched.put(keyFor(step, previousNonAndStep), cached) == null && size.incrementAndGet() > maximumSize) {
+            evict();
+        }
+    }
+
+    long hits() {
+        return hits.get();
+    }
+
+    long misses() {
+        return misses.get();
+    }
+
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            // another thread is already evicting
+            return;
+        }
+        try {
+            List<Map.Entry<List<String>, CachedStep>> entries = new ArrayList<Map.Entry<List<String>, CachedStep>>(
+                    matched.entrySet());
+            int evictable = entries.size() - (maximumSize - maximumSize / 10);
+            if (evictable <= 0) {
+                return;
+            }
+            Collections.sort(entries, new Comparator<Map.Entry<List<String>, CachedStep>>() {
+                public int compare(Map.Entry<List<String>, CachedStep> o1, Map.Entry<List<String>, CachedStep> o2) {
+                    long lastUsed1 = o1.getValue().lastUsed;
+                    long lastUsed2 = o2.getValue().lastUsed;
+                    return lastUsed1 < lastUsed2 ? -1 : (lastUsed1 == lastUsed2 ? 0 : 1);
+                }
+            });
+            for (Map.Entry<List<String>, CachedStep> entry : entries.subList(0, evictable)) {
+                if (matched.remove(entry.getKey(), entry.getValue())) {
+                    size.decrementAndGet();
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private List<String> keyFor(String step, String previousNonAndStep) {
+        return asList(step, startingWordOf(previousNonAndStep));
+    }
+
+    private String startingWordOf(String step) {
+        if (step == null) {
+            return "";
+        }
+        for (String startingWord : startingWords) {
+            if (step.startsWith(startingWord + " ")) {
+                return startingWord;
+            }
+        }
+        // no starting word found: the whole step is used
+        return step;
+    }
+
+    private static class CachedStep {
+
+        private final MatchedStep matchedStep;
+        private volatile long lastUsed;
+
+        private CachedStep(MatchedStep matchedStep, long lastUsed) {
+            this.matchedStep = matchedStep;
+            this.lastUsed = lastUsed;
+        }
+
+    }
+
+    /**
+     * The outcome of matching a textual step
+     */
+    static class MatchedStep {
+
+        enum Type {
+            MATCHED, PENDING, IGNORABLE, COMMENT
+        }
+
+        static final MatchedStep PENDING = new MatchedStep(Type.PENDING, null);
+        static final MatchedStep IGNORABLE = new MatchedStep(Type.IGNORABLE, null);
+        static final MatchedStep COMMENT = new MatchedStep(Type.COMMENT, null);
+
+        private final Type type;
+        private final StepCandidate candidate;
+
+        private MatchedStep(Type type, StepCandidate candidate) {
+            this.type = type;
+            this.candidate = candidate;
+        }
+
+        static MatchedStep matched(StepCandidate candidate) {
+            return new MatchedStep(Type.MATCHED, candidate);
+        }
+
+        Type getType() {
+            return type;
+        }
+
+        StepCandidate getCandidate() {
+            return candidate;
+        }
+
+    }
+
+}
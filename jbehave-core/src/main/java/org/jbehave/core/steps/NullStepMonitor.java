@@ -18,9 +18,18 @@ public class NullStepMonitor implements StepMonitor {
                                    Object stepsInstance) {
     }
 
+    public void cachedStepMatch(String step, boolean hit, long hits, long misses) {
+    }
+
     public void convertedValueOfType(String value, Type type, Object converted, Class<?> converterClass) {
     }
 
+    public void convertedValueOfType(String value, Type type, Object converted, Class<?> converterClass, boolean hit,
+                                     long hits, long misses) {
+        // monitors overriding only the conversion are still notified of it
+        convertedValueOfType(value, type, converted, converterClass);
+    }
+
     public void performing(String step, boolean dryRun) {
     }
 
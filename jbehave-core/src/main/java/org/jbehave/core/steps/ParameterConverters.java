@@ -23,6 +23,8 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -63,9 +65,22 @@ public class ParameterConverters {
     private static final String DEFAULT_TRUE_VALUE = "true";
     private static final String DEFAULT_FALSE_VALUE = "false";
 
+    private static final ParameterConverter NO_CONVERTER = new ParameterConverter() {
+        public boolean accept(Type type) {
+            return false;
+        }
+
+        public Object convertValue(String value, Type type) {
+            throw new UnsupportedOperationException();
+        }
+    };
+
     private final StepMonitor monitor;
     private final List<ParameterConverter> converters;
     private final boolean threadSafe;
+    private volatile ConcurrentMap<Type, ParameterConverter> convertersByType = new ConcurrentHashMap<Type, ParameterConverter>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
 
     /**
      * Creates a non-thread-safe instance of ParameterConverters using default
@@ -152,18 +167,43 @@ public class ParameterConverters {
 
     public ParameterConverters addConverters(List<ParameterConverter> converters) {
         this.converters.addAll(0, converters);
+        this.convertersByType = new ConcurrentHashMap<Type, ParameterConverter>();
         return this;
     }
 
+    /**
+     * Converts the value with the first converter that accepts the type. The
+     * converter is resolved only the first time the type is converted, as
+     * converters are looked up in registration order and the resolution only
+     * changes when converters are added. Whether the resolution was cached is
+     * reported to the {@link StepMonitor} with each conversion.
+     *
+     * @param value the String value to convert
+     * @param type  the Type to convert to
+     * @return The converted value
+     */
     public Object convert(String value, Type type) {
 
-        // check if any converters accepts type
-        for (ParameterConverter converter : converters) {
-            if (converter.accept(type)) {
-                Object converted = converter.convertValue(value, type);
-                monitor.convertedValueOfType(value, type, converted, converter.getClass());
-                return converted;
+        ConcurrentMap<Type, ParameterConverter> convertersByType = this.convertersByType;
+        ParameterConverter converter = type != null ? convertersByType.get(type) : null;
+        boolean hit = converter != null;
+        long hits;
+        long misses;
+        if (hit) {
+            hits = this.hits.incrementAndGet();
+            misses = this.misses.get();
+        } else {
+            converter = firstAccepting(type);
+            if (type != null) {
+                convertersByType.put(type, converter);
             }
+            hits = this.hits.get();
+            misses = this.misses.incrementAndGet();
+        }
+        if (converter != NO_CONVERTER) {
+            Object converted = converter.convertValue(value, type);
+            monitor.convertedValueOfType(value, type, converted, converter.getClass(), hit, hits, misses);
+            return converted;
         }
 
         if (type == String.class) {
@@ -173,6 +213,15 @@ public class ParameterConverters {
         throw new ParameterConvertionFailed("No parameter converter for " + type);
     }
 
+    private ParameterConverter firstAccepting(Type type) {
+        for (ParameterConverter converter : converters) {
+            if (converter.accept(type)) {
+                return converter;
+            }
+        }
+        return NO_CONVERTER;
+    }
+
     private Object replaceNewlinesWithSystemNewlines(String value) {
         return value.replaceAll(NEWLINES_PATTERN, SYSTEM_NEWLINE);
     }
@@ -229,9 +278,15 @@ public class ParameterConverters {
     public static class NumberConverter implements ParameterConverter {
         private static List<Class<?>> primitiveTypes = asList(new Class<?>[]{byte.class, short.class, int.class,
                 float.class, long.class, double.class});
+        private static List<Class<?>> plainLiteralTypes = asList(new Class<?>[]{Byte.class, byte.class,
+                Short.class, short.class, Integer.class, int.class, Float.class, float.class, Long.class, long.class,
+                Double.class, double.class, BigInteger.class});
+        private static final int MAX_PLAIN_LITERAL_LENGTH = 18;
 
         private final NumberFormat numberFormat;
         private ThreadLocal<NumberFormat> threadLocalNumberFormat = new ThreadLocal<NumberFormat>();
+        private final boolean parsesPlainIntegers;
+        private final boolean parsesPlainDecimals;
 
         public NumberConverter() {
             this(NumberFormat.getInstance(DEFAULT_NUMBER_FORMAT_LOCAL));
@@ -242,6 +297,36 @@ public class ParameterConverters {
                 this.numberFormat = numberFormat;
                 this.threadLocalNumberFormat.set((NumberFormat) this.numberFormat.clone());
             }
+            this.parsesPlainIntegers = parsesPlainIntegers(numberFormat);
+            this.parsesPlainDecimals = parsesPlainIntegers && parsesPlainDecimals((DecimalFormat) numberFormat);
+        }
+
+        /**
+         * Plain integer literals, such as "42" or "-42", are parsed to the same
+         * value as the number format would when it is a decimal format without
+         * prefixes, suffixes or multiplier, using ASCII digits.
+         */
+        private static boolean parsesPlainIntegers(NumberFormat numberFormat) {
+            if (!(numberFormat instanceof DecimalFormat)) {
+                return false;
+            }
+            DecimalFormat decimalFormat = (DecimalFormat) numberFormat;
+            DecimalFormatSymbols symbols = decimalFormat.getDecimalFormatSymbols();
+            return symbols.getZeroDigit() == '0' && decimalFormat.getMultiplier() == 1
+                    && decimalFormat.getPositivePrefix().length() == 0
+                    && decimalFormat.getPositiveSuffix().length() == 0
+                    && "-".equals(decimalFormat.getNegativePrefix())
+                    && decimalFormat.getNegativeSuffix().length() == 0;
+        }
+
+        /**
+         * Plain decimal literals, such as "4.2", are also parsed to the same
+         * value if the decimal format uses "." as decimal separator.
+         */
+        private static boolean parsesPlainDecimals(DecimalFormat decimalFormat) {
+            DecimalFormatSymbols symbols = decimalFormat.getDecimalFormatSymbols();
+            return !decimalFormat.isParseIntegerOnly() && symbols.getDecimalSeparator() == '.'
+                    && symbols.getGroupingSeparator() != '.';
         }
 
         public boolean accept(Type type) {
@@ -253,7 +338,10 @@ public class ParameterConverters {
 
         public Object convertValue(String value, Type type) {
             try {
-                Number n = numberFormat().parse(value);
+                Number n = plainLiteralTypes.contains(type) ? plainNumber(value) : null;
+                if (n == null) {
+                    n = numberFormat().parse(value);
+                }
                 if (type == Byte.class || type == byte.class) {
                     return n.byteValue();
                 } else if (type == Short.class || type == short.class) {
@@ -284,6 +372,42 @@ public class ParameterConverters {
             }
         }
 
+        /**
+         * Parses plain integer and decimal literals without going through the
+         * number format, when they would be parsed to the same value.
+         *
+         * @param value the String value
+         * @return The parsed Number or <code>null</code> if the value is not a
+         * plain literal, in which case the number format is used
+         */
+        private Number plainNumber(String value) {
+            int length = value.length();
+            if (!parsesPlainIntegers || length == 0 || length > MAX_PLAIN_LITERAL_LENGTH) {
+                return null;
+            }
+            int start = value.charAt(0) == '-' ? 1 : 0;
+            long integer = 0;
+            boolean decimal = false;
+            for (int i = start; i < length; i++) {
+                char c = value.charAt(i);
+                if (c >= '0' && c <= '9') {
+                    integer = integer * 10 + (c - '0');
+                } else if (c == '.' && parsesPlainDecimals && !decimal && i > start && i < length - 1) {
+                    decimal = true;
+                } else {
+                    return null;
+                }
+            }
+            if (decimal) {
+                return Double.parseDouble(value);
+            }
+            if (start == length || (start == 1 && integer == 0)) {
+                // negative zero is parsed by the number format as a double
+                return null;
+            }
+            return start == 1 ? -integer : integer;
+        }
+
         /**
          * Return NumberFormat instance with preferred locale threadsafe
          *
@@ -453,6 +577,7 @@ public class ParameterConverters {
         public static final DateFormat DEFAULT_FORMAT = new SimpleDateFormat("dd/MM/yyyy");
 
         private final DateFormat dateFormat;
+        private final ThreadLocal<DateFormat> threadLocalDateFormat = new ThreadLocal<DateFormat>();
 
         public DateConverter() {
             this(DEFAULT_FORMAT);
@@ -471,7 +596,7 @@ public class ParameterConverters {
 
         public Object convertValue(String value, Type type) {
             try {
-                return dateFormat.parse(value);
+                return dateFormat().parse(value);
             } catch (ParseException e) {
                 throw new ParameterConvertionFailed("Failed to convert value "
                         + value
@@ -481,6 +606,25 @@ public class ParameterConverters {
             }
         }
 
+        /**
+         * Returns a copy of the date format for the current thread, as date
+         * formats are not thread-safe and the same converter, possibly using
+         * the shared {@link #DEFAULT_FORMAT}, converts values in all story
+         * threads.
+         *
+         * @return A threadlocal version of original DateFormat instance
+         */
+        private DateFormat dateFormat() {
+            DateFormat format = threadLocalDateFormat.get();
+            if (format == null) {
+                synchronized (dateFormat) {
+                    format = (DateFormat) dateFormat.clone();
+                }
+                threadLocalDateFormat.set(format);
+            }
+            return format;
+        }
+
     }
 
     public static class BooleanConverter implements ParameterConverter {
@@ -17,8 +17,12 @@ import static java.util.Arrays.asList;
 public class PrintStreamStepMonitor implements StepMonitor {
 
     private static final String CONVERTED_VALUE_OF_TYPE = "Converted value ''{0}'' of type ''{1}'' to ''{2}'' with converter ''{3}''";
+    private static final String CACHED_CONVERTER = "Converted value ''{0}'' of type ''{1}'' to ''{2}'' with converter ''{3}'' {4} cache of converters by type ({5} hits, {6} misses)";
     private static final String STEP_MATCHES_TYPE = "Step ''{0}'' (with previous step ''{1}'') ''{2}'' type ''{3}'' for method ''{4}'' with annotations ''{5}'' in steps instance ''{6}''";
     private static final String STEP_MATCHES_PATTERN = "Step ''{0}'' {1} pattern ''{2}'' for method ''{3}'' with annotations ''{4}'' in steps instance ''{5}''";
+    private static final String CACHED_STEP_MATCH = "Step ''{0}'' {1} cache of matched steps ({2} hits, {3} misses)";
+    private static final String HIT = "hit";
+    private static final String MISSED = "missed";
     private static final String PERFORMING = "Performing step ''{0}'' {1}";
     private static final String DRY_RUN = "(DRY RUN)";
     private static final String MATCHES = "matches";
@@ -58,12 +62,22 @@ public class PrintStreamStepMonitor implements StepMonitor {
         print(output, message);
     }
 
+    public void cachedStepMatch(String step, boolean hit, long hits, long misses) {
+        print(output, format(CACHED_STEP_MATCH, step, (hit ? HIT : MISSED), hits, misses));
+    }
+
     public void convertedValueOfType(String value, Type type, Object converted,
                                      Class<?> converterClass) {
         print(output, format(CONVERTED_VALUE_OF_TYPE, value, type,
                 converted, converterClass));
     }
 
+    public void convertedValueOfType(String value, Type type, Object converted, Class<?> converterClass,
+                                     boolean hit, long hits, long misses) {
+        print(output, format(CACHED_CONVERTER, value, type, converted, converterClass, (hit ? HIT : MISSED), hits,
+                misses));
+    }
+
     public void performing(String step, boolean dryRun) {
         print(output, format(PERFORMING, step, (dryRun ? DRY_RUN : "")));
     }
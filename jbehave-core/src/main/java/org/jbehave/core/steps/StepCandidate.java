@@ -108,8 +108,7 @@ public class StepCandidate {
 
     public boolean ignore(String stepAsString) {
         try {
-            String ignoreWord = keywords.startingWordFor(StepType.IGNORABLE);
-            return isIgnoredStep(stepAsString, ignoreWord);
+            return keywords.isIgnoredStep(stepAsString);
         } catch (StartingWordNotFound e) {
             return false;
         }
@@ -118,23 +117,12 @@ public class StepCandidate {
     public boolean comment(String stepAsString) {
         try {
             String ignoreWord = keywords.startingWordFor(StepType.IGNORABLE);
-            return keywords.stepStartsWithWord(stepAsString, ignoreWord) && !isIgnoredStep(stepAsString, ignoreWord);
+            return keywords.stepStartsWithWord(stepAsString, ignoreWord) && !keywords.isIgnoredStep(stepAsString);
         } catch (StartingWordNotFound e) {
             return false;
         }
     }
 
-    private boolean isIgnoredStep(String stepAsString, String ignoreWord) {
-        for (Map.Entry<StepType, String> stepStartingWord : keywords.startingWordsByType().entrySet()) {
-            if (stepStartingWord.getKey() != StepType.IGNORABLE) {
-                if (keywords.stepStartsWithWords(stepAsString, ignoreWord, stepStartingWord.getValue())) {
-                    return true;
-                }
-            }
-        }
-        return false;
-    }
-
     public boolean isPending() {
         return method.isAnnotationPresent(Pending.class);
     }
@@ -224,6 +212,31 @@ public class StepCandidate {
         return keywords.isIgnorableStep(stepAsString);
     }
 
+    StepMatcher getStepMatcher() {
+        return stepMatcher;
+    }
+
+    /**
+     * Returns the step without the starting word of this candidate's type or
+     * of an And step, or <code>null</code> if the step starts with neither.
+     */
+    String stepWithoutStartingWord(String stepAsString) {
+        try {
+            return stripStartingWord(stepAsString);
+        } catch (StartingWordNotFound e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the step matches the pattern of this
+     * candidate, regardless of the type, without monitoring the match.
+     */
+    boolean matchesPattern(String stepAsString) {
+        String stepWithoutStartingWord = stepWithoutStartingWord(stepAsString);
+        return stepWithoutStartingWord != null && stepMatcher.matches(stepWithoutStartingWord);
+    }
+
     private String findStartingWord(String stepAsString) {
         return keywords.startingWord(stepAsString, stepType);
     }
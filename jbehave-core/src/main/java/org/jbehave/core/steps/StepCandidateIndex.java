@@ -0,0 +1,141 @@
+package org.jbehave.core.steps;
+
+import org.jbehave.core.parsers.RegexStepMatcher;
+import org.jbehave.core.parsers.StepMatcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Indexes {@link StepCandidate}s by {@link StepType} and by the literal prefix
+ * of their patterns, i.e. the text up to the first parameter, so that only the
+ * candidates which can possibly match a textual step need to be tried. The
+ * prefixes are held in a trie per step type, in which a single space stands
+ * for any run of whitespace. Candidates whose prefix cannot be determined,
+ * e.g. not using a {@link RegexStepMatcher}, are always returned.
+ */
+class StepCandidateIndex {
+
+    private final List<StepCandidate> candidates;
+    private final Map<StepType, Node> tries = new HashMap<StepType, Node>();
+    private final Map<StepType, StepCandidate> candidatesByType = new HashMap<StepType, StepCandidate>();
+
+    StepCandidateIndex(List<StepCandidate> candidates) {
+        this.candidates = new ArrayList<StepCandidate>(candidates);
+        for (int position = 0; position < this.candidates.size(); position++) {
+            StepCandidate candidate = this.candidates.get(position);
+            StepType stepType = candidate.getStepType();
+            Node root = tries.get(stepType);
+            if (root == null) {
+                root = new Node();
+                tries.put(stepType, root);
+                candidatesByType.put(stepType, candidate);
+            }
+            root.add(literalPrefix(candidate.getStepMatcher()), position);
+        }
+    }
+
+    /**
+     * Returns the candidates which can possibly match the given step, in the
+     * order in which they were indexed. Ignorable steps are not indexed and
+     * all candidates are returned for them.
+     *
+     * @param stepAsString the textual step
+     * @return The List of StepCandidates
+     */
+    List<StepCandidate> candidatesFor(String stepAsString) {
+        if (candidates.isEmpty() || candidates.get(0).isIgnorableStep(stepAsString)) {
+            return new ArrayList<StepCandidate>(candidates);
+        }
+        Positions positions = new Positions();
+        for (Map.Entry<StepType, Node> trie : tries.entrySet()) {
+            String stepWithoutStartingWord = candidatesByType.get(trie.getKey()).stepWithoutStartingWord(stepAsString);
+            if (stepWithoutStartingWord != null) {
+                trie.getValue().collect(stepWithoutStartingWord, positions);
+            }
+        }
+        int[] sorted = positions.sorted();
+        List<StepCandidate> found = new ArrayList<StepCandidate>(sorted.length);
+        for (int position : sorted) {
+            found.add(candidates.get(position));
+        }
+        return found;
+    }
+
+    private String literalPrefix(StepMatcher stepMatcher) {
+        if (stepMatcher instanceof RegexStepMatcher) {
+            return ((RegexStepMatcher) stepMatcher).literalPrefix();
+        }
+        return "";
+    }
+
+    private static boolean isWhitespace(char c) {
+        // as matched by the \s regex character class
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<Character, Node>();
+        private int[] positions = new int[0];
+
+        void add(String prefix, int position) {
+            Node node = this;
+            for (int i = 0; i < prefix.length(); i++) {
+                Character c = prefix.charAt(i);
+                Node child = node.children.get(c);
+                if (child == null) {
+                    child = new Node();
+                    node.children.put(c, child);
+                }
+                node = child;
+            }
+            node.positions = Arrays.copyOf(node.positions, node.positions.length + 1);
+            node.positions[node.positions.length - 1] = position;
+        }
+
+        void collect(String step, Positions found) {
+            Node node = this;
+            found.addAll(node.positions);
+            int i = 0;
+            while (i < step.length()) {
+                char c = step.charAt(i);
+                if (isWhitespace(c)) {
+                    while (i < step.length() && isWhitespace(step.charAt(i))) {
+                        i++;
+                    }
+                    c = ' ';
+                } else {
+                    i++;
+                }
+                node = node.children.get(c);
+                if (node == null) {
+                    return;
+                }
+                found.addAll(node.positions);
+            }
+        }
+    }
+
+    private static class Positions {
+        private int[] positions = new int[16];
+        private int size;
+
+        void addAll(int[] more) {
+            if (size + more.length > positions.length) {
+                positions = Arrays.copyOf(positions, Math.max(positions.length * 2, size + more.length));
+            }
+            System.arraycopy(more, 0, positions, size, more.length);
+            size += more.length;
+        }
+
+        int[] sorted() {
+            int[] sorted = Arrays.copyOf(positions, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+
+}
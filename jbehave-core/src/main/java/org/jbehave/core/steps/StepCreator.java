@@ -16,6 +16,8 @@ import org.jbehave.core.failures.RestartingScenarioFailure;
 import org.jbehave.core.failures.UUIDExceptionWrapper;
 import org.jbehave.core.model.ExamplesTable;
 import org.jbehave.core.model.Meta;
+import org.jbehave.core.parsers.RegexStepMatcher;
+import org.jbehave.core.parsers.StepMatchResult;
 import org.jbehave.core.parsers.StepMatcher;
 import org.jbehave.core.reporters.StoryReporter;
 import org.jbehave.core.steps.context.StepsContext;
@@ -27,6 +29,8 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -61,6 +65,7 @@ public class StepCreator {
     private StepMonitor stepMonitor;
     private Paranamer paranamer = new NullParanamer();
     private boolean dryRun = false;
+    private final ConcurrentMap<Method, MethodParameters> methodParameters = new ConcurrentHashMap<Method, MethodParameters>();
 
     public StepCreator(Class<?> stepsType, InjectableStepsFactory stepsFactory,
                        StepsContext stepsContext, ParameterConverters parameterConverters, ParameterControls parameterControls,
@@ -94,6 +99,7 @@ public class StepCreator {
 
     public void useParanamer(Paranamer paranamer) {
         this.paranamer = paranamer;
+        this.methodParameters.clear();
     }
 
     public void doDryRun(boolean dryRun) {
@@ -123,11 +129,12 @@ public class StepCreator {
     public Map<String, String> matchedParameters(final Method method, final String stepAsString,
                                                  final String stepWithoutStartingWord, final Map<String, String> namedParameters) {
         Map<String, String> matchedParameters = new HashMap<String, String>();
-        if (this.stepMatcher.find(stepWithoutStartingWord)) {
+        StepMatchResult match = findMatch(stepWithoutStartingWord);
+        if (match.found()) {
             // we've found a match, populate map
             ParameterName[] parameterNames = parameterNames(method);
-            Type[] types = method.getGenericParameterTypes();
-            String[] values = parameterValuesForStep(namedParameters, types, parameterNames);
+            Type[] types = parameterTypes(method);
+            String[] values = parameterValuesForStep(match, namedParameters, types, parameterNames);
 
 
             for (int i = 0; i < parameterNames.length; i++) {
@@ -142,6 +149,31 @@ public class StepCreator {
         return matchedParameters;
     }
 
+    /**
+     * Finds the step pattern of the step matcher in the step. A
+     * {@link RegexStepMatcher} finds it without changing the state of the
+     * matcher seen by other threads. The result of any other matcher is built
+     * from its parameters at the positions of its parameter names, the whole
+     * match at position 0 being then unknown and <code>null</code>.
+     *
+     * @param stepWithoutStartingWord the step to match
+     * @return The StepMatchResult holding the matched parameters, or
+     * {@link StepMatchResult#NOT_FOUND}
+     */
+    StepMatchResult findMatch(String stepWithoutStartingWord) {
+        if (stepMatcher instanceof RegexStepMatcher) {
+            return ((RegexStepMatcher) stepMatcher).findMatch(stepWithoutStartingWord);
+        }
+        if (!stepMatcher.find(stepWithoutStartingWord)) {
+            return StepMatchResult.NOT_FOUND;
+        }
+        String[] parameters = new String[stepMatcher.parameterNames().length + 1];
+        for (int i = 1; i < parameters.length; i++) {
+            parameters[i] = stepMatcher.parameter(i);
+        }
+        return new StepMatchResult(parameters);
+    }
+
     /**
      * Returns the {@link ParameterName} representations for the method,
      * providing an abstraction that supports both annotated and non-annotated
@@ -151,15 +183,34 @@ public class StepCreator {
      * @return The array of {@link ParameterName}s
      */
     private ParameterName[] parameterNames(Method method) {
-        String[] annotatedNames = annotatedParameterNames(method);
-        String[] paranamerNames = paranamerParameterNames(method);
-        String[] contextNames = contextParameterNames(method);
+        return methodParameters(method).names;
+    }
+
+    private Type[] parameterTypes(Method method) {
+        return methodParameters(method).types;
+    }
 
-        ParameterName[] parameterNames = new ParameterName[annotatedNames.length];
-        for (int i = 0; i < annotatedNames.length; i++) {
-            parameterNames[i] = parameterName(annotatedNames, paranamerNames, contextNames, i);
+    /**
+     * Returns the {@link MethodParameters} of the method, resolving them on
+     * first use only. The annotations, the generic types and the names looked
+     * up by the {@link Paranamer} do not change between invocations, so they
+     * are reused by every step created for the method, until a different
+     * {@link Paranamer} is used.
+     *
+     * @param method the Method
+     * @return The {@link MethodParameters}
+     */
+    private MethodParameters methodParameters(Method method) {
+        MethodParameters parameters = this.methodParameters.get(method);
+        if (parameters == null) {
+            parameters = new MethodParameters(method.getGenericParameterTypes(), annotatedParameterNames(method),
+                    paranamerParameterNames(method), contextParameterNames(method));
+            MethodParameters existing = this.methodParameters.putIfAbsent(method, parameters);
+            if (existing != null) {
+                parameters = existing;
+            }
         }
-        return parameterNames;
+        return parameters;
     }
 
     private ParameterName parameterName(String[] annotatedNames, String[] paranamerNames, String[] contextNames, int i) {
@@ -398,10 +449,11 @@ public class StepCreator {
         return result;
     }
 
-    private String[] parameterValuesForStep(Map<String, String> namedParameters, Type[] types, ParameterName[] names) {
+    private String[] parameterValuesForStep(StepMatchResult match, Map<String, String> namedParameters, Type[] types,
+                                            ParameterName[] names) {
         final String[] parameters = new String[types.length];
         for (int position = 0; position < types.length; position++) {
-            parameters[position] = parameterForPosition(position, names, namedParameters);
+            parameters[position] = parameterForPosition(match, position, names, namedParameters);
         }
         return parameters;
     }
@@ -418,7 +470,8 @@ public class StepCreator {
         return parameters;
     }
 
-    private String parameterForPosition(int position, ParameterName[] names, Map<String, String> namedParameters) {
+    private String parameterForPosition(StepMatchResult match, int position, ParameterName[] names,
+                                        Map<String, String> namedParameters) {
         int namePosition = parameterPosition(names, position);
         String parameter = null;
 
@@ -430,7 +483,7 @@ public class StepCreator {
             boolean delimitedNamedParameters = false;
 
             if (isGroupName(name)) {
-                parameter = matchedParameter(name);
+                parameter = matchedParameter(match, name);
                 String delimitedName = delimitedNameFor(parameter);
 
                 if (delimitedName != null) {
@@ -459,7 +512,7 @@ public class StepCreator {
             // This allow parameters to be in different order.
             position = position - numberOfPreviousFromContext(names, position);
             this.stepMonitor.usingNaturalOrderForParameter(position);
-            parameter = matchedParameter(position);
+            parameter = matchedParameter(match, position);
             String delimitedName = delimitedNameFor(parameter);
 
             if (delimitedName != null && isTableName(namedParameters, delimitedName)) {
@@ -508,22 +561,22 @@ public class StepCreator {
         return matcher.matches() ? matcher.group(1) : null;
     }
 
-    String matchedParameter(String name) {
+    String matchedParameter(StepMatchResult match, String name) {
         String[] parameterNames = this.stepMatcher.parameterNames();
         for (int i = 0; i < parameterNames.length; i++) {
             String parameterName = parameterNames[i];
             if (name.equals(parameterName)) {
-                return matchedParameter(i);
+                return matchedParameter(match, i);
             }
         }
         throw new ParameterNotFound(name, parameterNames);
     }
 
-    private String matchedParameter(int position) {
+    private String matchedParameter(StepMatchResult match, int position) {
         String[] parameterNames = this.stepMatcher.parameterNames();
         int matchedPosition = position + 1;
         if (matchedPosition <= parameterNames.length) {
-            return this.stepMatcher.parameter(matchedPosition);
+            return match.parameter(matchedPosition);
         }
         throw new ParameterNotFound(position, parameterNames);
     }
@@ -695,6 +748,33 @@ public class StepCreator {
         }
     }
 
+    /**
+     * The parameters of a step method, as resolved from its generic types,
+     * its annotations and the {@link Paranamer}
+     */
+    private class MethodParameters {
+        private final Type[] types;
+        private final ParameterName[] names;
+        private final String[] metaNames;
+
+        private MethodParameters(Type[] types, String[] annotatedNames, String[] paranamerNames, String[] contextNames) {
+            this.types = types;
+            this.names = new ParameterName[annotatedNames.length];
+            this.metaNames = new String[annotatedNames.length];
+            for (int i = 0; i < annotatedNames.length; i++) {
+                this.names[i] = parameterName(annotatedNames, paranamerNames, contextNames, i);
+                this.metaNames[i] = metaName(annotatedNames, paranamerNames, i);
+            }
+        }
+
+        private String metaName(String[] annotatedNames, String[] paranamerNames, int i) {
+            if (annotatedNames[i] != null) {
+                return annotatedNames[i];
+            }
+            return paranamerNames.length > i ? paranamerNames[i] : null;
+        }
+    }
+
     private class BeforeOrAfterStep extends AbstractStep {
         private final Method method;
         private final Meta meta;
@@ -706,8 +786,7 @@ public class StepCreator {
 
         public StepResult perform(UUIDExceptionWrapper storyFailureIfItHappened) {
             ParameterConverters paramConvertersWithExceptionInjector = paramConvertersWithExceptionInjector(storyFailureIfItHappened);
-            MethodInvoker methodInvoker = new MethodInvoker(this.method, paramConvertersWithExceptionInjector, org.jbehave.core.steps.StepCreator.this.paranamer,
-                    this.meta);
+            MethodInvoker methodInvoker = new MethodInvoker(this.method, paramConvertersWithExceptionInjector, this.meta);
             Timer timer = new Timer().start();
             try {
                 Object outputObject = methodInvoker.invoke();
@@ -864,10 +943,10 @@ public class StepCreator {
         }
 
         private void parametriseStep() {
-            org.jbehave.core.steps.StepCreator.this.stepMatcher.find(this.stepWithoutStartingWord);
+            StepMatchResult match = findMatch(this.stepWithoutStartingWord);
             ParameterName[] names = parameterNames(this.method);
-            Type[] types = this.method.getGenericParameterTypes();
-            String[] parameterValues = parameterValuesForStep(this.namedParameters, types, names);
+            Type[] types = parameterTypes(this.method);
+            String[] parameterValues = parameterValuesForStep(match, this.namedParameters, types, names);
             this.convertedParameters = convertParameterValues(parameterValues, types, names);
             addNamedParametersToExamplesTables();
             this.parametrisedStep = parametrisedStep(this.stepAsString, this.namedParameters, types, names, parameterValues);
@@ -951,75 +1030,27 @@ public class StepCreator {
     private class MethodInvoker {
         private final Method method;
         private final ParameterConverters parameterConverters;
-        private final Paranamer paranamer;
         private final Meta meta;
-        private final Type[] parameterTypes;
 
-        public MethodInvoker(Method method, ParameterConverters parameterConverters, Paranamer paranamer, Meta meta) {
+        public MethodInvoker(Method method, ParameterConverters parameterConverters, Meta meta) {
             this.method = method;
             this.parameterConverters = parameterConverters;
-            this.paranamer = paranamer;
             this.meta = meta;
-            this.parameterTypes = method.getGenericParameterTypes();
         }
 
         public Object invoke() throws InvocationTargetException, IllegalAccessException {
             return this.method.invoke(stepsInstance(), parameterValuesFrom(this.meta));
         }
 
-        private Parameter[] methodParameters() {
-            Parameter[] parameters = new Parameter[this.parameterTypes.length];
-            String[] annotatedNames = annotatedParameterNames(this.method);
-            String[] paranamerNames = this.paranamer.lookupParameterNames(this.method, false);
-
-            for (int position = 0; position < this.parameterTypes.length; position++) {
-                String name = parameterNameFor(position, annotatedNames, paranamerNames);
-                parameters[position] = new Parameter(position, this.parameterTypes[position], name);
-            }
-
-            return parameters;
-        }
-
-        private String parameterNameFor(int position, String[] annotatedNames, String[] paranamerNames) {
-            String annotatedName = nameByPosition(annotatedNames, position);
-            String paranamerName = nameByPosition(paranamerNames, position);
-            if (annotatedName != null) {
-                return annotatedName;
-            } else if (paranamerName != null) {
-                return paranamerName;
-            }
-            return null;
-        }
-
-        private String nameByPosition(String[] names, int position) {
-            return position < names.length ? names[position] : null;
-        }
-
         private Object[] parameterValuesFrom(Meta meta) {
-            Object[] values = new Object[this.parameterTypes.length];
-            for (Parameter parameter : methodParameters()) {
-                values[parameter.position] = this.parameterConverters.convert(parameter.valueFrom(meta), parameter.type);
+            MethodParameters parameters = methodParameters(this.method);
+            Object[] values = new Object[parameters.types.length];
+            for (int position = 0; position < values.length; position++) {
+                String name = parameters.metaNames[position];
+                String value = name != null ? meta.getProperty(name) : null;
+                values[position] = this.parameterConverters.convert(value, parameters.types[position]);
             }
             return values;
         }
-
-        private class Parameter {
-            private final int position;
-            private final Type type;
-            private final String name;
-
-            public Parameter(int position, Type type, String name) {
-                this.position = position;
-                this.type = type;
-                this.name = name;
-            }
-
-            public String valueFrom(Meta meta) {
-                if (this.name == null) {
-                    return null;
-                }
-                return meta.getProperty(this.name);
-            }
-        }
     }
 }
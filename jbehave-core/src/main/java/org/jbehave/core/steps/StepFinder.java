@@ -5,8 +5,11 @@ import org.apache.commons.lang3.StringUtils;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
  * <p>
@@ -22,10 +25,22 @@ import java.util.List;
  * {@link ByPriorityField}. A more sophisticated strategy that can be used is
  * the {@link ByLevenshteinDistance}.
  * </p>
+ * <p>
+ * The finder can optionally {@link #doIndexCandidates(boolean) index} the
+ * candidates by the literal prefix of their patterns, so that only the
+ * candidates which can possibly match a step are prioritised and tried, e.g.:
+ * <pre>
+ * configuration.useStepCollector(new MarkUnmatchedStepsAsPending(new StepFinder().doIndexCandidates(true)));
+ * </pre>
+ * The index is created once for each list of {@link CandidateSteps}.
+ * </p>
  */
 public class StepFinder {
 
     private PrioritisingStrategy prioritisingStrategy;
+    private boolean indexCandidates = false;
+    private final Map<List<CandidateSteps>, StepCandidateIndex> indexes = Collections
+            .synchronizedMap(new WeakHashMap<List<CandidateSteps>, StepCandidateIndex>());
 
     /**
      * Creates a StepFinder with a {@link ByPriorityField} strategy
@@ -43,6 +58,21 @@ public class StepFinder {
         this.prioritisingStrategy = prioritisingStrategy;
     }
 
+    /**
+     * Enables or disables the indexing of the candidates
+     *
+     * @param indexCandidates the boolean flag
+     * @return The StepFinder
+     */
+    public StepFinder doIndexCandidates(boolean indexCandidates) {
+        this.indexCandidates = indexCandidates;
+        return this;
+    }
+
+    public boolean indexCandidates() {
+        return indexCandidates;
+    }
+
     /**
      * Returns the stepdocs for the candidates collected from the given
      * {@link CandidateSteps}.
@@ -94,6 +124,9 @@ public class StepFinder {
 
     /**
      * Collects a list of step candidates from {@link CandidateSteps} instances.
+     * The candidates themselves are created once by the {@link CandidateSteps}
+     * and only the returned list, which may be re-ordered by the prioritising
+     * strategy, is new for each invocation.
      *
      * @param candidateSteps the list {@link CandidateSteps} instances
      * @return A List of {@link StepCandidate}
@@ -106,6 +139,30 @@ public class StepFinder {
         return collected;
     }
 
+    /**
+     * Returns the candidates, collected from the {@link CandidateSteps}, that
+     * can possibly match a given step. If candidates are not indexed, all the
+     * collected candidates are returned.
+     *
+     * @param stepAsText     the textual step to match
+     * @param candidateSteps the List of CandidateSteps
+     * @param candidates     the List of StepCandidate collected from the
+     *                       CandidateSteps
+     * @return The List of StepCandidate that can possibly match
+     */
+    public List<StepCandidate> candidatesFor(String stepAsText, List<CandidateSteps> candidateSteps,
+                                             List<StepCandidate> candidates) {
+        if (!indexCandidates) {
+            return candidates;
+        }
+        StepCandidateIndex index = indexes.get(candidateSteps);
+        if (index == null) {
+            index = new StepCandidateIndex(candidates);
+            indexes.put(candidateSteps, index);
+        }
+        return index.candidatesFor(stepAsText);
+    }
+
     /**
      * Prioritises the list of step candidates that match a given step.
      *
@@ -146,96 +203,139 @@ public class StepFinder {
     }
 
     /**
+     * <p>
      * Strategy to priorise candidate steps by <a
      * href="http://en.wikipedia.org/wiki/Levenshtein_distance">Levenshtein Distance</a>
+     * between the step and the scoring pattern of each candidate, i.e. the
+     * pattern without its parameters. The scoring pattern is created once for
+     * each candidate and the distance is calculated once for each candidate and
+     * step.
+     * </p>
+     * <p>
+     * The strategy can optionally {@link #doRankMatchedOnly(boolean) rank} only
+     * the candidates whose pattern matches the step, placing them before the
+     * other candidates which are left in their original order. The distances
+     * of the matched candidates are calculated in full, as the closest one
+     * need not fit the type of the step, e.g. the previous step of an "And"
+     * step, in which case the candidates further away are considered in the
+     * order of their distance.
+     * </p>
      */
     public static class ByLevenshteinDistance implements PrioritisingStrategy {
 
-        private LevenshteinDistance ld = new LevenshteinDistance();
+        private final Map<StepCandidate, String> scoringPatterns = Collections
+                .synchronizedMap(new WeakHashMap<StepCandidate, String>());
+        private boolean rankMatchedOnly = false;
+
+        /**
+         * Enables or disables the ranking of only the matched candidates
+         *
+         * @param rankMatchedOnly the boolean flag
+         * @return The ByLevenshteinDistance
+         */
+        public ByLevenshteinDistance doRankMatchedOnly(boolean rankMatchedOnly) {
+            this.rankMatchedOnly = rankMatchedOnly;
+            return this;
+        }
+
+        public boolean rankMatchedOnly() {
+            return rankMatchedOnly;
+        }
 
-        public List<StepCandidate> prioritise(final String stepAsText, List<StepCandidate> candidates) {
+        public List<StepCandidate> prioritise(String stepAsText, List<StepCandidate> candidates) {
+            String stepWithoutStartingWord = trimStartingWord(stepAsText);
+            LevenshteinDistance ld = new LevenshteinDistance(stepWithoutStartingWord);
+            if (!rankMatchedOnly) {
+                Map<StepCandidate, Integer> distances = new IdentityHashMap<StepCandidate, Integer>();
+                for (StepCandidate candidate : candidates) {
+                    distances.put(candidate, ld.calculate(scoringPattern(candidate)));
+                }
+                return rank(candidates, distances);
+            }
+            List<StepCandidate> matched = new ArrayList<StepCandidate>();
+            List<StepCandidate> unmatched = new ArrayList<StepCandidate>();
+            Map<StepCandidate, Integer> distances = new IdentityHashMap<StepCandidate, Integer>();
+            for (StepCandidate candidate : candidates) {
+                if (candidate.matchesPattern(stepAsText)) {
+                    distances.put(candidate, ld.calculate(scoringPattern(candidate)));
+                    matched.add(candidate);
+                } else {
+                    unmatched.add(candidate);
+                }
+            }
+            List<StepCandidate> prioritised = rank(matched, distances);
+            prioritised.addAll(unmatched);
+            return prioritised;
+        }
+
+        private List<StepCandidate> rank(List<StepCandidate> candidates, final Map<StepCandidate, Integer> distances) {
             Collections.sort(candidates, new Comparator<StepCandidate>() {
                 public int compare(StepCandidate o1, StepCandidate o2) {
-                    String scoringPattern1 = scoringPattern(o1);
-                    String scoringPattern2 = scoringPattern(o2);
-                    String stepWithoutStartingWord = trimStartingWord(stepAsText);
-                    Integer score1 = 0 - ld.calculate(scoringPattern1, stepWithoutStartingWord);
-                    Integer score2 = 0 - ld.calculate(scoringPattern2, stepWithoutStartingWord);
-                    int result = score2.compareTo(score1);
+                    int result = distances.get(o1).compareTo(distances.get(o2));
                     // default to strategy by priority if no score result
                     return result != 0 ? result : o2.getPriority().compareTo(o1.getPriority());
                 }
-
-                private String scoringPattern(StepCandidate candidate) {
-                    return candidate.getPatternAsString().replaceAll("\\s\\$\\w+\\s", " ").replaceAll("\\$\\w+", "");
-                }
-
-                private String trimStartingWord(String stepAsString) {
-                    return StringUtils.substringAfter(stepAsString, " ");
-                }
-
             });
             return candidates;
         }
 
-        private class LevenshteinDistance {
-
-            public int calculate(String s, String t) {
-                int d[][]; // matrix
-                int n; // length of s
-                int m; // length of t
-                int i; // iterates through s
-                int j; // iterates through t
-                char s_i; // ith character of s
-                char t_j; // jth character of t
-                int cost; // cost
-
-                // Step 1
-                n = s.length();
-                m = t.length();
-                if (n == 0) {
-                    return m;
-                }
-                if (m == 0) {
-                    return n;
-                }
-                d = new int[n + 1][m + 1];
-                // Step 2
-                for (i = 0; i <= n; i++) {
-                    d[i][0] = i;
-                }
-                for (j = 0; j <= m; j++) {
-                    d[0][j] = j;
-                }
-                // Step 3
-                for (i = 1; i <= n; i++) {
-                    s_i = s.charAt(i - 1);
-                    // Step 4
-                    for (j = 1; j <= m; j++) {
-                        t_j = t.charAt(j - 1);
-                        // Step 5
-                        if (s_i == t_j) {
-                            cost = 0;
-                        } else {
-                            cost = 1;
-                        }
-                        // Step 6
-                        d[i][j] = minimum(d[i - 1][j] + 1, d[i][j - 1] + 1, d[i - 1][j - 1] + cost);
-                    }
-                }
-                // Step 7
-                return d[n][m];
+        private String scoringPattern(StepCandidate candidate) {
+            String scoringPattern = scoringPatterns.get(candidate);
+            if (scoringPattern == null) {
+                scoringPattern = candidate.getPatternAsString().replaceAll("\\s\\$\\w+\\s", " ")
+                        .replaceAll("\\$\\w+", "");
+                scoringPatterns.put(candidate, scoringPattern);
+            }
+            return scoringPattern;
+        }
+
+        private String trimStartingWord(String stepAsString) {
+            return StringUtils.substringAfter(stepAsString, " ");
+        }
+
+        /**
+         * Calculates the distance to a given text using two rows of the
+         * distance matrix, which are reused for each calculation.
+         */
+        static class LevenshteinDistance {
+
+            private final String t;
+            private int[] previous;
+            private int[] current;
+
+            LevenshteinDistance(String t) {
+                this.t = t;
+                this.previous = new int[t.length() + 1];
+                this.current = new int[t.length() + 1];
             }
 
-            private int minimum(int a, int b, int c) {
-                int mi = a;
-                if (b < mi) {
-                    mi = b;
+            /**
+             * Calculates the distance between s and the text
+             *
+             * @param s the String to calculate the distance from
+             * @return The distance
+             */
+            int calculate(String s) {
+                int n = s.length();
+                int m = t.length();
+                if (n == 0 || m == 0) {
+                    return Math.max(n, m);
+                }
+                for (int j = 0; j <= m; j++) {
+                    previous[j] = j;
                 }
-                if (c < mi) {
-                    mi = c;
+                for (int i = 1; i <= n; i++) {
+                    char s_i = s.charAt(i - 1);
+                    current[0] = i;
+                    for (int j = 1; j <= m; j++) {
+                        int cost = s_i == t.charAt(j - 1) ? 0 : 1;
+                        current[j] = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                    }
+                    int[] swap = previous;
+                    previous = current;
+                    current = swap;
                 }
-                return mi;
+                return previous[m];
             }
 
         }
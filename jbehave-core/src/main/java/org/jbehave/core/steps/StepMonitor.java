@@ -15,8 +15,13 @@ public interface StepMonitor {
 
     void stepMatchesPattern(String step, boolean matches, StepPattern stepPattern, Method method, Object stepsInstance);
 
+    void cachedStepMatch(String step, boolean hit, long hits, long misses);
+
     void convertedValueOfType(String value, Type type, Object converted, Class<?> converterClass);
 
+    void convertedValueOfType(String value, Type type, Object converted, Class<?> converterClass, boolean hit,
+                              long hits, long misses);
+
     void performing(String step, boolean dryRun);
 
     void usingAnnotatedNameForParameter(String name, int position);
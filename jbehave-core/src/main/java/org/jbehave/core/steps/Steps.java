@@ -25,7 +25,10 @@ import org.jbehave.core.steps.StepCollector.Stage;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static java.util.Arrays.asList;
 import static org.jbehave.core.annotations.AfterScenario.Outcome.ANY;
@@ -90,12 +93,19 @@ import static org.jbehave.core.steps.StepType.WHEN;
  * {@link StepCandidate}s that are created, e.g. providing a step monitor or
  * creating them in "dry run" mode.
  * </p>
+ * <p>
+ * The {@link StepCandidate}s, and their compiled patterns, are created once
+ * per Steps instance, upon the first invocation of {@link #listCandidates()},
+ * and the same unmodifiable list is then returned to all subsequent callers,
+ * including concurrent ones.
+ * </p>
  */
 public class Steps implements CandidateSteps {
 
     private final Configuration configuration;
     private Class<?> type;
     private InjectableStepsFactory stepsFactory;
+    private volatile List<StepCandidate> candidates;
 
     /**
      * Creates Steps with default configuration for a class extending this
@@ -158,7 +168,21 @@ public class Steps implements CandidateSteps {
     }
 
     public List<StepCandidate> listCandidates() {
-        List<StepCandidate> candidates = new ArrayList<StepCandidate>();
+        List<StepCandidate> result = candidates;
+        if (result == null) {
+            synchronized (this) {
+                result = candidates;
+                if (result == null) {
+                    result = Collections.unmodifiableList(createCandidates());
+                    candidates = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private List<StepCandidate> createCandidates() {
+        Map<String, StepCandidate> candidates = new LinkedHashMap<String, StepCandidate>();
         for (Method method : allMethods()) {
             if (method.isAnnotationPresent(Given.class)) {
                 Given annotation = method.getAnnotation(Given.class);
@@ -182,17 +206,17 @@ public class Steps implements CandidateSteps {
                 addCandidatesFromAliases(candidates, method, THEN, priority);
             }
         }
-        return candidates;
+        return new ArrayList<StepCandidate>(candidates.values());
     }
 
-    private void addCandidatesFromVariants(List<StepCandidate> candidates, Method method, StepType stepType, String value, int priority) {
+    private void addCandidatesFromVariants(Map<String, StepCandidate> candidates, Method method, StepType stepType, String value, int priority) {
         PatternVariantBuilder b = new PatternVariantBuilder(value);
         for (String variant : b.allVariants()) {
             addCandidate(candidates, method, stepType, variant, priority);
         }
     }
 
-    private void addCandidatesFromAliases(List<StepCandidate> candidates, Method method, StepType stepType, int priority) {
+    private void addCandidatesFromAliases(Map<String, StepCandidate> candidates, Method method, StepType stepType, int priority) {
         if (method.isAnnotationPresent(Aliases.class)) {
             String[] aliases = method.getAnnotation(Aliases.class).values();
             for (String alias : aliases) {
@@ -205,9 +229,12 @@ public class Steps implements CandidateSteps {
         }
     }
 
-    private void addCandidate(List<StepCandidate> candidates, Method method, StepType stepType,
+    private void addCandidate(Map<String, StepCandidate> candidates, Method method, StepType stepType,
                               String stepPatternAsString, int priority) {
-        checkForDuplicateCandidates(candidates, stepType, stepPatternAsString);
+        String key = stepType + " " + stepPatternAsString;
+        if (candidates.containsKey(key)) {
+            throw new DuplicateCandidateFound(stepType, stepPatternAsString);
+        }
         StepCandidate candidate = createCandidate(method, stepType, stepPatternAsString, priority, configuration);
         candidate.useStepMonitor(configuration.stepMonitor());
         candidate.useParanamer(configuration.paranamer());
@@ -215,15 +242,7 @@ public class Steps implements CandidateSteps {
         if (method.isAnnotationPresent(Composite.class)) {
             candidate.composedOf(method.getAnnotation(Composite.class).steps());
         }
-        candidates.add(candidate);
-    }
-
-    private void checkForDuplicateCandidates(List<StepCandidate> candidates, StepType stepType, String patternAsString) {
-        for (StepCandidate candidate : candidates) {
-            if (candidate.getStepType() == stepType && candidate.getPatternAsString().equals(patternAsString)) {
-                throw new DuplicateCandidateFound(stepType, patternAsString);
-            }
-        }
+        candidates.put(key, candidate);
     }
 
     private StepCandidate createCandidate(Method method, StepType stepType, String stepPatternAsString, int priority,
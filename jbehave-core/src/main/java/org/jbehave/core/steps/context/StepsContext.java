@@ -111,6 +111,77 @@ public class StepsContext {
         keysStored.set(new HashSet<String>());
     }
 
+    /**
+     * Returns a copy of the objects stored with story retention level by the
+     * current thread
+     *
+     * @return The Map of objects by key
+     */
+    public Map<String, Object> storyObjects() {
+        return new HashMap<String, Object>(getStoryObjects());
+    }
+
+    /**
+     * Resets the story of the current thread with the objects stored with
+     * story retention level by another thread performing the same story
+     *
+     * @param objects the Map of objects by key, as returned by
+     *                {@link #storyObjects()}
+     */
+    public void resetStory(Map<String, Object> objects) {
+        storyObjects.set(new HashMap<String, Object>(objects));
+        keysStored.set(new HashSet<String>(objects.keySet()));
+    }
+
+    /**
+     * Returns a copy of the objects stored with scenario retention level by
+     * the current thread
+     *
+     * @return The Map of objects by key
+     */
+    public Map<String, Object> scenarioObjects() {
+        return new HashMap<String, Object>(getScenarioObjects());
+    }
+
+    /**
+     * Resets the scenario of the current thread with the objects stored with
+     * scenario retention level by another thread performing the same scenario
+     *
+     * @param objects the Map of objects by key, as returned by
+     *                {@link #scenarioObjects()}
+     */
+    public void resetScenario(Map<String, Object> objects) {
+        resetScenario();
+        getScenarioObjects().putAll(objects);
+        getKeys().addAll(objects.keySet());
+    }
+
+    /**
+     * Adds to the story of the current thread the objects stored with story
+     * retention level by another thread performing the same story, replacing
+     * those already stored with the same keys
+     *
+     * @param objects the Map of objects by key, as returned by
+     *                {@link #storyObjects()}
+     */
+    public void addStoryObjects(Map<String, Object> objects) {
+        getStoryObjects().putAll(objects);
+        getKeys().addAll(objects.keySet());
+    }
+
+    /**
+     * Adds to the scenario of the current thread the objects stored with
+     * scenario retention level by another thread performing the same scenario,
+     * replacing those already stored with the same keys
+     *
+     * @param objects the Map of objects by key, as returned by
+     *                {@link #scenarioObjects()}
+     */
+    public void addScenarioObjects(Map<String, Object> objects) {
+        getScenarioObjects().putAll(objects);
+        getKeys().addAll(objects.keySet());
+    }
+
     @SuppressWarnings("serial")
     public static class ObjectNotStoredException extends RuntimeException {
 
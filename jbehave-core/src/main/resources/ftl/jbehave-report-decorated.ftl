@@ -1,6 +1,7 @@
 <#ftl strip_whitespace=true>
 <html>
 <head>
+<#if encoding??><meta http-equiv="Content-Type" content="text/html; charset=${encoding}" /></#if>
 <title>${name}</title>
 <style type="text/css" media="all">
 @import url( "./style/jbehave-core.css" );
@@ -1,12 +1,24 @@
 package org.jbehave.core.configuration;
 
 import org.jbehave.core.configuration.Keywords.KeywordNotFound;
+import org.jbehave.core.configuration.Keywords.StartingWordNotFound;
+import org.jbehave.core.steps.StepType;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public class KeywordsBehaviour {
 
@@ -32,6 +44,79 @@ public class KeywordsBehaviour {
         assertEquals("DRY RUN", keywords.dryRun());
     }
 
+    @Test
+    public void shouldClassifyStepsByStartingWordsAndSynonyms() {
+        Map<String, String> map = Keywords.defaultKeywords();
+        map.put(Keywords.GIVEN, "Given|Provided");
+        Keywords keywords = new Keywords(map);
+        assertEquals(asList("Given", "Provided"), asList(keywords.startingWordsFor(StepType.GIVEN)));
+        assertEquals("Provided", keywords.startingWord("Provided a step", StepType.GIVEN));
+        assertEquals("a step", keywords.stepWithoutStartingWord("Provided a step", StepType.GIVEN));
+        assertEquals(StepType.GIVEN, keywords.stepTypeFor("Provided a step"));
+        assertEquals("And", keywords.startingWord("And a step", StepType.THEN));
+        assertEquals("a step", keywords.stepWithoutStartingWord("And a step", StepType.THEN));
+        assertTrue(keywords.isAndStep("And a step"));
+        assertFalse(keywords.isAndStep("Andromeda a step"));
+        assertTrue(keywords.isIgnorableStep("!-- Given a step"));
+        assertTrue(keywords.isIgnoredStep("!-- Given|Provided a step"));
+        assertFalse(keywords.isIgnoredStep("!-- a comment"));
+        assertFalse(keywords.stepStartsWithWord("Given", "Given"));
+        assertTrue(keywords.stepStartsWithWord("Given a step", "Given"));
+    }
+
+    @Test
+    public void shouldClassifyStepsByStartingWordsOfOverridingKeywords() {
+        Keywords keywords = new Keywords() {
+            @Override
+            public String startingWordFor(StepType stepType) {
+                if (stepType == StepType.GIVEN) {
+                    return "Provided";
+                }
+                return super.startingWordFor(stepType);
+            }
+        };
+        assertEquals(asList("Provided"), asList(keywords.startingWordsFor(StepType.GIVEN)));
+        assertEquals("Provided", keywords.startingWord("Provided a step", StepType.GIVEN));
+        assertEquals("a step", keywords.stepWithoutStartingWord("Provided a step", StepType.GIVEN));
+        assertEquals(StepType.GIVEN, keywords.stepTypeFor("Provided a step"));
+        assertFalse(keywords.isAndStep("Provided a step"));
+    }
+
+    @Test
+    public void shouldClassifyStepsConcurrently() throws Exception {
+        final Keywords keywords = new Keywords();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<Future<Boolean>>();
+            for (int i = 0; i < 8; i++) {
+                final String step = "Given step " + i;
+                final String andStep = "And step " + i;
+                futures.add(executor.submit(new Callable<Boolean>() {
+                    public Boolean call() throws Exception {
+                        boolean classified = true;
+                        for (int j = 0; j < 1000; j++) {
+                            classified &= keywords.stepTypeFor(step) == StepType.GIVEN
+                                    && keywords.isAndStep(andStep)
+                                    && step.substring(6).equals(keywords.stepWithoutStartingWord(step, StepType.GIVEN));
+                        }
+                        return classified;
+                    }
+                }));
+            }
+            for (Future<Boolean> future : futures) {
+                assertTrue(future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = StartingWordNotFound.class)
+    public void shouldFailToFindStartingWordOfStepOfAnotherType() {
+        Keywords keywords = new Keywords();
+        keywords.stepWithoutStartingWord("Given a step", StepType.THEN);
+    }
+
     @Test(expected = KeywordNotFound.class)
     public void shouldFailIfSomeKeywordIsMissingInMapConstructor() throws IOException {
         new Keywords(new HashMap<String, String>());
@@ -1,13 +1,17 @@
 package org.jbehave.core.embedder;
 
 import org.jbehave.core.annotations.Given;
+import org.jbehave.core.annotations.ToContext.RetentionLevel;
 import org.jbehave.core.annotations.When;
 import org.jbehave.core.configuration.Configuration;
 import org.jbehave.core.configuration.MostUsefulConfiguration;
 import org.jbehave.core.embedder.Embedder.RunningEmbeddablesFailed;
+import org.jbehave.core.embedder.PerformableTree.Performable;
+import org.jbehave.core.embedder.PerformableTree.RunContext;
 import org.jbehave.core.embedder.StoryManager.StoryExecutionFailed;
 import org.jbehave.core.embedder.StoryManager.StoryTimedOut;
 import org.jbehave.core.embedder.StoryTimeouts.TimeoutFormatException;
+import org.jbehave.core.failures.BatchFailures;
 import org.jbehave.core.io.LoadFromClasspath;
 import org.jbehave.core.io.StoryFinder;
 import org.jbehave.core.io.StoryLoader;
@@ -21,18 +25,31 @@ import org.jbehave.core.reporters.TxtOutput;
 import org.jbehave.core.reporters.XmlOutput;
 import org.jbehave.core.steps.InjectableStepsFactory;
 import org.jbehave.core.steps.InstanceStepsFactory;
+import org.jbehave.core.steps.context.StepsContext;
 import org.junit.Test;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
 import java.io.OutputStream;
 import java.io.PrintStream;
+import java.io.Reader;
 import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.jbehave.core.io.CodeLocations.codeLocationFromClass;
 import static org.jbehave.core.reporters.Format.CONSOLE;
@@ -95,6 +112,31 @@ public class ConcurrencyBehaviour {
         }
     }
 
+    @Test
+    public void shouldWriteStoryDurationsBeforeFailingOnTimeout() throws IOException {
+        File storyDurations = new File(new ThreadsStories().configuration().storyReporterBuilder()
+                .outputDirectory(), "storyDurations.props");
+        storyDurations.delete();
+        Embedder embedder = new Embedder();
+        embedder.embedderControls().useStoryTimeouts("1").doFailOnStoryTimeout(true);
+        try {
+            embedder.runAsEmbeddables(asList(ThreadsStories.class.getName()));
+            fail("Exception was not thrown");
+        } catch (RunningEmbeddablesFailed e) {
+            assertThat(e.getCause().getCause(), instanceOf(StoryTimedOut.class));
+        }
+        Properties durations = new Properties();
+        Reader reader = new FileReader(storyDurations);
+        try {
+            durations.load(reader);
+        } finally {
+            reader.close();
+        }
+        assertThat(durations.getProperty("org/jbehave/core/embedder/a_long.story"), notNullValue());
+        assertThat(durations.getProperty("org/jbehave/core/embedder/another_long.story"), notNullValue());
+        assertThat(durations.getProperty("total"), notNullValue());
+    }
+
     @Test
     public void shouldFailOnTimeoutWhenSpecifiedByPath() {
         Embedder embedder = new Embedder();
@@ -108,6 +150,23 @@ public class ConcurrencyBehaviour {
         }
     }
 
+    @Test
+    public void shouldTimeoutStoryAsSoonAsItsTimeoutIsExceeded() {
+        OutputStream out = new ByteArrayOutputStream();
+        Embedder embedder = new Embedder(embedderMonitor(out));
+        ThreadsStories.setCustomStoryPath("**/another_long.story");
+        embedder.embedderControls().useStoryTimeouts("2").doIgnoreFailureInStories(true);
+        long start = System.currentTimeMillis();
+        try {
+            embedder.runAsEmbeddables(asList(ThreadsStories.class.getName()));
+        } finally {
+            ThreadsStories.setCustomStoryPath(null);
+        }
+        long durationInMillis = System.currentTimeMillis() - start;
+        assertThat(out.toString(), containsString("duration of 3 seconds has exceeded timeout of 2 seconds"));
+        assertThat(durationInMillis < 10000, is(true));
+    }
+
     @Test
     public void shouldUseDefaultTimeoutWhenNoTimeoutsAreSpecified() {
         OutputStream out = new ByteArrayOutputStream();
@@ -225,6 +284,281 @@ public class ConcurrencyBehaviour {
         ThreadsStories.setCustomStoryPath(null);
     }
 
+    @Test
+    public void shouldPerformScenariosConcurrentlyReportingTheirEventsInOrder() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final TxtOutput output = new TxtOutput(new PrintStream(out));
+        Configuration configuration = new MostUsefulConfiguration()
+                .useStoryLoader(new LoadFromClasspath() {
+                    @Override
+                    public String loadStoryAsText(String storyPath) {
+                        return "Scenario: one\nWhen scenario 1 waits for the others\n\n"
+                                + "Scenario: two\nWhen scenario 2 waits for the others\n\n"
+                                + "Scenario: three\nWhen scenario 3 waits for the others";
+                    }
+                })
+                .useStoryControls(new StoryControls().useScenarioThreads(3))
+                .useStoryReporterBuilder(new StoryReporterBuilder() {
+                    @Override
+                    public StoryReporter build(String storyPath) {
+                        if (storyPath.equals("scenarios.story")) {
+                            return output;
+                        }
+                        return new TxtOutput(new PrintStream(new ByteArrayOutputStream()));
+                    }
+                });
+        ScenarioThreadsSteps steps = new ScenarioThreadsSteps(3);
+        Embedder embedder = new Embedder();
+        embedder.useConfiguration(configuration);
+        embedder.useStepsFactory(new InstanceStepsFactory(configuration, steps));
+        embedder.embedderControls().doGenerateViewAfterStories(false).useThreads(3);
+        embedder.runStoriesAsPaths(asList("scenarios.story"));
+
+        assertThat(steps.threads.size(), is(3));
+        String text = out.toString();
+        int one = text.indexOf("Scenario: one");
+        int two = text.indexOf("Scenario: two");
+        int three = text.indexOf("Scenario: three");
+        int stepOne = text.indexOf("When scenario 1 waits for the others");
+        int stepTwo = text.indexOf("When scenario 2 waits for the others");
+        int stepThree = text.indexOf("When scenario 3 waits for the others");
+        assertThat(one < stepOne && stepOne < two, is(true));
+        assertThat(two < stepTwo && stepTwo < three, is(true));
+        assertThat(three < stepThree, is(true));
+    }
+
+    @Test
+    public void shouldPerformExamplesConcurrentlyReportingThemInTableOrder() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final TxtOutput output = new TxtOutput(new PrintStream(out));
+        Configuration configuration = new MostUsefulConfiguration()
+                .useStoryLoader(new LoadFromClasspath() {
+                    @Override
+                    public String loadStoryAsText(String storyPath) {
+                        return "Scenario: examples\nWhen scenario <n> waits for the others\n\n"
+                                + "Examples:\n{parallel=true}\n|n|\n|1|\n|2|\n|3|";
+                    }
+                })
+                .useStoryControls(new StoryControls().useExampleThreads(3))
+                .useStoryReporterBuilder(new StoryReporterBuilder() {
+                    @Override
+                    public StoryReporter build(String storyPath) {
+                        if (storyPath.equals("examples.story")) {
+                            return output;
+                        }
+                        return new TxtOutput(new PrintStream(new ByteArrayOutputStream()));
+                    }
+                });
+        ScenarioThreadsSteps steps = new ScenarioThreadsSteps(3);
+        Embedder embedder = new Embedder();
+        embedder.useConfiguration(configuration);
+        embedder.useStepsFactory(new InstanceStepsFactory(configuration, steps));
+        embedder.embedderControls().doGenerateViewAfterStories(false).useThreads(3);
+        embedder.runStoriesAsPaths(asList("examples.story"));
+
+        assertThat(steps.threads.size(), is(3));
+        String text = out.toString();
+        int stepOne = text.indexOf("When scenario 1 waits for the others");
+        int stepTwo = text.indexOf("When scenario 2 waits for the others");
+        int stepThree = text.indexOf("When scenario 3 waits for the others");
+        assertThat(0 < stepOne && stepOne < stepTwo && stepTwo < stepThree, is(true));
+    }
+
+    @Test
+    public void shouldPerformScenariosAndExamplesInStoryThreadIfNoOtherThreadOfEmbedderIsFree() {
+        Configuration configuration = new MostUsefulConfiguration()
+                .useStoryLoader(new LoadFromClasspath() {
+                    @Override
+                    public String loadStoryAsText(String storyPath) {
+                        return "Scenario: one\nWhen scenario 1 records its thread\n\n"
+                                + "Scenario: examples\nWhen scenario <n> records its thread\n\n"
+                                + "Examples:\n{parallel=true}\n|n|\n|2|\n|3|";
+                    }
+                })
+                .useStoryControls(new StoryControls().useScenarioThreads(2).useExampleThreads(2));
+        FailingScenarioSteps steps = new FailingScenarioSteps();
+        Embedder embedder = new Embedder();
+        embedder.useConfiguration(configuration);
+        embedder.useStepsFactory(new InstanceStepsFactory(configuration, steps));
+        embedder.embedderControls().doGenerateViewAfterStories(false).useThreads(1);
+        embedder.runStoriesAsPaths(asList("single.story"));
+
+        assertThat(steps.threads.size(), is(1));
+    }
+
+    @Test
+    public void shouldPerformScenariosSequentiallyIfStateIsNotResetBeforeEachScenario() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final TxtOutput output = new TxtOutput(new PrintStream(out));
+        Configuration configuration = new MostUsefulConfiguration()
+                .useStoryLoader(new LoadFromClasspath() {
+                    @Override
+                    public String loadStoryAsText(String storyPath) {
+                        return "Scenario: one\nWhen scenario 1 fails\n\n"
+                                + "Scenario: two\nWhen scenario 2 records its thread";
+                    }
+                })
+                .useStoryControls(new StoryControls().useScenarioThreads(2).doResetStateBeforeScenario(false))
+                .useStoryReporterBuilder(new StoryReporterBuilder() {
+                    @Override
+                    public StoryReporter build(String storyPath) {
+                        if (storyPath.equals("failing.story")) {
+                            return output;
+                        }
+                        return new TxtOutput(new PrintStream(new ByteArrayOutputStream()));
+                    }
+                });
+        FailingScenarioSteps steps = new FailingScenarioSteps();
+        Embedder embedder = new Embedder();
+        embedder.useConfiguration(configuration);
+        embedder.useStepsFactory(new InstanceStepsFactory(configuration, steps));
+        embedder.embedderControls().doGenerateViewAfterStories(false).doIgnoreFailureInStories(true);
+        embedder.runStoriesAsPaths(asList("failing.story"));
+
+        assertThat(steps.threads.isEmpty(), is(true));
+        assertThat(out.toString(), containsString("When scenario 2 records its thread (NOT PERFORMED)"));
+    }
+
+    @Test
+    public void shouldAddStoryObjectsStoredByConcurrentPerformablesInTheirOrder() throws InterruptedException {
+        Configuration configuration = new MostUsefulConfiguration();
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        RunContext context = new RunContext(configuration, new InstanceStepsFactory(configuration),
+                new NullEmbedderMonitor(), new MetaFilter(), new BatchFailures(), executorService);
+        context.currentPath("objects.story");
+        StepsContext stepsContext = context.stepsContext();
+        stepsContext.resetStory();
+        stepsContext.put("story", "before", RetentionLevel.STORY);
+        CountDownLatch latch = new CountDownLatch(2);
+
+        PerformableTree.performConcurrently(context,
+                asList(new StoringPerformable(latch, "one", RetentionLevel.STORY),
+                        new StoringPerformable(latch, "two", RetentionLevel.STORY)), 2);
+        executorService.shutdown();
+
+        assertThat(stepsContext.get("story"), is((Object) "before"));
+        assertThat(stepsContext.get("one"), is((Object) "one"));
+        assertThat(stepsContext.get("two"), is((Object) "two"));
+        assertThat(stepsContext.get("last"), is((Object) "two"));
+    }
+
+    @Test
+    public void shouldShareScenarioObjectsWithConcurrentPerformablesAndAddThoseTheyStore() throws InterruptedException {
+        Configuration configuration = new MostUsefulConfiguration();
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        RunContext context = new RunContext(configuration, new InstanceStepsFactory(configuration),
+                new NullEmbedderMonitor(), new MetaFilter(), new BatchFailures(), executorService);
+        context.currentPath("objects.story");
+        StepsContext stepsContext = context.stepsContext();
+        stepsContext.resetStory();
+        stepsContext.resetScenario();
+        stepsContext.put("scenario", "before", RetentionLevel.SCENARIO);
+        CountDownLatch latch = new CountDownLatch(2);
+
+        PerformableTree.performConcurrently(context,
+                asList(new StoringPerformable(latch, "one", RetentionLevel.SCENARIO),
+                        new StoringPerformable(latch, "two", RetentionLevel.SCENARIO)), 2);
+        executorService.shutdown();
+
+        assertThat(stepsContext.get("scenario"), is((Object) "before"));
+        assertThat(stepsContext.get("one"), is((Object) "one"));
+        assertThat(stepsContext.get("two"), is((Object) "two"));
+        assertThat(stepsContext.get("last"), is((Object) "two"));
+        stepsContext.resetScenario();
+        try {
+            stepsContext.get("one");
+            fail("Exception was not thrown");
+        } catch (StepsContext.ObjectNotStoredException e) {
+            // scenario objects added are reset with the scenario
+        }
+    }
+
+    @Test
+    public void shouldNotPerformExamplesOfGivenStoriesConcurrently() {
+        Configuration configuration = new MostUsefulConfiguration()
+                .useStoryLoader(new LoadFromClasspath() {
+                    @Override
+                    public String loadStoryAsText(String storyPath) {
+                        if (storyPath.equals("given.story")) {
+                            return "Scenario: examples\nWhen scenario <n> records its thread\n\n"
+                                    + "Examples:\n{parallel=true}\n|n|\n|1|\n|2|\n|3|";
+                        }
+                        return "GivenStories: given.story\n\n"
+                                + "Scenario: main\nWhen scenario 0 records its thread";
+                    }
+                })
+                .useStoryControls(new StoryControls().useExampleThreads(3));
+        FailingScenarioSteps steps = new FailingScenarioSteps();
+        Embedder embedder = new Embedder();
+        embedder.useConfiguration(configuration);
+        embedder.useStepsFactory(new InstanceStepsFactory(configuration, steps));
+        embedder.embedderControls().doGenerateViewAfterStories(false).useThreads(3);
+        embedder.runStoriesAsPaths(asList("main.story"));
+
+        assertThat(steps.threads.size(), is(1));
+    }
+
+    private static class StoringPerformable implements Performable {
+
+        private final CountDownLatch latch;
+        private final String key;
+        private final RetentionLevel retentionLevel;
+
+        private StoringPerformable(CountDownLatch latch, String key, RetentionLevel retentionLevel) {
+            this.latch = latch;
+            this.key = key;
+            this.retentionLevel = retentionLevel;
+        }
+
+        public void perform(RunContext context) throws InterruptedException {
+            StepsContext stepsContext = context.stepsContext();
+            stepsContext.put(key, key, retentionLevel);
+            stepsContext.put("last", key, retentionLevel);
+            latch.countDown();
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException(key + " was not performed concurrently");
+            }
+            assertThat(stepsContext.get(retentionLevel.name().toLowerCase()), is((Object) "before"));
+        }
+
+    }
+
+    public static class FailingScenarioSteps {
+
+        private final Set<String> threads = new CopyOnWriteArraySet<String>();
+
+        @When("scenario $n fails")
+        public void whenScenarioFails(int n) {
+            throw new IllegalStateException("Scenario " + n + " failed");
+        }
+
+        @When("scenario $n records its thread")
+        public void whenScenarioRecordsItsThread(int n) {
+            threads.add(Thread.currentThread().getName());
+        }
+
+    }
+
+    public static class ScenarioThreadsSteps {
+
+        private final CountDownLatch latch;
+        private final Set<String> threads = new CopyOnWriteArraySet<String>();
+
+        public ScenarioThreadsSteps(int scenarios) {
+            this.latch = new CountDownLatch(scenarios);
+        }
+
+        @When("scenario $n waits for the others")
+        public void whenScenarioWaitsForTheOthers(int n) throws InterruptedException {
+            threads.add(Thread.currentThread().getName());
+            latch.countDown();
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Scenario " + n + " was not performed concurrently");
+            }
+        }
+
+    }
+
     private EmbedderMonitor embedderMonitor(OutputStream out) {
         return new PrintStreamEmbedderMonitor(new PrintStream(out));
     }
@@ -51,6 +51,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
 import static java.util.Arrays.asList;
@@ -444,7 +445,7 @@ public class EmbedderBehaviour {
         RunContext runContext = new RunContext(configuration, stepsFactory, embedderMonitor, filter, new BatchFailures());
         when(
                 performableTree.newRunContext(isA(Configuration.class), isA(InjectableStepsFactory.class), isA(EmbedderMonitor.class),
-                        isA(MetaFilter.class), isA(BatchFailures.class))).thenReturn(runContext);
+                        isA(MetaFilter.class), isA(BatchFailures.class), isA(ExecutorService.class))).thenReturn(runContext);
 
         // When
         embedder.runStoriesAsPaths(storyPaths);
@@ -499,7 +500,7 @@ public class EmbedderBehaviour {
         RunContext runContext = new RunContext(configuration, stepsFactory, monitor, filter, new BatchFailures());
         when(
                 performableTree.newRunContext(isA(Configuration.class), isA(InjectableStepsFactory.class), isA(EmbedderMonitor.class),
-                        isA(MetaFilter.class), isA(BatchFailures.class))).thenReturn(
+                        isA(MetaFilter.class), isA(BatchFailures.class), isA(ExecutorService.class))).thenReturn(
                 runContext);
         embedder.runStoriesAsPaths(storyPaths);
 
@@ -571,7 +572,7 @@ public class EmbedderBehaviour {
         RunContext runContext = new RunContext(configuration, stepsFactory, monitor, filter, new BatchFailures());
         when(
                 performableTree.newRunContext(isA(Configuration.class), isA(InjectableStepsFactory.class), isA(EmbedderMonitor.class),
-                        isA(MetaFilter.class), isA(BatchFailures.class))).thenReturn(
+                        isA(MetaFilter.class), isA(BatchFailures.class), isA(ExecutorService.class))).thenReturn(
                 runContext);
 
         // When
@@ -614,7 +615,7 @@ public class EmbedderBehaviour {
         RunContext runContext = new RunContext(configuration, stepsFactory, monitor, filter, new BatchFailures());
         when(
                 performableTree.newRunContext(isA(Configuration.class), isA(InjectableStepsFactory.class), isA(EmbedderMonitor.class),
-                        isA(MetaFilter.class), isA(BatchFailures.class))).thenReturn(
+                        isA(MetaFilter.class), isA(BatchFailures.class), isA(ExecutorService.class))).thenReturn(
                 runContext);
 
         for (String storyPath : storyPaths) {
@@ -661,7 +662,7 @@ public class EmbedderBehaviour {
         RunContext runContext = new RunContext(configuration, stepsFactory, monitor, filter, new BatchFailures());
         when(
                 performableTree.newRunContext(isA(Configuration.class), isA(InjectableStepsFactory.class), isA(EmbedderMonitor.class),
-                        isA(MetaFilter.class), isA(BatchFailures.class))).thenReturn(
+                        isA(MetaFilter.class), isA(BatchFailures.class), isA(ExecutorService.class))).thenReturn(
                 runContext);
 
         for (String storyPath : storyPaths) {
@@ -705,7 +706,7 @@ public class EmbedderBehaviour {
         RunContext runContext = new RunContext(configuration, stepsFactory, monitor, filter, new BatchFailures());
         when(
                 performableTree.newRunContext(isA(Configuration.class), isA(InjectableStepsFactory.class), isA(EmbedderMonitor.class),
-                        isA(MetaFilter.class), isA(BatchFailures.class))).thenReturn(
+                        isA(MetaFilter.class), isA(BatchFailures.class), isA(ExecutorService.class))).thenReturn(
                 runContext);
 
         BatchFailures failures = new BatchFailures();
@@ -755,7 +756,7 @@ public class EmbedderBehaviour {
         RunContext runContext = new RunContext(configuration, stepsFactory, monitor, filter, new BatchFailures());
         when(
                 performableTree.newRunContext(isA(Configuration.class), isA(InjectableStepsFactory.class), isA(EmbedderMonitor.class),
-                        isA(MetaFilter.class), isA(BatchFailures.class))).thenReturn(
+                        isA(MetaFilter.class), isA(BatchFailures.class), isA(ExecutorService.class))).thenReturn(
                 runContext);
 
         // When
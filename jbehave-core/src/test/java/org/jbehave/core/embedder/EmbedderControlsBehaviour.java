@@ -31,6 +31,10 @@ public class EmbedderControlsBehaviour {
         assertThat(embedderControls.storyTimeoutInSecsByPath(), equalTo(defaultControls.storyTimeoutInSecsByPath()));
         assertThat(embedderControls.failOnStoryTimeout(), is(defaultControls.failOnStoryTimeout()));
         assertThat(embedderControls.threads(), equalTo(defaultControls.threads()));
+        assertThat(embedderControls.scheduleLongestStoriesFirst(), is(defaultControls.scheduleLongestStoriesFirst()));
+        assertThat(embedderControls.defaultStoryDurationInSecs(), equalTo(defaultControls.defaultStoryDurationInSecs()));
+        assertThat(embedderControls.streamStories(), is(defaultControls.streamStories()));
+        assertThat(embedderControls.cacheParsedStories(), is(defaultControls.cacheParsedStories()));
 
         System.setProperty(PropertyBasedEmbedderControls.BATCH, "true");
         System.setProperty(PropertyBasedEmbedderControls.GENERATE_VIEW_AFTER_STORIES, "true");
@@ -43,6 +47,10 @@ public class EmbedderControlsBehaviour {
         System.setProperty(PropertyBasedEmbedderControls.STORY_TIMEOUT_IN_SECS_BY_PATH, "**/shorts/*.story:3,**/longs/*.story:20");
         System.setProperty(PropertyBasedEmbedderControls.FAIL_ON_STORY_TIMEOUT, "true");
         System.setProperty(PropertyBasedEmbedderControls.THREADS, "5");
+        System.setProperty(PropertyBasedEmbedderControls.SCHEDULE_LONGEST_STORIES_FIRST, "true");
+        System.setProperty(PropertyBasedEmbedderControls.DEFAULT_STORY_DURATION_IN_SECS, "60");
+        System.setProperty(PropertyBasedEmbedderControls.STREAM_STORIES, "true");
+        System.setProperty(PropertyBasedEmbedderControls.CACHE_PARSED_STORIES, "true");
 
         assertThat(embedderControls.batch(), is(true));
         assertThat(embedderControls.generateViewAfterStories(), is(true));
@@ -55,6 +63,10 @@ public class EmbedderControlsBehaviour {
         assertThat(embedderControls.storyTimeoutInSecsByPath(), equalTo("**/shorts/*.story:3,**/longs/*.story:20"));
         assertThat(embedderControls.failOnStoryTimeout(), is(true));
         assertThat(embedderControls.threads(), equalTo(5));
+        assertThat(embedderControls.scheduleLongestStoriesFirst(), is(true));
+        assertThat(embedderControls.defaultStoryDurationInSecs(), equalTo(60L));
+        assertThat(embedderControls.streamStories(), is(true));
+        assertThat(embedderControls.cacheParsedStories(), is(true));
     }
 
     @Test
@@ -73,6 +85,10 @@ public class EmbedderControlsBehaviour {
         assertThat(embedderControls.storyTimeoutInSecs(), equalTo(delegate.storyTimeoutInSecs()));
         assertThat(embedderControls.storyTimeoutInSecsByPath(), equalTo(delegate.storyTimeoutInSecsByPath()));
         assertThat(embedderControls.threads(), equalTo(delegate.threads()));
+        assertThat(embedderControls.scheduleLongestStoriesFirst(), is(delegate.scheduleLongestStoriesFirst()));
+        assertThat(embedderControls.defaultStoryDurationInSecs(), equalTo(delegate.defaultStoryDurationInSecs()));
+        assertThat(embedderControls.streamStories(), is(delegate.streamStories()));
+        assertThat(embedderControls.cacheParsedStories(), is(delegate.cacheParsedStories()));
         assertThatNotAllowed(embedderControls, "doBatch", boolean.class, true);
         assertThatNotAllowed(embedderControls, "doGenerateViewAfterStories", boolean.class, true);
         assertThatNotAllowed(embedderControls, "doIgnoreFailureInStories", boolean.class, true);
@@ -84,6 +100,10 @@ public class EmbedderControlsBehaviour {
         assertThatNotAllowed(embedderControls, "useStoryTimeoutInSecsByPath", String.class, "**/*/BddTest1.story");
         assertThatNotAllowed(embedderControls, "doFailOnStoryTimeout", boolean.class, true);
         assertThatNotAllowed(embedderControls, "useThreads", int.class, 1);
+        assertThatNotAllowed(embedderControls, "doScheduleLongestStoriesFirst", boolean.class, true);
+        assertThatNotAllowed(embedderControls, "useDefaultStoryDurationInSecs", long.class, 1);
+        assertThatNotAllowed(embedderControls, "doStreamStories", boolean.class, true);
+        assertThatNotAllowed(embedderControls, "doCacheParsedStories", boolean.class, true);
     }
 
     private void assertThatNotAllowed(EmbedderControls unmodifiable, String methodName, Class<?> type, Object value)
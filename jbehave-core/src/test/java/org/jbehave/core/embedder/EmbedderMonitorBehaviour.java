@@ -113,6 +113,8 @@ public class EmbedderMonitorBehaviour {
         monitor.systemPropertySet(name, value);
         int threads = 2;
         monitor.usingThreads(threads);
+        monitor.cachedParsedStory(storyPath, true, 1, 0);
+        monitor.templateRendered("ftl/template.ftl", 2, 10);
 
         // Then        
         verify(delegate).annotatedInstanceNotOfType(annotatedInstance, annotatedInstance.getClass());
@@ -138,6 +140,8 @@ public class EmbedderMonitorBehaviour {
         verify(delegate).storyTimeout(story, storyDuration);
         verify(delegate).systemPropertySet(name, value);
         verify(delegate).usingThreads(threads);
+        verify(delegate).cachedParsedStory(storyPath, true, 1, 0);
+        verify(delegate).templateRendered("ftl/template.ftl", 2, 10);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,167 @@
+package org.jbehave.core.embedder;
+
+import org.codehaus.plexus.util.FileUtils;
+import org.jbehave.core.annotations.AfterScenario.Outcome;
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.io.StoryLoader;
+import org.jbehave.core.model.Lifecycle;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.parsers.RegexStoryParser;
+import org.jbehave.core.parsers.StoryParser;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ParsedStoryCacheBehaviour {
+
+    private static final String NL = "\n";
+
+    private File directory = new File("target/parsedStories");
+    private StoryParser storyParser = spy(new RegexStoryParser());
+    private Configuration configuration = new MostUsefulConfiguration().useStoryParser(storyParser);
+    private EmbedderMonitor embedderMonitor = mock(EmbedderMonitor.class);
+
+    @Before
+    public void clearCache() throws IOException {
+        FileUtils.deleteDirectory(directory);
+    }
+
+    @Test
+    public void shouldLoadUnchangedStoryFromCacheOfPreviousRun() {
+        // Given
+        String path = "path/to/story";
+        String storyAsText = "A description" + NL
+                + "Meta: @author Mauro" + NL
+                + "Narrative:" + NL + "In order to run faster" + NL + "As a tester" + NL + "I want to cache stories" + NL
+                + "GivenStories: path/to/given" + NL
+                + "Lifecycle:" + NL + "Before:" + NL + "Given a step" + NL
+                + "After:" + NL + "Outcome: FAILURE" + NL + "MetaFilter: +sad" + NL + "Then a step" + NL
+                + "Scenario: A title" + NL + "Meta: @theme caching" + NL
+                + "Given a step with <one>" + NL + "When another step" + NL
+                + "Examples:" + NL + "|one|two|" + NL + "|11|12|";
+
+        // When
+        Story parsed = new ParsedStoryCache(directory, embedderMonitor).storyOfText(configuration, storyAsText, path);
+        Story cached = new ParsedStoryCache(directory, embedderMonitor).storyOfText(configuration, storyAsText, path);
+
+        // Then
+        verify(storyParser, times(1)).parseStory(storyAsText, path);
+        verify(embedderMonitor).cachedParsedStory(path, false, 0, 1);
+        verify(embedderMonitor).cachedParsedStory(path, true, 1, 0);
+        assertThat(asText(cached), equalTo(asText(parsed)));
+        assertThat(cached.getPath(), equalTo(path));
+        assertThat(cached.getName(), equalTo(parsed.getName()));
+        assertThat(cached.getName(), equalTo("story"));
+        assertThat(cached.getLifecycle().getAfterSteps(Outcome.FAILURE).size(), equalTo(1));
+        assertThat(cached.getScenarios().get(0).getExamplesTable().getRow(0).get("two"), equalTo("12"));
+    }
+
+    @Test
+    public void shouldParseStoryAgainWhenChanged() {
+        // Given
+        String path = "path/to/story";
+        ParsedStoryCache cache = new ParsedStoryCache(directory, embedderMonitor);
+
+        // When
+        cache.storyOfText(configuration, "Scenario: A title" + NL + "Given a step", path);
+        Story story = cache.storyOfText(configuration, "Scenario: A title" + NL + "Given another step", path);
+
+        // Then
+        verify(embedderMonitor).cachedParsedStory(path, false, 0, 2);
+        assertThat(story.getScenarios().get(0).getSteps().get(0), equalTo("Given another step"));
+    }
+
+    @Test
+    public void shouldParseStoryWithTransformedTableEveryTime() {
+        // Given
+        String path = "path/to/story";
+        String storyAsText = "Scenario: A title" + NL + "Given a step with <one>" + NL
+                + "Examples:" + NL + "{transformer=REPLACING, replacing=1, replacement=2}" + NL + "|one|" + NL + "|11|";
+        ParsedStoryCache cache = new ParsedStoryCache(directory, embedderMonitor);
+
+        // When
+        cache.storyOfText(configuration, storyAsText, path);
+        Story story = cache.storyOfText(configuration, storyAsText, path);
+
+        // Then
+        verify(storyParser, times(2)).parseStory(storyAsText, path);
+        assertThat(story.getScenarios().get(0).getExamplesTable().getRow(0).get("one"), equalTo("22"));
+    }
+
+    @Test
+    public void shouldParseStoryWithTableLoadedFromResourceEveryTime() {
+        // Given
+        String path = "path/to/story";
+        String storyAsText = "Scenario: A title" + NL + "Given a step with <one>" + NL
+                + "Examples:" + NL + "org/jbehave/core/model/examples_table.table";
+        StoryLoader storyLoader = mock(StoryLoader.class);
+        when(storyLoader.loadResourceAsText("org/jbehave/core/model/examples_table.table"))
+                .thenReturn("|one|" + NL + "|11|", "|one|" + NL + "|21|");
+        configuration.useStoryLoader(storyLoader);
+        configuration.useStoryParser(storyParser = spy(new RegexStoryParser(configuration)));
+        ParsedStoryCache cache = new ParsedStoryCache(directory, embedderMonitor);
+
+        // When
+        cache.storyOfText(configuration, storyAsText, path);
+        Story story = cache.storyOfText(configuration, storyAsText, path);
+
+        // Then
+        verify(storyParser, times(2)).parseStory(storyAsText, path);
+        assertThat(story.getScenarios().get(0).getExamplesTable().getRow(0).get("one"), equalTo("21"));
+    }
+
+    @Test
+    public void shouldParseStoryAgainWhenCacheIsNotReadable() throws IOException {
+        // Given
+        String path = "path/to/story";
+        String storyAsText = "Scenario: A title" + NL + "Given a step";
+        new ParsedStoryCache(directory, embedderMonitor).storyOfText(configuration, storyAsText, path);
+        for (File file : directory.listFiles()) {
+            FileUtils.fileWrite(file.getPath(), "not a story");
+        }
+
+        // When
+        Story story = new ParsedStoryCache(directory, embedderMonitor).storyOfText(configuration, storyAsText, path);
+
+        // Then
+        verify(storyParser, times(2)).parseStory(storyAsText, path);
+        assertThat(story.getScenarios().get(0).getTitle(), is("A title"));
+    }
+
+    private String asText(Story story) {
+        StringBuilder builder = new StringBuilder();
+        builder.append(story.getDescription().asString()).append(NL);
+        builder.append(story.getMeta().getPropertyNames()).append(story.getMeta().toString()).append(NL);
+        builder.append(story.getNarrative().toString()).append(NL);
+        builder.append(story.getGivenStories().getPaths()).append(NL);
+        Lifecycle lifecycle = story.getLifecycle();
+        builder.append(lifecycle.isEmpty()).append(lifecycle.getBeforeSteps());
+        for (Outcome outcome : lifecycle.getOutcomes()) {
+            builder.append(outcome).append(lifecycle.getMetaFilter(outcome).asString())
+                    .append(lifecycle.getAfterSteps(outcome));
+        }
+        builder.append(NL);
+        for (Scenario scenario : story.getScenarios()) {
+            builder.append(scenario.getTitle()).append(NL);
+            builder.append(scenario.getMeta().toString()).append(NL);
+            builder.append(scenario.getGivenStories().asString()).append(NL);
+            builder.append(scenario.getExamplesTable().asString()).append(NL);
+            builder.append(scenario.getSteps()).append(NL);
+        }
+        return builder.toString();
+    }
+
+}
@@ -3,17 +3,35 @@ package org.jbehave.core.embedder;
 import org.codehaus.plexus.util.FileUtils;
 import org.jbehave.core.configuration.Configuration;
 import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.annotations.Given;
 import org.jbehave.core.embedder.StoryManager.RunningStory;
+import org.jbehave.core.embedder.StoryManager.StoryOutcome;
+import org.jbehave.core.failures.BatchFailures;
+import org.jbehave.core.io.LoadFromClasspath;
+import org.jbehave.core.model.Story;
 import org.jbehave.core.steps.InjectableStepsFactory;
+import org.jbehave.core.steps.InstanceStepsFactory;
 import org.junit.Test;
 
 import java.io.File;
+import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
 
@@ -38,4 +56,84 @@ public class StoryManagerBehaviour {
         assertThat(outputDirectory.exists(), is(true));
     }
 
+    @Test
+    public void shouldScheduleLongestStoriesFirstUsingPreviousStoryDurations() throws IOException {
+        File storyDurations = File.createTempFile("storyDurations", ".props");
+        storyDurations.deleteOnExit();
+        Properties durations = new Properties();
+        durations.setProperty("short.story", "1000");
+        durations.setProperty("long.story", "9000");
+        durations.setProperty("medium.story", "5000");
+        Writer writer = new FileWriter(storyDurations);
+        durations.store(writer, null);
+        writer.close();
+        List<Story> stories = asList(new Story("short.story"), new Story("unknown.story"), new Story("long.story"),
+                new Story("medium.story"));
+
+        assertThat(pathsOf(new StoryScheduler.LongestFirst(storyDurations, 0).schedule(stories)),
+                equalTo(asList("long.story", "medium.story", "short.story", "unknown.story")));
+        assertThat(pathsOf(new StoryScheduler.LongestFirst(storyDurations, 6000).schedule(stories)),
+                equalTo(asList("long.story", "unknown.story", "medium.story", "short.story")));
+        assertThat(pathsOf(new StoryScheduler.LongestFirst(new File("inexistent.props"), 0).schedule(stories)),
+                equalTo(pathsOf(stories)));
+        assertThat(pathsOf(new StoryScheduler.InGivenOrder().schedule(stories)), equalTo(pathsOf(stories)));
+    }
+
+    @Test
+    public void shouldStreamStoriesLoadingAndParsingEachStoryWhenItsExecutionStarts() throws Exception {
+        final List<String> loadingThreads = new CopyOnWriteArrayList<String>();
+        final Map<String, String> storiesAsText = new HashMap<String, String>();
+        storiesAsText.put("allowed.story", "Scenario: allowed\nGiven a step");
+        storiesAsText.put("skipped.story", "Meta: @skip\n\nScenario: skipped\nGiven a step");
+        Configuration configuration = new MostUsefulConfiguration().useStoryLoader(new LoadFromClasspath() {
+            @Override
+            public String loadStoryAsText(String storyPath) {
+                loadingThreads.add(Thread.currentThread().getName());
+                return storiesAsText.get(storyPath);
+            }
+        });
+        configuration.storyReporterBuilder().withRelativeDirectory("streamed");
+        StreamedSteps steps = new StreamedSteps();
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        MetaFilter filter = new MetaFilter("-skip");
+        try {
+            StoryManager manager = new StoryManager(configuration, new InstanceStepsFactory(configuration, steps),
+                    embedderControls.doStreamStories(true), embedderMonitor, executorService, performableTree);
+            BatchFailures failures = new BatchFailures();
+            manager.runStoriesAsPaths(asList("allowed.story", "skipped.story"), filter, failures);
+
+            assertThat(failures.size(), equalTo(0));
+            assertThat(steps.performed, equalTo(1));
+            assertThat(loadingThreads.size(), equalTo(2));
+            assertThat(loadingThreads, not(hasItem(Thread.currentThread().getName())));
+            List<StoryOutcome> outcomes = manager.outcomes();
+            assertThat(outcomes.size(), equalTo(1));
+            assertThat(outcomes.get(0).getPath(), equalTo("allowed.story"));
+            assertThat(outcomes.get(0).isDone(), is(true));
+            assertThat(pathsOf(manager.notAllowedBy(filter)), equalTo(asList("skipped.story")));
+            assertThat(manager.performableRoot().getStories().isEmpty(), is(true));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    public static class StreamedSteps {
+
+        private int performed;
+
+        @Given("a step")
+        public void aStep() {
+            performed++;
+        }
+
+    }
+
+    private List<String> pathsOf(List<Story> stories) {
+        List<String> paths = new ArrayList<String>();
+        for (Story story : stories) {
+            paths.add(story.getPath());
+        }
+        return paths;
+    }
+
 }
@@ -3,6 +3,8 @@ package org.jbehave.core.io;
 import java.net.MalformedURLException;
 import java.net.URL;
 
+import org.junit.Test;
+
 import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
 
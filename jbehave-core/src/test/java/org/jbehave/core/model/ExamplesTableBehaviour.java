@@ -5,6 +5,7 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 import org.jbehave.core.annotations.AsParameters;
 import org.jbehave.core.annotations.Parameter;
+import org.jbehave.core.model.ExamplesTable.ParametersNotMappableToType;
 import org.jbehave.core.model.ExamplesTable.RowNotFound;
 import org.jbehave.core.model.TableTransformers.TableTransformer;
 import org.jbehave.core.steps.ConvertedParameters.ValueNotFound;
@@ -19,12 +20,16 @@ import java.beans.Introspector;
 import java.beans.MethodDescriptor;
 import java.io.OutputStream;
 import java.io.PrintStream;
+import java.io.StringReader;
 import java.lang.reflect.Method;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -100,6 +105,25 @@ public class ExamplesTableBehaviour {
         assertThat(table.asString(), equalTo("|one|two|\n|11|12|\n|21|22|\n"));
     }
 
+    @Test
+    public void shouldReadTableRowByRowAsItIsParsedFromString() {
+        List<String> tables = asList(tableAsString, tableWithCommentsAsString, "\n    \n" + tableAsString + "\n    \n",
+                "|one|two|\r\n|11|12|\r\n \r\n|21|22|  \r\n", "{trim=false}\n|one |two |\n  \n|11 |12   \n\n",
+                "{commentSeparator=#}\n|one #comment|two|\n |11 #comment|12 #comment|\n",
+                "{transformer=REPLACING, replacing=1, replacement=x}\n|one|two|\n|11|12|\n",
+                "{transformer=FROM_LANDSCAPE}\n" + landscapeTableAsString, "{not properties|one|two|\n|11|12|", "");
+        for (String table : tables) {
+            ExamplesTable fromString = new ExamplesTable(table, "|", "|", "|--", new ParameterConverters(),
+                    new TableTransformers());
+            ExamplesTable fromReader = new ExamplesTable(new StringReader(table), "|", "|", "|--",
+                    new ParameterConverters(), new TableTransformers());
+            assertThat(fromReader.getHeaders(), equalTo(fromString.getHeaders()));
+            assertThat(fromReader.getRows(), equalTo(fromString.getRows()));
+            assertThat(fromReader.getProperties(), equalTo(fromString.getProperties()));
+            assertThat(fromReader.asString(), equalTo(fromString.asString()));
+        }
+    }
+
     @Test
     public void shouldParseTableWithCommentsInValues() {
         String tableWithEmptyValues = "{commentSeparator=#}\n|one #comment|two|\n |11 #comment|12 #comment|\n |21|22|\n";
@@ -408,6 +432,32 @@ public class ExamplesTableBehaviour {
         }
     }
 
+    @Test
+    public void shouldMapParametersToTypeWithTheFieldMappingsOfEachMapping() throws Exception {
+        // Given
+        ExamplesTableFactory factory = new ExamplesTableFactory();
+        String tableAsString = "|one|two|\n|11|22|";
+        ExamplesTable examplesTable = factory.createExamplesTable(tableAsString);
+        Map<String, String> nameMapping = new HashMap<String, String>();
+        nameMapping.put("one", "string");
+        nameMapping.put("two", "integer");
+
+        // When
+        MyParameters first = examplesTable.getRowsAs(MyParameters.class, nameMapping).get(0);
+        nameMapping.put("one", "integer");
+        nameMapping.put("two", "string");
+        MyParameters second = examplesTable.getRowsAs(MyParameters.class, nameMapping).get(0);
+        MyParameters again = examplesTable.getRowsAs(MyParameters.class, nameMapping).get(0);
+
+        // Then
+        assertThat(first.string, equalTo("11"));
+        assertThat(first.integer, equalTo(22));
+        assertThat(second.string, equalTo("22"));
+        assertThat(second.integer, equalTo(11));
+        assertThat(again.string, equalTo("22"));
+        assertThat(again.integer, equalTo(11));
+    }
+
     @Test
     public void shouldMapParametersToTypeWithAnnotatedFields() throws Exception {
         // Given
@@ -426,6 +476,62 @@ public class ExamplesTableBehaviour {
         }
     }
 
+    @Test
+    public void shouldExposeParsedRowsAsMapsOfColumnValues() {
+        // Given
+        String tableAsString = "|one|two|one|three|\n|11|12|13|\n|21|22|23|24|25|";
+        ExamplesTable table = new ExamplesTable(tableAsString);
+
+        // When
+        Map<String, String> first = table.getRow(0);
+        Map<String, String> second = table.getRow(1);
+
+        // Then
+        Map<String, String> expected = new LinkedHashMap<String, String>();
+        expected.put("one", "13");
+        expected.put("two", "12");
+        expected.put("three", "");
+        assertThat(first, equalTo(expected));
+        assertThat(new ArrayList<String>(first.keySet()), equalTo(asList("one", "two", "three")));
+        assertThat(second.toString(), equalTo("{one=23, two=22, three=24}"));
+
+        // When
+        table.withRowValues(1, Collections.singletonMap("four", "26"));
+        second.put("two", "changed");
+        second.remove("one");
+
+        // Then
+        assertThat(second.toString(), equalTo("{two=changed, three=24, four=26}"));
+        assertThat(second.containsKey("one"), is(false));
+        assertThat(table.getRow(0).get("four"), equalTo(""));
+        assertThat(table.getRows().get(1).get("two"), equalTo("changed"));
+    }
+
+    @Test
+    public void shouldIterateRowsMappedToTypeWhenTheyAreIterated() throws Exception {
+        // Given
+        ExamplesTableFactory factory = new ExamplesTableFactory();
+
+        // When
+        String tableAsString = "|string|integer|\n|11|22|\n|33|not a number|";
+        ExamplesTable examplesTable = factory.createExamplesTable(tableAsString);
+        Iterator<MyParameters> rows = examplesTable.iterateRowsAs(MyParameters.class).iterator();
+
+        // Then
+        assertThat(rows.hasNext(), is(true));
+        MyParameters parameters = rows.next();
+        assertThat(parameters.string, equalTo("11"));
+        assertThat(parameters.integer, equalTo(22));
+        assertThat(rows.hasNext(), is(true));
+        try {
+            rows.next();
+            fail("Exception was not thrown");
+        } catch (ParametersNotMappableToType e) {
+            assertThat(e.getMessage(), containsString("33"));
+        }
+        assertThat(rows.hasNext(), is(false));
+    }
+
     @Test
     public void shouldThrowExceptionIfValuesOrRowsAreNotFound() throws Exception {
         // Given
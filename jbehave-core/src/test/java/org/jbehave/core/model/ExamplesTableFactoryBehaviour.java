@@ -1,11 +1,16 @@
 package org.jbehave.core.model;
 
 import org.jbehave.core.io.ResourceLoader;
+import org.jbehave.core.io.StreamingResourceLoader;
 import org.junit.Test;
 
+import java.io.StringReader;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class ExamplesTableFactoryBehaviour {
@@ -39,4 +44,20 @@ public class ExamplesTableFactoryBehaviour {
         assertThat(examplesTable.asString(), equalTo(tableAsString));
     }
 
+    @Test
+    public void shouldCreateExamplesTableReadingRowsFromStreamingResourceInput() {
+        // Given
+        StreamingResourceLoader resourceLoader = mock(StreamingResourceLoader.class);
+        ExamplesTableFactory factory = new ExamplesTableFactory(resourceLoader);
+
+        // When
+        String resourcePath = "/path/to/table";
+        when(resourceLoader.loadResourceAsReader(resourcePath)).thenReturn(new StringReader(tableAsString));
+        ExamplesTable examplesTable = factory.createExamplesTable(resourcePath);
+
+        // Then
+        assertThat(examplesTable.asString(), equalTo(tableAsString));
+        verify(resourceLoader, never()).loadResourceAsText(resourcePath);
+    }
+
 }
@@ -2,13 +2,19 @@ package org.jbehave.core.model;
 
 import com.google.gson.Gson;
 import org.jbehave.core.io.ResourceLoader;
+import org.jbehave.core.io.StreamingResourceLoader;
 import org.junit.Test;
 
+import java.io.StringReader;
 import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class JsonFactoryBehaviour {
@@ -43,6 +49,35 @@ public class JsonFactoryBehaviour {
         assertThat(new Gson().toJson(json), equalTo(jsonAsString));
     }
 
+    @Test
+    public void shouldCreateJsonFromReader() {
+        // Given
+        JsonFactory factory = new JsonFactory();
+
+        // When
+        MyJsonDto json = (MyJsonDto) factory.createJson(new StringReader(jsonAsString), MyJsonDto.class);
+
+        // Then
+        assertThat(new Gson().toJson(json), equalTo(jsonAsString));
+        assertThat(factory.createJson(new StringReader(" "), MyJsonDto.class), nullValue());
+    }
+
+    @Test
+    public void shouldCreateJsonFromResourceInputStreamedByResourceLoader() {
+        // Given
+        StreamingResourceLoader resourceLoader = mock(StreamingResourceLoader.class);
+        JsonFactory factory = new JsonFactory(resourceLoader);
+
+        // When
+        String resourcePath = "/path/to/json";
+        when(resourceLoader.loadResourceAsReader(resourcePath)).thenReturn(new StringReader(jsonAsString));
+        MyJsonDto json = (MyJsonDto) factory.createJson(resourcePath, MyJsonDto.class);
+
+        // Then
+        assertThat(new Gson().toJson(json), equalTo(jsonAsString));
+        verify(resourceLoader, never()).loadResourceAsText(anyString());
+    }
+
     public static class MyJsonDto {
 
         private String string;
@@ -7,6 +7,7 @@ import java.util.Properties;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
 
 public class TableTransformersBehaviour {
 
@@ -52,6 +53,20 @@ public class TableTransformersBehaviour {
         assertThat(transformed, equalTo(tableAsString.replace("|", "\t")));
     }
 
+    @Test
+    public void shouldTransformRowsByReplacementUnlessReplacingSpansRows() {
+        TableTransformers tableTransformers = new TableTransformers();
+        Properties properties = new Properties();
+        properties.setProperty("replacing", "|");
+        properties.setProperty("replacement", "\t");
+        assertThat(tableTransformers.transformsRows(TableTransformers.REPLACING, properties), is(true));
+        assertThat(tableTransformers.transformRow(TableTransformers.REPLACING, "|11|12|", properties), equalTo("\t11\t12\t"));
+        properties.setProperty("replacing", "|\n|");
+        assertThat(tableTransformers.transformsRows(TableTransformers.REPLACING, properties), is(false));
+        assertThat(tableTransformers.transformsRows(TableTransformers.FROM_LANDSCAPE, properties), is(false));
+        assertThat(tableTransformers.transformsRows("inexistentTransformer", properties), is(true));
+    }
+
     @Test
     public void shouldTransformNotTableByReplacementIfPropertiesNotFound() {
         TableTransformers tableTransformers = new TableTransformers();
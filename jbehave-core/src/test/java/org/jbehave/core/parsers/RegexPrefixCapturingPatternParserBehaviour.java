@@ -3,6 +3,13 @@ package org.jbehave.core.parsers;
 import org.jbehave.core.steps.StepType;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
@@ -25,6 +32,22 @@ public class RegexPrefixCapturingPatternParserBehaviour {
         assertThatPatternMatchesStep(parser, "$thousands x 10^3", "2 x 10^3", true, "thousands");
     }
 
+    @Test
+    public void shouldProvideLiteralPrefixOfPattern() {
+        assertThat(literalPrefix("a house with $numberOfDoors doors"), equalTo("a house with "));
+        assertThat(literalPrefix("my   house"), equalTo("my house"));
+        assertThat(literalPrefix("$number houses"), equalTo(""));
+        assertThat(literalPrefix("I toggle the cell at ( $column , $row )"), equalTo("I toggle the cell at ( "));
+        assertThat(literalPrefix("$name should ask, \"Why?\""), equalTo(""));
+        assertThat(literalPrefix("a cat|dog named $name"), equalTo(""));
+        assertThat(new RegexStepMatcher(StepType.GIVEN, "colou?r", java.util.regex.Pattern.compile("colou?r"),
+                new String[]{}).literalPrefix(), equalTo("colo"));
+    }
+
+    private String literalPrefix(String pattern) {
+        return ((RegexStepMatcher) parser.parseStep(StepType.GIVEN, pattern)).literalPrefix();
+    }
+
     @Test
     public void shouldMatchStepWithPatternsUsingUnderscoresInParameterNames() {
         assertThatPatternMatchesStep(parser, "a house with $number_of_1st_floor_doors doors and $facing_to windows",
@@ -94,6 +117,52 @@ public class RegexPrefixCapturingPatternParserBehaviour {
         assertThat(stepMatcher.parameterNames(), equalTo(parameterNames));
     }
 
+    @Test
+    public void shouldFindMatchWithoutChangingStateOfMatcher() {
+        RegexStepMatcher stepMatcher = (RegexStepMatcher) parser.parseStep(StepType.GIVEN,
+                "a house with $numberOfDoors doors");
+
+        StepMatchResult match = stepMatcher.findMatch("a house with 3 doors");
+        assertThat(stepMatcher.findMatch("a house with 4 doors").parameter(1), equalTo("4"));
+        assertThat(stepMatcher.matches("a house with 5 doors"), is(true));
+
+        assertThat(match.found(), is(true));
+        assertThat(match.parameterCount(), equalTo(1));
+        assertThat(match.parameter(1), equalTo("3"));
+        assertThat(stepMatcher.findMatch("a shed").found(), is(false));
+        assertThat(stepMatcher.findMatch("a shed").parameterCount(), equalTo(0));
+    }
+
+    @Test
+    public void shouldShareMatcherAcrossThreads() throws Exception {
+        final RegexStepMatcher stepMatcher = (RegexStepMatcher) parser.parseStep(StepType.GIVEN,
+                "a house with $numberOfDoors doors");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<Future<Boolean>>();
+            for (int i = 0; i < 100; i++) {
+                final String doors = Integer.toString(i);
+                futures.add(executor.submit(new Callable<Boolean>() {
+                    public Boolean call() throws Exception {
+                        boolean matched = true;
+                        for (int j = 0; j < 100; j++) {
+                            matched &= stepMatcher.matches("a house with " + doors + " doors")
+                                    && doors.equals(stepMatcher.parameter(1))
+                                    && doors.equals(stepMatcher.findMatch("a house with " + doors + " doors")
+                                    .parameter(1));
+                        }
+                        return matched;
+                    }
+                }));
+            }
+            for (Future<Boolean> future : futures) {
+                assertThat(future.get(), is(true));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     public void shouldNotCareSoMuchAboutWhitespace() {
         StepMatcher stepMatcher = parser.parseStep(StepType.GIVEN, "The grid looks like $grid");
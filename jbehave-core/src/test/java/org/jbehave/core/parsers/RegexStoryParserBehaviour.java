@@ -34,9 +34,13 @@ import static org.hamcrest.Matchers.nullValue;
 public class RegexStoryParserBehaviour {
 
     private static final String NL = "\n";
-    private StoryParser parser = new RegexStoryParser(new LocalizedKeywords());
+    private StoryParser parser = parserFor(new LocalizedKeywords());
     private String storyPath = "path/to/my.story";
 
+    protected StoryParser parserFor(Keywords keywords) {
+        return new RegexStoryParser(keywords);
+    }
+
     @Test
     public void shouldParseStoryAndProvideNameFromPath() {
         Story story = parser.parseStory("", storyPath);
@@ -222,7 +226,7 @@ public class RegexStoryParserBehaviour {
 
     @Test
     public void shouldParseStoryWithSynonymsOfStartingWords() {
-        StoryParser parser = new RegexStoryParser(new LocalizedKeywords(new Locale("sy")));
+        StoryParser parser = parserFor(new LocalizedKeywords(new Locale("sy")));
 
         String wholeStory = "Given a scenario" + NL +
                 "When I parse it" + NL +
@@ -443,7 +447,7 @@ public class RegexStoryParserBehaviour {
                 "Gegeben im Lager sind 400 T-Shirts" + NL +
                 "Szenario:" + NL +
                 "Wenn ein Kunde 20 T-Shirts bestellt";
-        parser = new RegexStoryParser(new LocalizedKeywords(Locale.GERMAN));
+        parser = parserFor(new LocalizedKeywords(Locale.GERMAN));
         Story story = parser.parseStory(wholeStory, storyPath);
         List<String> beforeSteps = story.getLifecycle().getBeforeSteps();
         assertThat(beforeSteps.isEmpty(), equalTo(true));
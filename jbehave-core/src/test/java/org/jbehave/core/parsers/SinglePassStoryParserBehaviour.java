@@ -0,0 +1,79 @@
+package org.jbehave.core.parsers;
+
+import org.jbehave.core.annotations.AfterScenario.Outcome;
+import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.i18n.LocalizedKeywords;
+import org.jbehave.core.model.Lifecycle;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.junit.Test;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class SinglePassStoryParserBehaviour extends RegexStoryParserBehaviour {
+
+    private static final String NL = "\n";
+
+    @Override
+    protected StoryParser parserFor(Keywords keywords) {
+        return new SinglePassStoryParser(keywords);
+    }
+
+    @Test
+    public void shouldParseStoriesAsRegexStoryParser() {
+        List<String> stories = asList("",
+                "Given a step",
+                "Meta: @some" + NL + "Given a step" + NL + "When another step",
+                "A description" + NL + "Narrative:" + NL + "In order to parse" + NL + "As a parser" + NL
+                        + "I want to parse",
+                "Scenario:" + NL + NL + "Scenario: " + NL + "Given a step",
+                "Scenario: A title without steps",
+                "  Scenario: An indented title" + NL + "  Given an indented step" + NL + "Given a step  " + NL + NL,
+                "Scenario: A title" + NL + "Meta: @first" + NL + "Meta: @second" + NL + "Given a step",
+                "Scenario: A title\r" + NL + "Given a step\r" + NL + "When another step\r" + NL,
+                "Scenario: A title" + NL + "Given" + NL + "When a step on the next line" + NL + "Then a step",
+                "Scenario: A title" + NL + "Given a step" + NL + "Examples:" + NL + "|one|" + NL + "|1|" + NL
+                        + "When a step after the examples",
+                "Scenario: A title" + NL + "GivenStories: path/to/one" + NL + "Examples:" + NL + "|one|" + NL
+                        + "|1|",
+                "Lifecycle:" + NL + "Before:" + NL + "Given a step" + NL + "Before:" + NL + "Given another step" + NL
+                        + "After:" + NL + "Outcome: FAILURE" + NL + "MetaFilter: +sad" + NL + "Then a step" + NL
+                        + "Scenario:" + NL + "Given a step",
+                "Narrative:" + NL + "As a parser" + NL + "I want to parse" + NL + "So that stories are parsed" + NL
+                        + "GivenStories: path/to/one" + NL + "Lifecycle:" + NL + "After:" + NL + "Then a step" + NL
+                        + "Scenario: A title" + NL + "Given a step" + NL + "Narrative: without anything after");
+        StoryParser regexParser = new RegexStoryParser(new LocalizedKeywords());
+        StoryParser singlePassParser = new SinglePassStoryParser(new LocalizedKeywords());
+        for (String story : stories) {
+            assertThat(story, asText(singlePassParser.parseStory(story)), equalTo(asText(regexParser.parseStory(story))));
+        }
+    }
+
+    private String asText(Story story) {
+        StringBuilder builder = new StringBuilder();
+        builder.append(story.getDescription().asString()).append(NL);
+        builder.append(story.getMeta().getPropertyNames()).append(story.getMeta().toString()).append(NL);
+        builder.append(story.getNarrative().isEmpty()).append(story.getNarrative().toString()).append(NL);
+        builder.append(story.getGivenStories().asString()).append(NL);
+        Lifecycle lifecycle = story.getLifecycle();
+        builder.append(lifecycle.isEmpty()).append(lifecycle.getBeforeSteps());
+        for (Outcome outcome : lifecycle.getOutcomes()) {
+            builder.append(outcome).append(lifecycle.getMetaFilter(outcome).asString())
+                    .append(lifecycle.getAfterSteps(outcome));
+        }
+        builder.append(NL);
+        for (Scenario scenario : story.getScenarios()) {
+            builder.append(scenario.getTitle()).append(NL);
+            builder.append(scenario.getMeta().toString()).append(NL);
+            builder.append(scenario.getGivenStories().asString()).append(NL);
+            builder.append(scenario.getExamplesTable().asString()).append(NL);
+            builder.append(scenario.getSteps()).append(NL);
+        }
+        return builder.toString();
+    }
+
+}
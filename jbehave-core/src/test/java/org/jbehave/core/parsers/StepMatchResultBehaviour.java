@@ -0,0 +1,34 @@
+package org.jbehave.core.parsers;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+public class StepMatchResultBehaviour {
+
+    @Test
+    public void shouldHoldParametersByMatchedPosition() {
+        String[] parameters = new String[]{"a house with 3 doors", "3"};
+        StepMatchResult match = new StepMatchResult(parameters);
+        parameters[1] = "4";
+
+        assertThat(match.found(), is(true));
+        assertThat(match.parameterCount(), equalTo(1));
+        assertThat(match.parameter(0), equalTo("a house with 3 doors"));
+        assertThat(match.parameter(1), equalTo("3"));
+    }
+
+    @Test
+    public void shouldNotHoldParametersIfMatchNotFound() {
+        assertThat(StepMatchResult.NOT_FOUND.found(), is(false));
+        assertThat(StepMatchResult.NOT_FOUND.parameterCount(), equalTo(0));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldFailToReturnParameterIfMatchNotFound() {
+        StepMatchResult.NOT_FOUND.parameter(1);
+    }
+
+}
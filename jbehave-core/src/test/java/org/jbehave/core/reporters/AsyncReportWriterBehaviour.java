@@ -0,0 +1,116 @@
+package org.jbehave.core.reporters;
+
+import org.apache.commons.io.FileUtils;
+import org.jbehave.core.reporters.FilePrintStreamFactory.FilePrintStream;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class AsyncReportWriterBehaviour {
+
+    @Test
+    public void shouldWriteFilesInChunksOnceAwaited() throws IOException {
+        // Given
+        AsyncReportWriter writer = new AsyncReportWriter(2, 4);
+        File first = new File("target/async/first.txt");
+        File second = new File("target/async/second.txt");
+        first.getParentFile().mkdirs();
+
+        // When
+        PrintStream firstStream = new FilePrintStream(first, false, writer);
+        PrintStream secondStream = new FilePrintStream(second, false, writer);
+        for (int i = 0; i < 10; i++) {
+            firstStream.print("first " + i + "\n");
+            secondStream.print("second " + i + "\n");
+        }
+        firstStream.close();
+        secondStream.close();
+        writer.awaitWritten();
+
+        // Then
+        StringBuilder firstText = new StringBuilder();
+        StringBuilder secondText = new StringBuilder();
+        for (int i = 0; i < 10; i++) {
+            firstText.append("first ").append(i).append("\n");
+            secondText.append("second ").append(i).append("\n");
+        }
+        assertThat(FileUtils.readFileToString(first), equalTo(firstText.toString()));
+        assertThat(FileUtils.readFileToString(second), equalTo(secondText.toString()));
+    }
+
+    @Test
+    public void shouldWriteFlushedOutputBeforeClose() throws IOException {
+        // Given
+        AsyncReportWriter writer = new AsyncReportWriter();
+        File file = new File("target/async/flushed.txt");
+        file.getParentFile().mkdirs();
+
+        // When
+        OutputStream output = writer.outputStreamFor(file, false);
+        output.write("flushed".getBytes());
+        output.flush();
+        writer.awaitWritten();
+
+        // Then
+        assertThat(FileUtils.readFileToString(file), equalTo("flushed"));
+        output.close();
+    }
+
+    @Test
+    public void shouldWritePendingOutputOfOpenStreamsOnceAwaited() throws IOException {
+        // Given
+        AsyncReportWriter writer = new AsyncReportWriter();
+        File file = new File("target/async/pending.txt");
+        file.getParentFile().mkdirs();
+
+        // When
+        OutputStream output = writer.outputStreamFor(file, false);
+        output.write("pending".getBytes());
+        writer.awaitWritten();
+
+        // Then
+        assertThat(FileUtils.readFileToString(file), equalTo("pending"));
+        output.write(" and more".getBytes());
+        output.close();
+        writer.awaitWritten();
+        assertThat(FileUtils.readFileToString(file), equalTo("pending and more"));
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldCloseStreamsLeftOpen() throws IOException {
+        // Given
+        AsyncReportWriter writer = new AsyncReportWriter();
+        File file = new File("target/async/left-open.txt");
+        file.getParentFile().mkdirs();
+        OutputStream output = writer.outputStreamFor(file, false);
+        output.write("left open".getBytes());
+
+        // When
+        writer.closeOpenStreams();
+        writer.awaitWritten();
+
+        // Then
+        assertThat(FileUtils.readFileToString(file), equalTo("left open"));
+        output.write(1);
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldNotAllowWritingOnceClosed() throws IOException {
+        // Given
+        AsyncReportWriter writer = new AsyncReportWriter();
+        File file = new File("target/async/closed.txt");
+        file.getParentFile().mkdirs();
+
+        // When
+        OutputStream output = writer.outputStreamFor(file, false);
+        output.close();
+        output.write(1);
+    }
+
+}
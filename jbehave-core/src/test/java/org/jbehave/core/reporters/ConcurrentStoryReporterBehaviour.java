@@ -0,0 +1,88 @@
+package org.jbehave.core.reporters;
+
+import org.jbehave.core.model.Story;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+public class ConcurrentStoryReporterBehaviour {
+
+    @Test
+    public void shouldDelayEventsUntilInvokedWhenMultiThreading() {
+        // Given
+        StoryReporter crossReferencing = mock(StoryReporter.class);
+        StoryReporter delegate = mock(StoryReporter.class);
+        ConcurrentStoryReporter reporter = new ConcurrentStoryReporter(crossReferencing, delegate, true);
+        Story story = new Story("path");
+        Throwable cause = new RuntimeException();
+
+        // When
+        reporter.beforeStory(story, false);
+        reporter.beforeScenario("A title");
+        reporter.successful("Given a step");
+        reporter.failed("When a step", cause);
+        reporter.afterScenario();
+        reporter.afterStory(false);
+
+        // Then
+        verify(crossReferencing).beforeStory(story, false);
+        verify(crossReferencing).failed("When a step", cause);
+        verifyZeroInteractions(delegate);
+
+        // When
+        reporter.invokeDelayed();
+
+        // Then
+        InOrder inOrder = inOrder(delegate);
+        inOrder.verify(delegate).beforeStory(story, false);
+        inOrder.verify(delegate).beforeScenario("A title");
+        inOrder.verify(delegate).successful("Given a step");
+        inOrder.verify(delegate).failed("When a step", cause);
+        inOrder.verify(delegate).afterScenario();
+        inOrder.verify(delegate).afterStory(false);
+    }
+
+    @Test
+    public void shouldReplayDelayedEventsToEachDelegateInTurnAndOnlyOnce() {
+        // Given
+        StoryReporter first = mock(StoryReporter.class);
+        StoryReporter second = mock(StoryReporter.class);
+        ConcurrentStoryReporter reporter = new ConcurrentStoryReporter(new NullStoryReporter(),
+                new DelegatingStoryReporter(first, second), true);
+
+        // When
+        reporter.beforeScenario("A title");
+        reporter.afterScenario();
+        reporter.invokeDelayed();
+        reporter.invokeDelayed();
+
+        // Then
+        InOrder inOrder = inOrder(first, second);
+        inOrder.verify(first).beforeScenario("A title");
+        inOrder.verify(first).afterScenario();
+        inOrder.verify(second).beforeScenario("A title");
+        inOrder.verify(second).afterScenario();
+        verify(first, times(1)).afterScenario();
+        verify(second, times(1)).afterScenario();
+    }
+
+    @Test
+    public void shouldNotDelayEventsWhenNotMultiThreading() {
+        // Given
+        StoryReporter delegate = mock(StoryReporter.class);
+        ConcurrentStoryReporter reporter = new ConcurrentStoryReporter(new NullStoryReporter(), delegate, false);
+
+        // When
+        reporter.beforeStep("Given a step");
+        reporter.invokeDelayed();
+
+        // Then
+        verify(delegate, times(1)).beforeStep("Given a step");
+    }
+
+}
@@ -0,0 +1,75 @@
+package org.jbehave.core.reporters;
+
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import org.jbehave.core.reporters.FreemarkerProcessor.RenderTiming;
+import org.junit.Test;
+
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class FreemarkerProcessorBehaviour {
+
+    private static final String TEMPLATE = "ftl/jbehave-report-non-decorated.ftl";
+
+    @Test
+    public void shouldShareConfigurationAndCachedTemplatesByProcessorAndTemplateLoadingClass() throws Exception {
+        // Given
+        FreemarkerProcessor processor = new FreemarkerProcessor();
+        FreemarkerProcessor other = new FreemarkerProcessor();
+
+        // When
+        processor.prewarm(TEMPLATE, "ftl/inexistent.ftl", null);
+        Template template = processor.sharedConfiguration().getTemplate(TEMPLATE);
+
+        // Then
+        assertThat(other.sharedConfiguration(), sameInstance(processor.sharedConfiguration()));
+        assertThat(other.sharedConfiguration().getTemplate(TEMPLATE), sameInstance(template));
+        assertThat(new FreemarkerProcessor(FreemarkerProcessorBehaviour.class).sharedConfiguration(),
+                not(sameInstance(processor.sharedConfiguration())));
+        assertThat(new FreemarkerProcessor() {
+        }.sharedConfiguration(), not(sameInstance(processor.sharedConfiguration())));
+    }
+
+    @Test
+    public void shouldNotExposeSharedConfiguration() {
+        // Given
+        FreemarkerProcessor processor = new FreemarkerProcessor();
+
+        // When
+        Configuration configuration = processor.configuration();
+
+        // Then
+        assertThat(configuration, not(sameInstance(processor.sharedConfiguration())));
+        assertThat(configuration, not(sameInstance(processor.configuration())));
+    }
+
+    @Test
+    public void shouldCollectRenderTimingsOfTemplatesByProcessor() {
+        // Given
+        FreemarkerProcessor processor = new FreemarkerProcessor();
+        FreemarkerProcessor other = new FreemarkerProcessor();
+        Map<String, Object> dataModel = new HashMap<String, Object>();
+        dataModel.put("body", "a body");
+
+        // When
+        StringWriter writer = new StringWriter();
+        processor.process(TEMPLATE, dataModel, writer);
+        processor.process(TEMPLATE, dataModel, writer);
+        other.process(TEMPLATE, dataModel, new StringWriter());
+        Map<String, RenderTiming> timings = processor.collectRenderTimings();
+
+        // Then
+        assertThat(writer.toString(), equalTo("a bodya body"));
+        assertThat(timings.get(TEMPLATE).getRenders(), equalTo(2L));
+        assertThat(processor.collectRenderTimings().isEmpty(), equalTo(true));
+        assertThat(other.collectRenderTimings().get(TEMPLATE).getRenders(), equalTo(1L));
+    }
+
+}
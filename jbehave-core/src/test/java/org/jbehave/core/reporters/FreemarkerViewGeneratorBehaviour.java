@@ -1,21 +1,33 @@
 package org.jbehave.core.reporters;
 
 import org.jbehave.core.reporters.TemplateableViewGenerator.Report;
+import org.jbehave.core.reporters.TemplateableViewGenerator.ReportBody;
 import org.jbehave.core.reporters.TemplateableViewGenerator.ReportCreationFailed;
 import org.jbehave.core.reporters.TemplateableViewGenerator.Reports;
 import org.jbehave.core.reporters.TemplateableViewGenerator.TimeFormatter;
+import org.apache.commons.io.FileUtils;
+import org.jbehave.core.io.UnderscoredToCapitalized;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -96,6 +108,169 @@ public class FreemarkerViewGeneratorBehaviour {
 
     }
 
+    @Test
+    public void shouldDecorateOnlyReportsModifiedSinceLastDecoratedIfIncremental() throws IOException {
+        // Given
+        File outputDirectory = new File("target/incremental-reports");
+        FileUtils.deleteDirectory(outputDirectory);
+        File report = new File(outputDirectory, "report.txt");
+        FileUtils.writeStringToFile(report, "first run");
+        FreemarkerViewGenerator generator = new FreemarkerViewGenerator();
+        Properties viewProperties = new Properties();
+        viewProperties.setProperty("incremental", "true");
+        generator.generateReportsView(outputDirectory, asList("txt"), viewProperties);
+        File decorated = new File(outputDirectory, "view/report.txt.html");
+        assertThat(FileUtils.readFileToString(decorated), containsString("first run"));
+
+        // When
+        FileUtils.writeStringToFile(report, "second run");
+        report.setLastModified(decorated.lastModified() - 10000);
+        generator.generateReportsView(outputDirectory, asList("txt"), viewProperties);
+
+        // Then
+        assertThat(FileUtils.readFileToString(decorated), containsString("first run"));
+
+        // When
+        report.setLastModified(decorated.lastModified() + 10000);
+        generator.generateReportsView(outputDirectory, asList("txt"), viewProperties);
+
+        // Then
+        assertThat(FileUtils.readFileToString(decorated), containsString("second run"));
+
+        // When
+        FileUtils.writeStringToFile(report, "third run");
+        report.setLastModified(decorated.lastModified() - 10000);
+        generator.generateReportsView(outputDirectory, asList("txt"), new Properties());
+
+        // Then
+        assertThat(FileUtils.readFileToString(decorated), containsString("third run"));
+    }
+
+    @Test
+    public void shouldDecorateReportsStreamingTheirBody() throws IOException {
+        // Given
+        File outputDirectory = new File("target/streamed-reports");
+        FileUtils.deleteDirectory(outputDirectory);
+        FileUtils.writeStringToFile(new File(outputDirectory, "streamed.xml"), "<story>streamed</story>");
+        FileUtils.writeStringToFile(new File(outputDirectory, "streamed.txt"), "Given a step");
+        FileUtils.writeStringToFile(new File(outputDirectory, "escaped.txt"), "Given a </script> & \"quotes\"");
+        final List<Object> bodies = new ArrayList<Object>();
+        TemplateProcessor processor = new FreemarkerProcessor() {
+            @Override
+            public void process(String resource, Map<String, Object> dataModel, Writer writer) {
+                if (dataModel.containsKey("body")) {
+                    bodies.add(dataModel.get("body"));
+                }
+                super.process(resource, dataModel, writer);
+            }
+        };
+
+        // When
+        TemplateableViewGenerator generator = new TemplateableViewGenerator(new UnderscoredToCapitalized(),
+                processor);
+        Properties viewProperties = new FreemarkerViewGenerator().defaultViewProperties();
+        viewProperties.setProperty("encoding", "UTF-16");
+        generator.generateReportsView(outputDirectory, asList("xml", "txt"), viewProperties);
+
+        // Then
+        String xml = FileUtils.readFileToString(new File(outputDirectory, "view/streamed.xml.html"), "UTF-16");
+        assertThat(xml, containsString("<![CDATA["));
+        assertThat(xml, containsString("<story>streamed</story>"));
+        assertThat(xml, containsString("</html>"));
+        assertThat(xml, not(containsString(ReportBody.MARKER)));
+        String txt = FileUtils.readFileToString(new File(outputDirectory, "view/streamed.txt.html"), "UTF-16");
+        assertThat(txt, containsString("Given a step"));
+        String escaped = FileUtils.readFileToString(new File(outputDirectory, "view/escaped.txt.html"), "UTF-16");
+        assertThat(escaped, containsString("Given a &lt;/script&gt; &amp; &quot;quotes&quot;"));
+        assertThat(escaped, containsString("charset=UTF-16"));
+        for (Object body : bodies) {
+            assertThat(body, instanceOf(ReportBody.class));
+        }
+    }
+
+    @Test
+    public void shouldDecorateReportsWithTheirBodyLoadedUnlessStreamingIsEnabled() throws IOException {
+        // Given
+        File outputDirectory = new File("target/loaded-reports");
+        FileUtils.deleteDirectory(outputDirectory);
+        FileUtils.writeStringToFile(new File(outputDirectory, "loaded.txt"), "Given a step");
+        final List<Object> bodies = new ArrayList<Object>();
+        TemplateProcessor processor = new FreemarkerProcessor() {
+            @Override
+            public void process(String resource, Map<String, Object> dataModel, Writer writer) {
+                if (dataModel.containsKey("body")) {
+                    bodies.add(dataModel.get("body"));
+                }
+                super.process(resource, dataModel, writer);
+            }
+        };
+
+        // When
+        TemplateableViewGenerator generator = new TemplateableViewGenerator(new UnderscoredToCapitalized(),
+                processor);
+        Properties viewProperties = new FreemarkerViewGenerator().defaultViewProperties();
+        viewProperties.setProperty("streamBody", "false");
+        generator.generateReportsView(outputDirectory, asList("txt"), viewProperties);
+
+        // Then
+        assertThat(bodies, equalTo(asList((Object) "Given a step")));
+        String txt = FileUtils.readFileToString(new File(outputDirectory, "view/loaded.txt.html"));
+        assertThat(txt, containsString("Given a step"));
+    }
+
+    @Test
+    public void shouldDecorateReportsInParallelOnlyWithThreadSafeProcessorByDefault() {
+        TemplateProcessor processor = mock(TemplateProcessor.class);
+        TemplateableViewGenerator generator = new TemplateableViewGenerator(new UnderscoredToCapitalized(),
+                processor);
+        assertThat(generator.defaultViewProperties().getProperty("threads"), equalTo("1"));
+        assertThat(new FreemarkerViewGenerator().defaultViewProperties().getProperty("threads"),
+                equalTo(String.valueOf(Runtime.getRuntime().availableProcessors())));
+    }
+
+    @Test
+    public void shouldFindTextInReportBodyAcrossReads() throws IOException {
+        // Given
+        File file = new File("target/report-body.txt");
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 8190; i++) {
+            body.append('a');
+        }
+        FileUtils.writeStringToFile(file, body.append("</script>").toString());
+
+        // Then
+        assertThat(new ReportBody(file).contains("</script>"), equalTo(true));
+        assertThat(new ReportBody(file).contains("</style>"), equalTo(false));
+        assertThat(new ReportBody(file).toString(), equalTo(ReportBody.MARKER));
+    }
+
+    @Test
+    public void shouldCountEventsCollectedInMemory() throws IOException {
+        // Given
+        File outputDirectory = new File("target/collected-reports");
+        FileUtils.deleteDirectory(outputDirectory);
+        File statsFile = new File(outputDirectory, "story.stats");
+        FileUtils.writeStringToFile(statsFile, "scenarios=0");
+        Map<String, Map<String, Integer>> collected = new ConcurrentHashMap<String, Map<String, Integer>>();
+        PostStoryStatisticsCollector collector = new PostStoryStatisticsCollector(
+                new PrintStream(new ByteArrayOutputStream()), statsFile, collected);
+        collector.beforeStory(null, false);
+        collector.beforeScenario("a scenario");
+        collector.afterScenario();
+        collector.afterStory(false);
+        Properties viewProperties = new Properties();
+        viewProperties.setProperty("threads", "2");
+
+        // When
+        FreemarkerViewGenerator generator = new FreemarkerViewGenerator();
+        generator.useCollectedStatistics(collected);
+        generator.generateReportsView(outputDirectory, asList("stats"), viewProperties);
+
+        // Then
+        assertThat(generator.getReportsCount().getScenarios(), equalTo(1));
+        assertThat(collected.isEmpty(), equalTo(true));
+    }
+
     @Test
     public void shouldFormatTimeDurantionInMillis() {
         long s = 1000;
@@ -13,9 +13,12 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.OutputStream;
 import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
 
 import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -95,6 +98,23 @@ public class PostStoryStatisticsCollectorBehaviour {
         assertThat(statistics, containsString("scenariosNotAllowed=1"));
     }
 
+    @Test
+    public void shouldKeepCollectedStatisticsInMemoryForStatsFile() {
+        // Given
+        File statsFile = new File("target/stats/path.to.story.stats");
+        Map<String, Map<String, Integer>> collected = new HashMap<String, Map<String, Integer>>();
+        reporter = new PostStoryStatisticsCollector(printStream, statsFile, collected);
+
+        // When
+        narrateAnInterestingStory();
+        Map<String, Integer> statistics = collected.get(statsFile.getAbsolutePath());
+
+        // Then
+        assertThat(statistics.get("scenarios"), equalTo(3));
+        assertThat(statistics.get("stepsFailed"), equalTo(1));
+        assertThat(statistics.containsKey("currentScenarioSteps"), equalTo(false));
+    }
+
     @Test
     public void shouldNotCountFailedScenariosIfExceptionsAreNull() {
         // Given
@@ -1,5 +1,6 @@
 package org.jbehave.core.reporters;
 
+import org.apache.commons.io.FileUtils;
 import org.jbehave.core.configuration.Keywords;
 import org.jbehave.core.failures.UUIDExceptionWrapper;
 import org.jbehave.core.i18n.LocalizedKeywords;
@@ -13,6 +14,7 @@ import org.jbehave.core.reporters.FilePrintStreamFactory.ResolveToSimpleName;
 import org.junit.Test;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.PrintStream;
@@ -122,6 +124,27 @@ public class StoryReporterBuilderBehaviour {
 
     }
 
+    @Test
+    public void shouldBuildWithAsyncWritingOfFileReports() throws IOException {
+        // Given
+        String storyPath = storyPath(MyStory.class);
+        StoryReporterBuilder builder = new StoryReporterBuilder().withFormats(TXT).withAsyncWriting(true)
+                .withMultiThreading(false);
+
+        // When
+        StoryReporter reporter = builder.build(storyPath);
+        reporter.beforeStep("Given a step");
+        reporter.successful("Given a step");
+        reporter.afterStory(false);
+        builder.awaitReportsWritten();
+
+        // Then
+        assertThat(builder.asyncWriting(), is(true));
+        FilePrintStreamFactory factory = builder.filePrintStreamFactory(storyPath);
+        factory.useConfiguration(builder.fileConfiguration("txt"));
+        assertThat(FileUtils.readFileToString(factory.getOutputFile()), equalTo("Given a step\n\n"));
+    }
+
     @Test
     public void shouldBuildWithCustomViewResources() throws IOException {
         // Given
@@ -20,7 +20,9 @@ import org.jbehave.core.steps.AbstractStepResult.Ignorable;
 import org.jbehave.core.steps.StepCollector.Stage;
 import org.jbehave.core.steps.StepCreator.PendingStep;
 import org.jbehave.core.steps.StepFinder.ByLevenshteinDistance;
+import org.jbehave.core.steps.StepFinder.PrioritisingStrategy;
 import org.junit.Test;
+import org.mockito.Mockito;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -457,6 +459,81 @@ public class MarkUnmatchedStepsAsPendingBehaviour {
         assertThat(step4, equalTo(steps.get(0)));
     }
 
+    @Test
+    public void shouldCacheMatchedStepsWhenEnabled() {
+        // Given
+        StepCandidate candidate = mock(StepCandidate.class);
+        Step executableStep = mock(Step.class);
+        String stepAsString = "my step";
+        String unmatchedStep = "my unmatched step";
+        when(candidate.matches(stepAsString)).thenReturn(true);
+        when(candidate.createMatchedStep(stepAsString, parameters)).thenReturn(executableStep);
+        List<CandidateSteps> steps = mockCandidateSteps(candidate);
+        PrioritisingStrategy strategy = mock(PrioritisingStrategy.class);
+        when(strategy.prioritise(Mockito.anyString(), Mockito.<StepCandidate>anyList())).thenReturn(asList(candidate));
+        StepMonitor monitor = mock(StepMonitor.class);
+        MarkUnmatchedStepsAsPending stepCollector = new MarkUnmatchedStepsAsPending(new StepFinder(strategy))
+                .doCacheMatchedSteps(true);
+
+        // When
+        List<Step> firstSteps = stepCollector.collectScenarioSteps(steps, createScenario(stepAsString, unmatchedStep),
+                parameters, monitor);
+        List<Step> secondSteps = stepCollector.collectScenarioSteps(steps, createScenario(stepAsString, unmatchedStep),
+                parameters, monitor);
+
+        // Then
+        assertThat(firstSteps.get(0), equalTo(executableStep));
+        assertThat(secondSteps.get(0), equalTo(executableStep));
+        assertThat(firstSteps.get(1), instanceOf(PendingStep.class));
+        assertThat(secondSteps.get(1), instanceOf(PendingStep.class));
+        verify(strategy, times(1)).prioritise(Mockito.eq(stepAsString), Mockito.<StepCandidate>anyList());
+        verify(strategy, times(1)).prioritise(Mockito.eq(unmatchedStep), Mockito.<StepCandidate>anyList());
+        verify(monitor).cachedStepMatch(stepAsString, false, 0, 1);
+        verify(monitor).cachedStepMatch(unmatchedStep, false, 0, 2);
+        verify(monitor).cachedStepMatch(stepAsString, true, 1, 2);
+        verify(monitor).cachedStepMatch(unmatchedStep, true, 2, 2);
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyMatchedStepsFromCache() {
+        // Given
+        StepCandidate candidate = mock(StepCandidate.class);
+        List<CandidateSteps> steps = mockCandidateSteps(candidate);
+        PrioritisingStrategy strategy = mock(PrioritisingStrategy.class);
+        when(strategy.prioritise(Mockito.anyString(), Mockito.<StepCandidate>anyList())).thenReturn(asList(candidate));
+        MarkUnmatchedStepsAsPending stepCollector = new MarkUnmatchedStepsAsPending(new StepFinder(strategy))
+                .doCacheMatchedSteps(true).useMatchedStepsCacheSize(1);
+
+        // When
+        stepCollector.collectScenarioSteps(steps, createScenario("step 1", "step 2", "step 1"), parameters);
+
+        // Then
+        verify(strategy, times(2)).prioritise(Mockito.eq("step 1"), Mockito.<StepCandidate>anyList());
+        verify(strategy, times(1)).prioritise(Mockito.eq("step 2"), Mockito.<StepCandidate>anyList());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyMatchedStepsFromCacheUntilATenthIsFree() {
+        // Given
+        StepCandidate candidate = mock(StepCandidate.class);
+        List<CandidateSteps> steps = mockCandidateSteps(candidate);
+        PrioritisingStrategy strategy = mock(PrioritisingStrategy.class);
+        when(strategy.prioritise(Mockito.anyString(), Mockito.<StepCandidate>anyList())).thenReturn(asList(candidate));
+        MarkUnmatchedStepsAsPending stepCollector = new MarkUnmatchedStepsAsPending(new StepFinder(strategy))
+                .doCacheMatchedSteps(true).useMatchedStepsCacheSize(10);
+
+        // When
+        stepCollector.collectScenarioSteps(steps, createScenario("Given step 0", "Given step 1", "Given step 2",
+                "Given step 3", "Given step 4", "Given step 5", "Given step 6", "Given step 7", "Given step 8",
+                "Given step 9", "Given step 1", "Given step 10", "Given step 1", "Given step 2", "Given step 3"),
+                parameters);
+
+        // Then
+        verify(strategy, times(1)).prioritise(Mockito.eq("Given step 1"), Mockito.<StepCandidate>anyList());
+        verify(strategy, times(2)).prioritise(Mockito.eq("Given step 2"), Mockito.<StepCandidate>anyList());
+        verify(strategy, times(1)).prioritise(Mockito.eq("Given step 3"), Mockito.<StepCandidate>anyList());
+    }
+
     @Test
     public void afterScenarioStepsShouldBeInReverseOrder() throws Throwable {
         List<CandidateSteps> steps = new ArrayList<CandidateSteps>();
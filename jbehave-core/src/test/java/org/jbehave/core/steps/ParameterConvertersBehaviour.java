@@ -29,6 +29,7 @@ import java.text.DecimalFormatSymbols;
 import java.text.NumberFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
@@ -43,8 +44,12 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class ParameterConvertersBehaviour {
 
@@ -243,6 +248,32 @@ public class ParameterConvertersBehaviour {
         assertThat((Double) converter.convertValue("-" + INFINITY, Double.class), equalTo(Double.NEGATIVE_INFINITY));
     }
 
+    @Test
+    public void shouldConvertPlainLiteralsToTheSameNumbersAsTheNumberFormat() {
+        ParameterConverter converter = new NumberConverter();
+        assertThat((Integer) converter.convertValue("42", Integer.class), equalTo(42));
+        assertThat((Integer) converter.convertValue("-42", int.class), equalTo(-42));
+        assertThat((Integer) converter.convertValue("4.9", Integer.class), equalTo(4));
+        assertThat((Byte) converter.convertValue("300", Byte.class), equalTo((byte) 44));
+        assertThat((Long) converter.convertValue("123456789012345678", Long.class), equalTo(123456789012345678L));
+        assertThat((Long) converter.convertValue("1234567890123456789", Long.class), equalTo(1234567890123456789L));
+        assertThat((Double) converter.convertValue("-0", Double.class), equalTo(-0.0d));
+        assertThat((Double) converter.convertValue("100000.01", Double.class), equalTo(100000.01d));
+        assertThat((Float) converter.convertValue("-1.25", Float.class), equalTo(-1.25f));
+        assertThat((BigInteger) converter.convertValue("42", BigInteger.class), equalTo(BigInteger.valueOf(42)));
+        assertThat((Number) converter.convertValue("42", Number.class), equalTo((Number) 42L));
+        ParameterConverter germanConverter = new NumberConverter(NumberFormat.getInstance(Locale.GERMAN));
+        assertThat((Double) germanConverter.convertValue("1.5", Double.class), equalTo(15d));
+        ParameterConverter percentConverter = new NumberConverter(NumberFormat.getPercentInstance(Locale.ENGLISH));
+        assertThat((Double) percentConverter.convertValue("50%", Double.class), equalTo(0.5d));
+        try {
+            percentConverter.convertValue("50", Double.class);
+            fail("Exception was not thrown");
+        } catch (ParameterConvertionFailed e) {
+            assertThat(e.getCause(), instanceOf(ParseException.class));
+        }
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     public void shouldConvertCommaSeparatedValuesToListOfNumbersWithDefaultFormat() throws ParseException, IntrospectionException {
@@ -359,6 +390,42 @@ public class ParameterConvertersBehaviour {
         assertThat((Date) converter.convertValue(date, type), equalTo(customFormat.parse(date)));
     }
 
+    @Test
+    public void shouldConvertDatesWithDefaultFormatInMultipleThreads() throws Exception {
+        final ParameterConverter converter = new DateConverter();
+        final Type type = SomeSteps.methodFor("aMethodWithDate").getGenericParameterTypes()[0];
+        final BlockingQueue<Object> queue = new ArrayBlockingQueue<Object>(300);
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int t = 0; t < 3; t++) {
+            final int year = 2010 + t;
+            threads.add(new Thread() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < 100; i++) {
+                        String date = "01/01/" + year;
+                        try {
+                            Date expected = new SimpleDateFormat("dd/MM/yyyy").parse(date);
+                            queue.add(expected.equals(converter.convertValue(date, type)) ? date : "wrong " + date);
+                        } catch (Throwable e) {
+                            queue.add(e);
+                        }
+                    }
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(queue.size(), equalTo(300));
+        for (Object converted : queue) {
+            assertThat(converted, instanceOf(String.class));
+            assertThat((String) converted, startsWith("01/01/"));
+        }
+    }
+
     @Test(expected = ParameterConvertionFailed.class)
     public void shouldFailToConvertDateWithInvalidFormat() throws ParseException, IntrospectionException {
         Type type = SomeSteps.methodFor("aMethodWithDate").getGenericParameterTypes()[0];
@@ -531,6 +598,40 @@ public class ParameterConvertersBehaviour {
         ensureItStillDoesNotKnowHowToConvertFooToBar(original);
     }
 
+    @Test
+    public void shouldResolveConverterOfTypeOnlyOnceUntilConvertersAreAdded() {
+        ParameterConverter converter = mock(ParameterConverter.class);
+        when(converter.accept(Bar.class)).thenReturn(true);
+        when(converter.convertValue("foo", Bar.class)).thenReturn("bar");
+        ParameterConverters converters = new ParameterConverters().addConverters(converter);
+
+        assertThat((String) converters.convert("foo", Bar.class), equalTo("bar"));
+        assertThat((String) converters.convert("foo", Bar.class), equalTo("bar"));
+        verify(converter, times(1)).accept(Bar.class);
+
+        ParameterConverter addedConverter = mock(ParameterConverter.class);
+        when(addedConverter.accept(Bar.class)).thenReturn(true);
+        when(addedConverter.convertValue("foo", Bar.class)).thenReturn("other bar");
+        converters.addConverters(addedConverter);
+
+        assertThat((String) converters.convert("foo", Bar.class), equalTo("other bar"));
+    }
+
+    @Test
+    public void shouldReportConverterCacheHitsAndMissesToMonitor() {
+        ParameterConverter converter = mock(ParameterConverter.class);
+        when(converter.accept(Bar.class)).thenReturn(true);
+        when(converter.convertValue("foo", Bar.class)).thenReturn("bar");
+        StepMonitor monitor = mock(StepMonitor.class);
+        ParameterConverters converters = new ParameterConverters(monitor).addConverters(converter);
+
+        converters.convert("foo", Bar.class);
+        converters.convert("foo", Bar.class);
+
+        verify(monitor).convertedValueOfType("foo", Bar.class, "bar", converter.getClass(), false, 0, 1);
+        verify(monitor).convertedValueOfType("foo", Bar.class, "bar", converter.getClass(), true, 1, 1);
+    }
+
     private void ensureItStillDoesNotKnowHowToConvertFooToBar(ParameterConverters original) {
         original.convert("foo", Bar.class);
     }
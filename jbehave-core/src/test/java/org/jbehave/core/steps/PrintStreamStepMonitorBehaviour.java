@@ -21,11 +21,13 @@ public class PrintStreamStepMonitorBehaviour {
         monitor.performing("a step", false);
         monitor.foundParameter("parameter", 0);
         monitor.usingStepsContextParameter("fromContext");
+        monitor.cachedStepMatch("a cached step", true, 1, 2);
 
         // Then
         assertThat(out.toString(), containsString("Performing step 'a step'"));
         assertThat(out.toString(), containsString("Found parameter 'parameter' for position 0"));
         assertThat(out.toString(), containsString("Found parameter 'fromContext' from Steps Context"));
+        assertThat(out.toString(), containsString("Step 'a cached step' hit cache of matched steps (1 hits, 2 misses)"));
     }
 
 
@@ -2,6 +2,7 @@ package org.jbehave.core.steps;
 
 import com.thoughtworks.paranamer.BytecodeReadingParanamer;
 import com.thoughtworks.paranamer.CachingParanamer;
+import com.thoughtworks.paranamer.Paranamer;
 import org.jbehave.core.annotations.AfterScenario;
 import org.jbehave.core.configuration.Keywords;
 import org.jbehave.core.configuration.MostUsefulConfiguration;
@@ -9,6 +10,7 @@ import org.jbehave.core.failures.BeforeOrAfterFailed;
 import org.jbehave.core.failures.UUIDExceptionWrapper;
 import org.jbehave.core.model.Meta;
 import org.jbehave.core.parsers.RegexStepMatcher;
+import org.jbehave.core.parsers.StepMatchResult;
 import org.jbehave.core.parsers.StepMatcher;
 import org.jbehave.core.reporters.StoryReporter;
 import org.jbehave.core.steps.AbstractStepResult.Comment;
@@ -40,11 +42,13 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.jbehave.core.steps.StepCreator.PARAMETER_VALUE_END;
 import static org.jbehave.core.steps.StepCreator.PARAMETER_VALUE_START;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -146,11 +150,34 @@ public class StepCreatorBehaviour {
 
         // When
         when(stepMatcher.parameterNames()).thenReturn(new String[]{});
-        stepCreator.matchedParameter("unknown");
+        stepCreator.matchedParameter(StepMatchResult.NOT_FOUND, "unknown");
 
         // Then .. fail as expected
     }
 
+    @Test
+    public void shouldFindMatchOfAnyStepMatcherFromItsParameters() {
+        // Given
+        SomeSteps stepsInstance = new SomeSteps();
+        StepMatcher stepMatcher = mock(StepMatcher.class);
+        StepCreator stepCreator = stepCreatorUsing(stepsInstance, stepMatcher, new ParameterControls());
+        when(stepMatcher.find("a house with 3 doors and 2 windows")).thenReturn(true);
+        when(stepMatcher.parameterNames()).thenReturn(new String[]{"doors", "windows"});
+        when(stepMatcher.parameter(1)).thenReturn("3");
+        when(stepMatcher.parameter(2)).thenReturn("2");
+
+        // When
+        StepMatchResult match = stepCreator.findMatch("a house with 3 doors and 2 windows");
+
+        // Then
+        assertThat(match.found(), is(true));
+        assertThat(match.parameterCount(), equalTo(2));
+        assertThat(match.parameter(0), nullValue());
+        assertThat(match.parameter(1), equalTo("3"));
+        assertThat(match.parameter(2), equalTo("2"));
+        assertThat(stepCreator.findMatch("a shed"), is(StepMatchResult.NOT_FOUND));
+    }
+
     @Test
     public void shouldCreatePendingAsStepResults() throws IntrospectionException {
         // When
@@ -233,6 +260,7 @@ public class StepCreatorBehaviour {
 
         // When
         when(stepMatcher.parameterNames()).thenReturn(parameters.keySet().toArray(new String[parameters.size()]));
+        when(stepMatcher.find("I use parameters <theme> and <variant>")).thenReturn(true);
         when(stepMatcher.parameter(1)).thenReturn(parameters.get(firstParameterValue));
         when(stepMatcher.parameter(2)).thenReturn(parameters.get(secondParameterValue));
         StepResult stepResult = stepCreator.createParametrisedStep(SomeSteps.methodFor("aMethodWithANamedParameter"),
@@ -289,6 +317,38 @@ public class StepCreatorBehaviour {
         assertThat((String) stepsInstance.args, is("shopping cart"));
     }
 
+    @Test
+    public void shouldLookUpParameterNamesOnlyOnceForEachMethodUntilParanamerIsChanged() throws Exception {
+        // Given
+        SomeSteps stepsInstance = new SomeSteps();
+        StepCreator stepCreator = stepCreatorUsing(stepsInstance, mock(StepMatcher.class), new ParameterControls());
+        Method method = SomeSteps.methodFor("aMethodWithoutNamedAnnotation");
+        Paranamer paranamer = mock(Paranamer.class);
+        when(paranamer.lookupParameterNames(method, false)).thenReturn(new String[]{"theme"});
+        stepCreator.useParanamer(paranamer);
+        Properties properties = new Properties();
+        properties.put("theme", "shopping cart");
+        properties.put("variant", "book");
+
+        // When
+        stepCreator.createBeforeOrAfterStep(method, new Meta(properties)).perform(null);
+        stepCreator.createBeforeOrAfterStep(method, new Meta(properties)).perform(null);
+
+        // Then
+        verify(paranamer, times(1)).lookupParameterNames(method, false);
+        assertThat((String) stepsInstance.args, is("shopping cart"));
+
+        // When
+        Paranamer otherParanamer = mock(Paranamer.class);
+        when(otherParanamer.lookupParameterNames(method, false)).thenReturn(new String[]{"variant"});
+        stepCreator.useParanamer(otherParanamer);
+        stepCreator.createBeforeOrAfterStep(method, new Meta(properties)).perform(null);
+
+        // Then
+        verify(otherParanamer, times(1)).lookupParameterNames(method, false);
+        assertThat((String) stepsInstance.args, is("book"));
+    }
+
     @Test
     public void shouldHandleFailureInBeforeOrAfterStepWithMeta() throws Exception {
         // Given
@@ -472,6 +532,7 @@ public class StepCreatorBehaviour {
         StepCreator stepCreator = stepCreatorUsing(stepsInstance, stepMatcher, parameterControls);
         Map<String, String> params = Collections.singletonMap("param", "value");
         when(stepMatcher.parameterNames()).thenReturn(params.keySet().toArray(new String[params.size()]));
+        when(stepMatcher.find("a parameter <param> is set")).thenReturn(true);
         when(stepMatcher.parameter(1)).thenReturn("<param>");
 
         // When
@@ -498,6 +559,7 @@ public class StepCreatorBehaviour {
         params.put("t", "distinct theme");
         params.put("v", "distinct variant");
         when(stepMatcher.parameterNames()).thenReturn(params.keySet().toArray(new String[params.size()]));
+        when(stepMatcher.find("I use parameters <t> and <v>")).thenReturn(true);
         when(stepMatcher.parameter(1)).thenReturn("<t>");
         when(stepMatcher.parameter(2)).thenReturn("<v>");
 
@@ -528,6 +590,7 @@ public class StepCreatorBehaviour {
         params.put("theme", "a theme");
         params.put("variant", "a variant");
         when(stepMatcher.parameterNames()).thenReturn(params.keySet().toArray(new String[params.size()]));
+        when(stepMatcher.find("I use parameters <t> and <v>")).thenReturn(true);
         when(stepMatcher.parameter(1)).thenReturn("<t>");
         when(stepMatcher.parameter(2)).thenReturn("<v>");
 
@@ -4,12 +4,15 @@ import org.jbehave.core.annotations.Given;
 import org.jbehave.core.annotations.Then;
 import org.jbehave.core.annotations.When;
 import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.steps.StepFinder.ByLevenshteinDistance;
+import org.jbehave.core.steps.StepFinder.ByLevenshteinDistance.LevenshteinDistance;
 import org.junit.Test;
 
 import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.jbehave.core.steps.StepType.GIVEN;
@@ -31,6 +34,59 @@ public class StepFinderBehaviour {
         assertThatStepdocIs(stepdocs.get(2), "thenFoo", "thenFoo(java.lang.String)", "foo named $name", "Then", THEN, mySteps);
     }
 
+    @Test
+    public void shouldFindCandidatesForStepUsingIndex() throws Exception {
+        StepFinder indexingFinder = new StepFinder().doIndexCandidates(true);
+        assertThat(indexingFinder.indexCandidates(), equalTo(true));
+        List<CandidateSteps> candidateSteps = new InstanceStepsFactory(new MostUsefulConfiguration(),
+                new MySteps(), new MoreSteps()).createCandidateSteps();
+        List<StepCandidate> candidates = indexingFinder.collectCandidates(candidateSteps);
+        assertThat(candidates.size(), equalTo(5));
+        assertThat(indexingFinder.candidatesFor("Given foo named Bar", candidateSteps, candidates).toString(),
+                equalTo("[GIVEN foo named $name, GIVEN $anything]"));
+        assertThat(indexingFinder.candidatesFor("When foo  named Bar", candidateSteps, candidates).toString(),
+                equalTo("[WHEN foo named $name]"));
+        List<StepCandidate> andCandidates = indexingFinder.candidatesFor("And bar", candidateSteps, candidates);
+        assertThat(andCandidates.size(), equalTo(2));
+        assertThat(andCandidates.toString(), allOf(containsString("GIVEN $anything"), containsString("THEN bar")));
+        assertThat(indexingFinder.candidatesFor("Then baz", candidateSteps, candidates).toString(),
+                equalTo("[]"));
+        assertThat(indexingFinder.candidatesFor("!-- baz", candidateSteps, candidates).size(), equalTo(5));
+        assertThat(finder.candidatesFor("Then baz", candidateSteps, candidates).size(), equalTo(5));
+    }
+
+    @Test
+    public void shouldPrioritiseOnlyMatchedCandidatesByLevenshteinDistance() throws Exception {
+        ByLevenshteinDistance strategy = new ByLevenshteinDistance().doRankMatchedOnly(true);
+        assertThat(strategy.rankMatchedOnly(), equalTo(true));
+        List<CandidateSteps> candidateSteps = new InstanceStepsFactory(new MostUsefulConfiguration(),
+                new MoreSteps(), new MySteps()).createCandidateSteps();
+        List<StepCandidate> candidates = finder.collectCandidates(candidateSteps);
+        List<StepCandidate> prioritised = strategy.prioritise("Given foo named Bar", candidates);
+        assertThat(prioritised.size(), equalTo(5));
+        assertThat(prioritised.subList(0, 2).toString(), equalTo("[GIVEN foo named $name, GIVEN $anything]"));
+    }
+
+    @Test
+    public void shouldRankAllMatchedCandidatesOfAndStepByLevenshteinDistance() throws Exception {
+        ByLevenshteinDistance strategy = new ByLevenshteinDistance().doRankMatchedOnly(true);
+        List<CandidateSteps> candidateSteps = new InstanceStepsFactory(new MostUsefulConfiguration(),
+                new MoreSteps(), new AndSteps()).createCandidateSteps();
+        List<StepCandidate> candidates = finder.collectCandidates(candidateSteps);
+        List<StepCandidate> prioritised = strategy.prioritise("And bar", candidates);
+        assertThat(prioritised.toString(), equalTo("[THEN bar, WHEN ba$suffix, GIVEN $anything]"));
+    }
+
+    @Test
+    public void shouldCalculateLevenshteinDistance() throws Exception {
+        LevenshteinDistance ld = new LevenshteinDistance("kitten");
+        assertThat(ld.calculate("sitting"), equalTo(3));
+        assertThat(ld.calculate("kitten"), equalTo(0));
+        assertThat(ld.calculate(""), equalTo(6));
+        assertThat(ld.calculate("kitten in the garden"), equalTo(14));
+        assertThat(new LevenshteinDistance("").calculate("sitting"), equalTo(7));
+    }
+
     private void assertThatStepdocIs(Stepdoc stepdoc, String methodName, String methodSignature, String pattern, String startingWord, StepType stepType, Object stepsInstance) {
         assertThat(stepdoc.getMethod().getName(), equalTo(methodName));
         assertThat(stepdoc.toString(), containsString(methodName));
@@ -61,5 +117,25 @@ public class StepFinderBehaviour {
 
     }
 
+    static class MoreSteps {
+
+        @Given("$anything")
+        public void givenAnything(String anything) {
+        }
+
+        @Then("bar")
+        public void thenBar() {
+        }
+
+    }
+
+    static class AndSteps {
+
+        @When("ba$suffix")
+        public void whenBa(String suffix) {
+        }
+
+    }
+
 
 }
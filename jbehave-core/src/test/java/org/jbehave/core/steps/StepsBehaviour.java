@@ -68,6 +68,19 @@ public class StepsBehaviour {
         assertThat(steps.thens, equalTo(3));
     }
 
+    @Test
+    public void shouldCreateCandidateStepsOnlyOnce() {
+        SingleAliasSteps steps = new SingleAliasSteps();
+        List<StepCandidate> candidates = steps.listCandidates();
+        assertThat(steps.listCandidates(), Matchers.sameInstance(candidates));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldNotAllowCandidateStepsToBeModified() {
+        SingleAliasSteps steps = new SingleAliasSteps();
+        steps.listCandidates().clear();
+    }
+
     @Test
     public void shouldListCandidateStepsFromAnnotatedMethodsInPojo() {
         PojoSteps steps = new PojoSteps();